@@ -0,0 +1,51 @@
+package com.fitlife.benchmarks;
+
+import com.fitlife.DatabaseUtil;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * In-memory database for the benchmarks (-Dfitlife.db.mode=memory): the bundled schema and seed,
+ * plus extra synthetic accounts, so no MySQL server is needed.
+ * Must run before DatabaseUtil is first used in the JVM.
+ */
+final class BenchmarkDatabase {
+
+    private static boolean started;
+
+    private BenchmarkDatabase() {
+    }
+
+    // ✅ Create and seed the schema once per JVM (each JMH fork is its own JVM)
+    static synchronized void start(int users) throws SQLException {
+        if (started) return;
+        System.setProperty("fitlife.db.mode", "memory");
+
+        try (Connection conn = DatabaseUtil.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement ps = conn.prepareStatement(
+                    "INSERT INTO `Login` (`username`, `username_lower`, `password`, `type`) VALUES (?, ?, ?, 'member')")) {
+                for (int i = 0; i < users; i++) {
+                    ps.setString(1, username(i));
+                    ps.setString(2, username(i).toLowerCase());
+                    ps.setString(3, password(i));
+                    ps.addBatch();
+                    if (i % 1000 == 999) ps.executeBatch();
+                }
+                ps.executeBatch();
+            }
+            conn.commit();
+        }
+        started = true;
+    }
+
+    static String username(int i) {
+        return "Member" + i;
+    }
+
+    static String password(int i) {
+        return "Secret-" + i;
+    }
+}
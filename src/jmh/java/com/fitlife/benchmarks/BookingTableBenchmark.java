@@ -0,0 +1,63 @@
+package com.fitlife.benchmarks;
+
+import com.fitlife.BookingCellValues;
+import com.fitlife.model.Booking;
+import javafx.scene.control.TableColumn.CellDataFeatures;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-row cost of the bookings table: building a Booking from a result row,
+ * and the cell value factories a TableView calls for every visible cell.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookingTableBenchmark {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 6);
+
+    private int nextId;
+    private CellDataFeatures<Booking, String> cell;
+    private CellDataFeatures<Booking, LocalDate> dateCell;
+    private CellDataFeatures<Booking, Number> numberCell;
+
+    @Setup
+    public void setUp() {
+        Booking booking = new Booking(42, "Kamal Perera", "0771234567", "Monthly", "Morning Yoga",
+                START, 12, 9600);
+        cell = new CellDataFeatures<>(null, null, booking);
+        dateCell = new CellDataFeatures<>(null, null, booking);
+        numberCell = new CellDataFeatures<>(null, null, booking);
+    }
+
+    @Benchmark
+    public Booking construct() {
+        int id = ++nextId;
+        return new Booking(id, "Kamal Perera", "0771234567", "Monthly", "Morning Yoga", START, 12, 9600);
+    }
+
+    // ✅ One row's worth of derived cells (what scrolling a row into view costs)
+    @Benchmark
+    public void cellValueFactories(Blackhole bh) {
+        bh.consume(BookingCellValues.BOOKING_ID.call(cell).getValue());
+        bh.consume(BookingCellValues.START_DATE.call(dateCell).getValue());
+        bh.consume(BookingCellValues.SESSIONS.call(numberCell).getValue());
+        bh.consume(BookingCellValues.TOTAL_COST.call(numberCell).getValue());
+    }
+
+    @Benchmark
+    public void propertyColumns(Blackhole bh) {
+        Booking b = cell.getValue();
+        bh.consume(b.fullNameProperty().getValue());
+        bh.consume(b.contactProperty().getValue());
+        bh.consume(b.membershipProperty().getValue());
+        bh.consume(b.programProperty().getValue());
+    }
+}
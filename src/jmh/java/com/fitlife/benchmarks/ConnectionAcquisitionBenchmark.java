@@ -0,0 +1,50 @@
+package com.fitlife.benchmarks;
+
+import com.fitlife.DatabaseUtil;
+import com.fitlife.db.DatabaseBackend;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of getting a usable connection: borrowing from the pool versus opening one per call
+ * (what every screen did before the pool). Run with -t N to see contention on the pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConnectionAcquisitionBenchmark {
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        BenchmarkDatabase.start(0);
+        DatabaseUtil.getPool().warmUp();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        DatabaseUtil.shutdown();
+    }
+
+    @Benchmark
+    public boolean pooledBorrow() throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection()) {
+            return conn.getAutoCommit();
+        }
+    }
+
+    @Benchmark
+    public boolean driverManagerOpen() throws SQLException {
+        DatabaseBackend backend = DatabaseUtil.getBackend();
+        try (Connection conn = DriverManager.getConnection(backend.getDefaultUrl(), backend.getDefaultUser(),
+                backend.getDefaultPassword())) {
+            return conn.getAutoCommit();
+        }
+    }
+}
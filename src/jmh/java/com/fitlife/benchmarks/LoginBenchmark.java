@@ -0,0 +1,62 @@
+package com.fitlife.benchmarks;
+
+import com.fitlife.DatabaseUtil;
+import com.fitlife.model.Credential;
+import com.fitlife.repository.UserRepository;
+import com.fitlife.service.PasswordHasher;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Login account lookup (UserRepository.findCredential) through the connection pool,
+ * against an in-memory stand-in database seeded with {@code users} accounts,
+ * plus the PBKDF2 verify on its own (set -Dfitlife.auth.iterations to compare work factors).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoginBenchmark {
+
+    @Param({"10000"})
+    public int users;
+
+    private final UserRepository repository = new UserRepository();
+    private final PasswordHasher hasher = PasswordHasher.getInstance();
+    private String storedHash;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        BenchmarkDatabase.start(users);
+        storedHash = hasher.hash(BenchmarkDatabase.password(0));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        DatabaseUtil.shutdown();
+    }
+
+    @Benchmark
+    public Optional<Credential> knownUser() throws SQLException {
+        int i = ThreadLocalRandom.current().nextInt(users);
+        return repository.findCredential(BenchmarkDatabase.username(i).toUpperCase());
+    }
+
+    @Benchmark
+    public Optional<Credential> unknownUser() throws SQLException {
+        return repository.findCredential("nobody");
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public boolean verifyHash() {
+        return hasher.verify(BenchmarkDatabase.password(0), storedHash);
+    }
+}
@@ -0,0 +1,72 @@
+package com.fitlife.benchmarks;
+
+import com.fitlife.model.Program;
+import com.fitlife.service.ProgramSearchIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Program search over synthetic catalogs: the old linear Program.matchesSearch() scan
+ * against the inverted index used by ProgramCatalog.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProgramSearchBenchmark {
+
+    private static final String[] ACTIVITIES = {"Yoga", "Pilates", "Boxing", "Spin", "CrossFit", "Zumba",
+            "Strength", "Cardio", "HIIT", "Swimming", "Kickboxing", "Stretching", "Rowing", "Barre"};
+    private static final String[] LEVELS = {"Beginner", "Intermediate", "Advanced", "Morning", "Evening", "Express"};
+    private static final String[] TRAINERS = {"Nimal Perera", "Kasun Silva", "Dilani Fernando", "Ruwan Jayasinghe",
+            "Amaya Wickramasinghe", "Sahan Bandara", "Tharushi de Mel", "Chamara Gunawardena"};
+    private static final String[] WORDS = {"core", "endurance", "flexibility", "balance", "power", "recovery",
+            "mobility", "fat", "burn", "posture", "breathing", "interval", "circuit", "weights", "group"};
+
+    @Param({"10000", "100000"})
+    public int programs;
+
+    @Param({"yoga", "adv box", "sil", "nomatch"})
+    public String query;
+
+    private List<Program> catalog;
+    private ProgramSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        catalog = new ArrayList<>(programs);
+        for (int i = 0; i < programs; i++) {
+            String name = LEVELS[random.nextInt(LEVELS.length)] + " " + ACTIVITIES[random.nextInt(ACTIVITIES.length)] + " " + i;
+            StringBuilder description = new StringBuilder();
+            for (int w = 0; w < 8; w++) {
+                description.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+            }
+            catalog.add(new Program(String.valueOf(i + 1), name, 500 + random.nextInt(20) * 100,
+                    description.toString().trim(), TRAINERS[random.nextInt(TRAINERS.length)]));
+        }
+        index = new ProgramSearchIndex();
+        index.rebuild(catalog);
+    }
+
+    @Benchmark
+    @SuppressWarnings("deprecation")
+    public List<Program> linearScan() {
+        List<Program> matches = new ArrayList<>();
+        for (Program p : catalog) {
+            if (p.matchesSearch(query)) matches.add(p);
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public List<Program> indexedSearch() {
+        return index.search(query);
+    }
+}
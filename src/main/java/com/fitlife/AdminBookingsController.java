@@ -0,0 +1,254 @@
+package com.fitlife;
+
+import com.fitlife.db.KeysetPager;
+import com.fitlife.db.ScreenTasks;
+import com.fitlife.model.Booking;
+import com.fitlife.model.MemberBooking;
+import com.fitlife.repository.BookingRepository;
+import com.fitlife.repository.BookingSearch;
+import com.fitlife.repository.Page;
+import com.fitlife.service.BookingService;
+import com.fitlife.service.ProgramCatalog;
+import com.fitlife.service.RecordValidator;
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.fxml.FXML;
+import javafx.scene.control.*;
+import javafx.scene.layout.VBox;
+
+import java.sql.SQLException;
+import java.text.NumberFormat;
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Admin console over every member's bookings. Filtering, sorting and paging all happen in the
+ * database (see {@link BookingRepository#search}): the screen only ever holds one page, and the
+ * matching count and revenue arrive with the first page of each new filter.
+ */
+public class AdminBookingsController implements CachedView {
+
+    private static final String ALL = "All";
+
+    @FXML private VBox contentBox;
+    @FXML private ComboBox<String> programFilter;
+    @FXML private ComboBox<String> membershipFilter;
+    @FXML private DatePicker fromDate;
+    @FXML private DatePicker toDate;
+    @FXML private TextField nameField;
+    @FXML private ProgressIndicator loadingIndicator;
+    @FXML private Label countLabel;
+    @FXML private Label revenueLabel;
+    @FXML private Button deleteButton;
+
+    @FXML private TableView<MemberBooking> bookingTable;
+    @FXML private TableColumn<MemberBooking, String> colBookingId;
+    @FXML private TableColumn<MemberBooking, String> colMember;
+    @FXML private TableColumn<MemberBooking, String> colName;
+    @FXML private TableColumn<MemberBooking, String> colContact;
+    @FXML private TableColumn<MemberBooking, String> colMembership;
+    @FXML private TableColumn<MemberBooking, String> colProgram;
+    @FXML private TableColumn<MemberBooking, LocalDate> colStartDate;
+    @FXML private TableColumn<MemberBooking, Number> colSessions;
+    @FXML private TableColumn<MemberBooking, Number> colTotalCost;
+
+    @FXML private Button prevPageButton;
+    @FXML private Button nextPageButton;
+    @FXML private Label pageLabel;
+
+    private AdminDashboardController dashboardController;
+    private final ScreenTasks tasks = new ScreenTasks();
+    private final BookingRepository bookingRepository = new BookingRepository();
+    private final ProgramCatalog catalog = ProgramCatalog.getInstance();
+    private final BookingService bookingService = BookingService.getInstance();
+    private final NumberFormat amount = NumberFormat.getIntegerInstance();
+    private final ObservableList<MemberBooking> rows = FXCollections.observableArrayList();
+    private KeysetPager<MemberBooking> pager;
+    private SearchDebouncer searchDebouncer;
+
+    // Read by the page query on the background thread; replaced (never mutated) on the FX thread
+    private volatile BookingSearch search = BookingSearch.all();
+    private volatile boolean totalsStale = true;
+    private boolean resetting;
+
+    public void setDashboardController(AdminDashboardController controller) {
+        this.dashboardController = controller;
+    }
+
+    @FXML
+    public void initialize() {
+        tasks.bindTo(contentBox);
+        tasks.showWhileBusy(loadingIndicator);
+
+        colBookingId.setCellValueFactory(c -> c.getValue().booking().bookingIdProperty());
+        colMember.setCellValueFactory(c -> new ReadOnlyObjectWrapper<>(c.getValue().username()));
+        colName.setCellValueFactory(c -> c.getValue().booking().fullNameProperty());
+        colContact.setCellValueFactory(c -> c.getValue().booking().contactProperty());
+        colMembership.setCellValueFactory(c -> c.getValue().booking().membershipProperty());
+        colProgram.setCellValueFactory(c -> c.getValue().booking().programProperty());
+        colStartDate.setCellValueFactory(c -> c.getValue().booking().startDateProperty());
+        colSessions.setCellValueFactory(c -> c.getValue().booking().numSessionsProperty());
+        colTotalCost.setCellValueFactory(c -> c.getValue().booking().totalCostProperty());
+
+        // ✅ Header clicks re-query in the new order instead of sorting the page in memory
+        for (TableColumn<MemberBooking, ?> col : bookingTable.getColumns()) {
+            col.setSortable(sortOf(col) != null);
+        }
+        colBookingId.setSortType(TableColumn.SortType.DESCENDING);
+        bookingTable.getSortOrder().add(colBookingId);
+        bookingTable.setSortPolicy(t -> {
+            applySort();
+            return true;
+        });
+        bookingTable.setItems(rows);
+        bookingTable.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
+        deleteButton.disableProperty().bind(bookingTable.getSelectionModel().selectedItemProperty().isNull()
+                .or(tasks.busyProperty()));
+
+        programFilter.getItems().setAll(ALL);
+        programFilter.setValue(ALL);
+        membershipFilter.getItems().setAll(ALL);
+        membershipFilter.getItems().addAll(RecordValidator.MEMBERSHIP_TYPES);
+        membershipFilter.setValue(ALL);
+        programFilter.valueProperty().addListener((obs, o, n) -> applyFilter());
+        membershipFilter.valueProperty().addListener((obs, o, n) -> applyFilter());
+        fromDate.valueProperty().addListener((obs, o, n) -> applyFilter());
+        toDate.valueProperty().addListener((obs, o, n) -> applyFilter());
+        searchDebouncer = new SearchDebouncer(nameField, SearchDebouncer.DEFAULT_DELAY, query -> applyFilter());
+
+        pager = new KeysetPager<>(tasks, this::fetchPage, rows, KeysetPager.DEFAULT_PAGE_SIZE, this::failed);
+        pager.bindControls(prevPageButton, nextPageButton, pageLabel);
+
+        loadPrograms();
+        pager.first();
+    }
+
+    // --- Re-entering the cached screen: same filter, fresh rows and totals ---
+    @Override
+    public void onShow() {
+        loadPrograms();
+        totalsStale = true;
+        pager.reload();
+    }
+
+    private void loadPrograms() {
+        tasks.await(catalog.getProgramNames(), names -> {
+            String selected = programFilter.getValue();
+            resetting = true;
+            programFilter.getItems().setAll(ALL);
+            programFilter.getItems().addAll(names);
+            programFilter.setValue(names.contains(selected) ? selected : ALL);
+            resetting = false;
+            if (!ALL.equals(selected) && !names.contains(selected)) applyFilter(); // program was removed
+        }, this::failed);
+    }
+
+    // 🔹 Runs on the background thread: one statement for the page (and totals, when due)
+    private Page<MemberBooking> fetchPage(MemberBooking after, int limit) throws SQLException {
+        BookingSearch current = search;
+        BookingSearch.Result<MemberBooking> result = bookingRepository.search(current, after, limit, totalsStale);
+        if (result.totals() != null) Platform.runLater(() -> showTotals(current, result.totals()));
+        return result.page();
+    }
+
+    private void showTotals(BookingSearch from, BookingSearch.Totals totals) {
+        if (from != search) return; // the filter changed while this was loading
+        totalsStale = false;
+        countLabel.setText(amount.format(totals.bookings()) + " bookings");
+        revenueLabel.setText("Rs " + amount.format(totals.revenue()));
+    }
+
+    // ✅ Any filter change starts again from the first page, with new totals
+    private void applyFilter() {
+        if (resetting) return;
+        String name = nameField.getText() == null ? "" : nameField.getText().trim();
+        search = new BookingSearch(
+                valueOrNull(programFilter.getValue()),
+                valueOrNull(membershipFilter.getValue()),
+                fromDate.getValue(),
+                toDate.getValue(),
+                name.isEmpty() ? null : name,
+                search.sort(),
+                search.descending());
+        totalsStale = true;
+        restart();
+    }
+
+    // Only the order changed: the totals still stand
+    private void applySort() {
+        TableColumn<MemberBooking, ?> col = bookingTable.getSortOrder().isEmpty() ? null : bookingTable.getSortOrder().get(0);
+        BookingSearch.Sort sort = col == null ? BookingSearch.Sort.BOOKING_ID : sortOf(col);
+        boolean descending = col == null || col.getSortType() == TableColumn.SortType.DESCENDING;
+        if (sort == search.sort() && descending == search.descending()) return;
+        BookingSearch s = search;
+        search = new BookingSearch(s.program(), s.membership(), s.from(), s.to(), s.namePrefix(), sort, descending);
+        restart();
+    }
+
+    private void restart() {
+        tasks.cancelAll(); // a slower, older page must not land after this one
+        pager.first();
+    }
+
+    // Columns without an index to sort on are not sortable
+    private BookingSearch.Sort sortOf(TableColumn<MemberBooking, ?> col) {
+        if (col == colBookingId) return BookingSearch.Sort.BOOKING_ID;
+        if (col == colName) return BookingSearch.Sort.NAME;
+        if (col == colStartDate) return BookingSearch.Sort.START_DATE;
+        if (col == colTotalCost) return BookingSearch.Sort.TOTAL_COST;
+        return null;
+    }
+
+    private static String valueOrNull(String choice) {
+        return choice == null || ALL.equals(choice) ? null : choice;
+    }
+
+    @FXML
+    private void clearFilters() {
+        resetting = true;
+        programFilter.setValue(ALL);
+        membershipFilter.setValue(ALL);
+        fromDate.setValue(null);
+        toDate.setValue(null);
+        nameField.clear();
+        resetting = false;
+        searchDebouncer.rerun();
+    }
+
+    // --- Delete: same path as the member's own delete (seat handed on, rollups moved) ---
+    @FXML
+    private void deleteBooking() {
+        MemberBooking selected = bookingTable.getSelectionModel().getSelectedItem();
+        if (selected == null) return;
+        Booking booking = selected.booking();
+
+        Alert confirm = new Alert(Alert.AlertType.CONFIRMATION,
+                "Delete booking " + booking.getFormattedBookingId() + " of " + booking.getFullName() + "?",
+                ButtonType.YES, ButtonType.NO);
+        confirm.setHeaderText(null);
+        Optional<ButtonType> res = confirm.showAndWait();
+        if (res.isEmpty() || res.get() != ButtonType.YES) return;
+
+        int userId = selected.userId();
+        tasks.write(() -> bookingService.cancel(userId, booking.getId()), result -> {
+            totalsStale = true;
+            pager.reload();
+        }, this::failed);
+    }
+
+    private void failed(Throwable e) {
+        e.printStackTrace();
+        Alert alert = new Alert(Alert.AlertType.ERROR);
+        alert.setTitle("Database Error");
+        alert.setHeaderText(null);
+        alert.setContentText("Unable to load bookings.");
+        alert.showAndWait();
+    }
+
+    @FXML
+    private void goBack() {
+        if (dashboardController != null) dashboardController.showHome();
+    }
+}
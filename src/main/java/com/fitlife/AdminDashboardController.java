@@ -4,8 +4,6 @@ import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
-import javafx.scene.Node;
-import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
 import javafx.scene.control.ButtonBar;
@@ -13,6 +11,7 @@ import javafx.scene.control.ButtonType;
 import javafx.scene.control.DialogPane;
 import javafx.scene.layout.BorderPane;
 import javafx.stage.Stage;
+import javafx.stage.Window;
 
 import java.io.IOException;
 
@@ -56,6 +55,21 @@ public class AdminDashboardController {
         loadScreen("/manage_program.fxml", "program");
     }
 
+    // ✅ Called by DashboardHomeController when user clicks “Data Tools”
+    public void openDataTools() {
+        loadScreen("/data_tools.fxml", "data tools");
+    }
+
+    // ✅ Called by DashboardHomeController when user clicks “All Bookings”
+    public void openAllBookings() {
+        loadScreen("/admin_bookings.fxml", "all bookings");
+    }
+
+    // ✅ Called by DashboardHomeController when user clicks “Analytics”
+    public void openAnalytics() {
+        loadScreen("/admin_analytics.fxml", "analytics");
+    }
+
     // ✅ Reuse same home content (fix for duplicates)
     public void showHome() {
         mainBorderPane.setCenter(homeContent);
@@ -64,23 +78,24 @@ public class AdminDashboardController {
     // ✅ Load sub-screens with back navigation support
     private void loadScreen(String fxmlPath, String type) {
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource(fxmlPath));
-            Node content = loader.load();
-
-            Object controller = loader.getController();
+            // ✅ Parsed once per session, then reused (see ViewRegistry)
+            Object controller = ViewRegistry.show(mainBorderPane, fxmlPath);
 
             // Let the controller know how to go back
             if (controller instanceof ManageStaffController staffController) {
                 staffController.setDashboardController(this);
             } else if (controller instanceof ManageProgramsController programController) {
                 programController.setDashboardController(this);
+            } else if (controller instanceof DataToolsController dataToolsController) {
+                dataToolsController.setDashboardController(this);
+            } else if (controller instanceof AnalyticsController analyticsController) {
+                analyticsController.setDashboardController(this);
+            } else if (controller instanceof AdminBookingsController bookingsController) {
+                bookingsController.setDashboardController(this);
             }
-
-            mainBorderPane.setCenter(content);
-            System.out.println("Loaded " + type + " screen successfully.");
         } catch (IOException e) {
             e.printStackTrace();
-            showAlert("Error", "Failed to load screen: " + fxmlPath);
+            showAlert("Error", "Failed to load " + type + " screen: " + fxmlPath);
         }
     }
 
@@ -127,15 +142,14 @@ public class AdminDashboardController {
     // ✅ FIXED — Fully replaces dashboard with login screen
     @FXML
     private void logout() {
+        Window window = mainBorderPane.getScene().getWindow();
+        SessionManager.close(window); // ✅ Only this terminal's session
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/MainApp.fxml"));
-            Parent loginRoot = loader.load();
-
             // 🔸 Get current stage (the window)
-            Stage stage = (Stage) mainBorderPane.getScene().getWindow();
+            Stage stage = (Stage) window;
 
-            // 🔸 Replace the entire scene
-            stage.setScene(new Scene(loginRoot));
+            // 🔸 Swap the whole window back to the (cached) login screen
+            ViewRegistry.showScene(stage, "/MainApp.fxml");
             stage.setTitle("FitLife Login");
             stage.show();
 
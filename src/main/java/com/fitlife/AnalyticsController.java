@@ -0,0 +1,165 @@
+package com.fitlife;
+
+import com.fitlife.db.ScreenTasks;
+import com.fitlife.model.AnalyticsReport;
+import com.fitlife.model.AnalyticsReport.MembershipTotal;
+import com.fitlife.model.AnalyticsReport.PayrollLine;
+import com.fitlife.model.AnalyticsReport.ProgramMonth;
+import com.fitlife.model.AnalyticsReport.TrainerLoad;
+import com.fitlife.service.AnalyticsService;
+import com.fitlife.service.ProgramCatalog;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.collections.FXCollections;
+import javafx.fxml.FXML;
+import javafx.scene.chart.CategoryAxis;
+import javafx.scene.chart.PieChart;
+import javafx.scene.chart.StackedBarChart;
+import javafx.scene.chart.XYChart;
+import javafx.scene.control.Alert;
+import javafx.scene.control.ComboBox;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressIndicator;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.layout.VBox;
+import javafx.util.StringConverter;
+
+import java.text.NumberFormat;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Admin analytics: revenue by program and month, sessions per membership type, trainer load
+ * and payroll. Everything comes from {@link AnalyticsService} (rollup tables, not Bookings),
+ * so refreshing is cheap; the screen reloads each time it is shown.
+ */
+public class AnalyticsController implements CachedView {
+
+    private static final List<Integer> RANGES = List.of(3, 6, 12, 24);
+    private static final DateTimeFormatter MONTH = DateTimeFormatter.ofPattern("MMM yy");
+
+    @FXML private VBox contentBox;
+    @FXML private ComboBox<Integer> rangeField;
+    @FXML private ProgressIndicator loadingIndicator;
+    @FXML private Label revenueLabel;
+    @FXML private Label sessionsLabel;
+    @FXML private Label payrollLabel;
+    @FXML private StackedBarChart<String, Number> revenueChart;
+    @FXML private PieChart membershipChart;
+
+    @FXML private TableView<TrainerLoad> trainerTable;
+    @FXML private TableColumn<TrainerLoad, String> colTrainer;
+    @FXML private TableColumn<TrainerLoad, Number> colTrainerPrograms;
+    @FXML private TableColumn<TrainerLoad, Number> colTrainerSessions;
+    @FXML private TableColumn<TrainerLoad, Number> colTrainerRevenue;
+
+    @FXML private TableView<PayrollLine> payrollTable;
+    @FXML private TableColumn<PayrollLine, String> colRole;
+    @FXML private TableColumn<PayrollLine, Number> colHeadcount;
+    @FXML private TableColumn<PayrollLine, Number> colSalaries;
+
+    private AdminDashboardController dashboardController;
+    private final ScreenTasks tasks = new ScreenTasks();
+    private final AnalyticsService analytics = AnalyticsService.getInstance();
+    private final ProgramCatalog catalog = ProgramCatalog.getInstance();
+    private final NumberFormat amount = NumberFormat.getIntegerInstance();
+
+    public void setDashboardController(AdminDashboardController controller) {
+        this.dashboardController = controller;
+    }
+
+    @FXML
+    public void initialize() {
+        tasks.bindTo(contentBox);
+        tasks.showWhileBusy(loadingIndicator);
+
+        rangeField.setItems(FXCollections.observableArrayList(RANGES));
+        rangeField.setConverter(new StringConverter<>() {
+            @Override
+            public String toString(Integer months) {
+                return months == null ? "" : "Last " + months + " months";
+            }
+
+            @Override
+            public Integer fromString(String text) {
+                return null;
+            }
+        });
+        rangeField.setValue(12);
+        rangeField.valueProperty().addListener((obs, o, n) -> refresh());
+
+        colTrainer.setCellValueFactory(c -> new ReadOnlyObjectWrapper<>(c.getValue().trainer()));
+        colTrainerPrograms.setCellValueFactory(c -> new ReadOnlyObjectWrapper<>(c.getValue().programs()));
+        colTrainerSessions.setCellValueFactory(c -> new ReadOnlyObjectWrapper<>(c.getValue().sessions()));
+        colTrainerRevenue.setCellValueFactory(c -> new ReadOnlyObjectWrapper<>(c.getValue().revenue()));
+        colRole.setCellValueFactory(c -> new ReadOnlyObjectWrapper<>(c.getValue().role()));
+        colHeadcount.setCellValueFactory(c -> new ReadOnlyObjectWrapper<>(c.getValue().staff()));
+        colSalaries.setCellValueFactory(c -> new ReadOnlyObjectWrapper<>(c.getValue().salaries()));
+        trainerTable.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
+        payrollTable.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
+
+        refresh();
+    }
+
+    @Override
+    public void onShow() {
+        refresh();
+    }
+
+    // 🔹 Programs come from the shared catalog (already in memory), then one background report
+    @FXML
+    private void refresh() {
+        int months = rangeField.getValue() == null ? 12 : rangeField.getValue();
+        tasks.await(catalog.getPrograms(),
+                programs -> tasks.run(() -> analytics.report(programs, months), this::show, this::failed),
+                this::failed);
+    }
+
+    private void show(AnalyticsReport report) {
+        revenueLabel.setText("Rs " + amount.format(report.totalRevenue()));
+        sessionsLabel.setText(amount.format(report.totalSessions()));
+        payrollLabel.setText("Rs " + amount.format(report.totalPayroll()));
+
+        // One series per program, one category per month (months without sales show as gaps)
+        List<String> categories = new ArrayList<>(report.months().size());
+        for (YearMonth m : report.months()) categories.add(m.format(MONTH));
+        Map<String, XYChart.Series<String, Number>> byProgram = new TreeMap<>();
+        for (ProgramMonth pm : report.revenue()) {
+            XYChart.Series<String, Number> series = byProgram.computeIfAbsent(pm.program(), name -> {
+                XYChart.Series<String, Number> s = new XYChart.Series<>();
+                s.setName(name);
+                return s;
+            });
+            series.getData().add(new XYChart.Data<>(pm.month().format(MONTH), pm.revenue()));
+        }
+        ((CategoryAxis) revenueChart.getXAxis()).setCategories(FXCollections.observableArrayList(categories));
+        revenueChart.getData().setAll(byProgram.values());
+
+        List<PieChart.Data> slices = new ArrayList<>();
+        for (MembershipTotal m : report.memberships()) {
+            if (m.sessions() > 0) slices.add(new PieChart.Data(m.membership() + " (" + m.sessions() + ")", m.sessions()));
+        }
+        membershipChart.getData().setAll(slices);
+
+        trainerTable.getItems().setAll(report.trainers());
+        payrollTable.getItems().setAll(report.payroll());
+    }
+
+    private void failed(Throwable e) {
+        e.printStackTrace();
+        Alert alert = new Alert(Alert.AlertType.ERROR);
+        alert.setTitle("Database Error");
+        alert.setHeaderText(null);
+        alert.setContentText("Unable to load analytics.");
+        alert.showAndWait();
+    }
+
+    @FXML
+    private void goBack() {
+        if (dashboardController != null) dashboardController.showHome();
+    }
+}
@@ -0,0 +1,11 @@
+package com.fitlife;
+
+/**
+ * Implemented by controllers whose screen is kept in {@link ViewRegistry}:
+ * called each time the cached screen is shown again, so it can re-pull its data.
+ * Not called on the first show (initialize() has just loaded everything).
+ */
+public interface CachedView {
+
+    void onShow();
+}
@@ -0,0 +1,128 @@
+package com.fitlife;
+
+import javafx.geometry.Insets;
+import javafx.scene.control.Alert;
+import javafx.scene.control.ButtonBar;
+import javafx.scene.control.ButtonType;
+import javafx.scene.control.Label;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.VBox;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Resolves a save that lost the race with another desk (the row's version moved on).
+ * Builds a field-level diff of the record as it was loaded, as edited here and as saved
+ * elsewhere, and asks whether to overwrite, take the other desk's version or keep editing.
+ * Conflicts that can't lose anything are resolved without asking.
+ */
+public final class ConflictDialog {
+
+    public enum Choice { OVERWRITE, TAKE_THEIRS, KEEP_EDITING }
+
+    /** A named field of a record, in display order. */
+    public record Field<T>(String name, Function<T, ?> value) {
+    }
+
+    /** One field in the three versions of the record. */
+    public record FieldDiff(String field, String loaded, String mine, String theirs) {
+
+        public boolean changedHere() {
+            return !Objects.equals(loaded, mine);
+        }
+
+        public boolean changedThere() {
+            return !Objects.equals(loaded, theirs);
+        }
+
+        // Both desks changed it, to different values
+        public boolean clashes() {
+            return changedHere() && changedThere() && !Objects.equals(mine, theirs);
+        }
+    }
+
+    private static final ButtonType OVERWRITE = new ButtonType("Save mine", ButtonBar.ButtonData.YES);
+    private static final ButtonType TAKE_THEIRS = new ButtonType("Use theirs", ButtonBar.ButtonData.NO);
+    private static final ButtonType KEEP_EDITING = new ButtonType("Keep editing", ButtonBar.ButtonData.CANCEL_CLOSE);
+
+    private ConflictDialog() {
+    }
+
+    public static <T> Field<T> field(String name, Function<T, ?> value) {
+        return new Field<>(name, value);
+    }
+
+    public static <T> List<FieldDiff> diff(List<Field<T>> fields, T loaded, T mine, T theirs) {
+        List<FieldDiff> diffs = new ArrayList<>(fields.size());
+        for (Field<T> f : fields) {
+            diffs.add(new FieldDiff(f.name(), text(f.value().apply(loaded)),
+                    text(f.value().apply(mine)), text(f.value().apply(theirs))));
+        }
+        return diffs;
+    }
+
+    // ✅ Asks only when the other desk's save actually differs from this one
+    public static Choice resolve(String record, List<FieldDiff> diffs) {
+        boolean theirsChangedAnything = false;
+        boolean sameAsTheirs = true;
+        for (FieldDiff d : diffs) {
+            theirsChangedAnything |= d.changedThere();
+            sameAsTheirs &= Objects.equals(d.mine(), d.theirs());
+        }
+        if (sameAsTheirs) return Choice.TAKE_THEIRS;        // both desks saved the same values
+        if (!theirsChangedAnything) return Choice.OVERWRITE; // re-saved unchanged; nothing of theirs to lose
+        return show(record, diffs);
+    }
+
+    private static Choice show(String record, List<FieldDiff> diffs) {
+        GridPane grid = new GridPane();
+        grid.setHgap(16);
+        grid.setVgap(6);
+        grid.setPadding(new Insets(8, 0, 0, 0));
+        String[] headers = {"Field", "When you opened it", "Your edit", "Saved at another desk"};
+        for (int c = 0; c < headers.length; c++) {
+            Label h = new Label(headers[c]);
+            h.setStyle("-fx-font-weight: bold;");
+            grid.add(h, c, 0);
+        }
+
+        int row = 1;
+        for (FieldDiff d : diffs) {
+            if (!d.changedHere() && !d.changedThere()) continue;
+            grid.add(new Label(d.field()), 0, row);
+            grid.add(new Label(d.loaded()), 1, row);
+            grid.add(cell(d.mine(), d.changedHere(), d.clashes()), 2, row);
+            grid.add(cell(d.theirs(), d.changedThere(), d.clashes()), 3, row);
+            row++;
+        }
+
+        Alert alert = new Alert(Alert.AlertType.WARNING, null, OVERWRITE, TAKE_THEIRS, KEEP_EDITING);
+        alert.setTitle("Edit Conflict");
+        alert.setHeaderText("This " + record + " was changed at another desk while you were editing it.");
+        alert.getDialogPane().setContent(new VBox(8,
+                new Label("Fields in red were changed at both desks."), grid));
+        alert.setResizable(true);
+
+        ButtonType answer = alert.showAndWait().orElse(KEEP_EDITING);
+        if (answer == OVERWRITE) return Choice.OVERWRITE;
+        if (answer == TAKE_THEIRS) return Choice.TAKE_THEIRS;
+        return Choice.KEEP_EDITING;
+    }
+
+    private static Label cell(String value, boolean changed, boolean clash) {
+        Label label = new Label(value);
+        if (clash) {
+            label.setStyle("-fx-text-fill: #c0392b; -fx-font-weight: bold;");
+        } else if (changed) {
+            label.setStyle("-fx-font-weight: bold;");
+        }
+        return label;
+    }
+
+    private static String text(Object value) {
+        return value == null ? "" : value.toString();
+    }
+}
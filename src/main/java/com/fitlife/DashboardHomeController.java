@@ -1,9 +1,25 @@
 package com.fitlife;
 
+import com.fitlife.db.PoolStats;
+import com.fitlife.metrics.MetricSnapshot;
+import com.fitlife.metrics.MetricsRegistry;
+import com.fitlife.metrics.Timer;
+import com.fitlife.model.UserSession;
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
+import javafx.scene.control.Alert;
+import javafx.scene.control.Label;
+import javafx.scene.control.TextArea;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
+import javafx.util.Duration;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 public class DashboardHomeController {
 
@@ -23,6 +39,135 @@ public class DashboardHomeController {
         dashboardController.openManagePrograms();
     }
 
+    @FXML
+    private void openDataTools(ActionEvent event) {
+        dashboardController.openDataTools();
+    }
+
+    @FXML
+    private void openAllBookings(ActionEvent event) {
+        dashboardController.openAllBookings();
+    }
+
+    @FXML
+    private void openAnalytics(ActionEvent event) {
+        dashboardController.openAnalytics();
+    }
+
     @FXML private StackPane staffCard;
     @FXML private StackPane programCard;
+    @FXML private StackPane dataCard;
+    @FXML private StackPane bookingsCard;
+    @FXML private StackPane analyticsCard;
+
+    // 🔹 Performance tile
+    @FXML private StackPane metricsCard;
+    @FXML private Label queryLatencyLabel;
+    @FXML private Label slowestStatementLabel;
+    @FXML private Label fxStallLabel;
+
+    private final MetricsRegistry metrics = MetricsRegistry.getInstance();
+    private final Timeline metricsRefresh = new Timeline(new KeyFrame(Duration.seconds(2), e -> refreshMetrics()));
+
+    @FXML
+    public void initialize() {
+        // ✅ Admins only; refresh only while the tile is on screen
+        UserSession session = SessionManager.current();
+        boolean admin = session != null && session.isAdmin();
+        metricsCard.setVisible(admin);
+        metricsCard.setManaged(admin);
+        if (!admin) return;
+
+        metricsRefresh.setCycleCount(Animation.INDEFINITE);
+        metricsCard.sceneProperty().addListener((obs, oldScene, scene) -> {
+            if (scene == null) {
+                metricsRefresh.stop();
+            } else {
+                refreshMetrics();
+                metricsRefresh.play();
+            }
+        });
+        refreshMetrics();
+    }
+
+    private void refreshMetrics() {
+        queryLatencyLabel.setText("Queries " + metrics.timer(MetricsRegistry.DB_QUERY).snapshot().summary());
+
+        List<MetricsRegistry.StatementStats> slowest = metrics.slowestStatements(1);
+        slowestStatementLabel.setText(slowest.isEmpty() ? "Slowest: -"
+                : "Slowest: " + shorten(slowest.get(0).sql(), 40) + " (p99 "
+                + MetricSnapshot.format(slowest.get(0).latency().p99Millis()) + ")");
+
+        long stalls = metrics.counter(MetricsRegistry.FX_STALLS).get();
+        long stallMillis = metrics.counter(MetricsRegistry.FX_STALL_MILLIS).get();
+        fxStallLabel.setText("UI stalls " + stalls + " · " + MetricSnapshot.format(stallMillis)
+                + " · " + FxStallMonitor.getStallSites().size() + " call sites");
+    }
+
+    // ✅ Full breakdown: statements, screens, pool and FX thread
+    @FXML
+    private void showMetricsDetails() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("DATABASE\n");
+        line(sb, "All statements", metrics.timer(MetricsRegistry.DB_QUERY).snapshot());
+        line(sb, "Connection borrow", metrics.timer(MetricsRegistry.DB_BORROW).snapshot());
+        sb.append(String.format("  %-28s %d%n", "Failed statements", metrics.counter(MetricsRegistry.DB_ERRORS).get()));
+        PoolStats pool = DatabaseUtil.getPoolStats();
+        if (pool != null) sb.append("  Pool: ").append(pool).append('\n');
+
+        sb.append("\nSLOWEST STATEMENTS (by p99)\n");
+        for (MetricsRegistry.StatementStats s : metrics.slowestStatements(10)) {
+            sb.append("  ").append(s.latency().summary()).append("  max ")
+                    .append(MetricSnapshot.format(s.latency().maxMillis())).append('\n')
+                    .append("    ").append(s.sql()).append('\n');
+        }
+
+        sb.append("\nSCREENS\n");
+        line(sb, "Navigation", metrics.timer(MetricsRegistry.NAVIGATION).snapshot());
+        sb.append(String.format("  %-28s %d hits / %d misses%n", "View cache",
+                metrics.counter(MetricsRegistry.VIEW_CACHE_HITS).get(), metrics.counter(MetricsRegistry.VIEW_CACHE_MISSES).get()));
+        Map<String, Timer> screens = new TreeMap<>();
+        metrics.getTimers().forEach((name, timer) -> {
+            if (name.startsWith(MetricsRegistry.FXML_LOAD + " ")) screens.put(name.substring(MetricsRegistry.FXML_LOAD.length() + 1), timer);
+        });
+        screens.forEach((fxml, timer) -> line(sb, "Load " + fxml, timer.snapshot()));
+
+        sb.append("\nFX THREAD\n");
+        line(sb, "Runnable pickup delay", metrics.histogram(MetricsRegistry.FX_PULSE_DELAY).snapshot());
+        sb.append(String.format("  %-28s %d (%s total)%n", "Stalls",
+                metrics.counter(MetricsRegistry.FX_STALLS).get(),
+                MetricSnapshot.format(metrics.counter(MetricsRegistry.FX_STALL_MILLIS).get())));
+
+        sb.append("\nUI STALL SITES (worst first; log: ").append(FxStallMonitor.getLogFile()).append(")\n");
+        List<FxStallMonitor.StallSite> sites = FxStallMonitor.getStallSites();
+        for (FxStallMonitor.StallSite site : sites.subList(0, Math.min(10, sites.size()))) {
+            sb.append(String.format("  %dx, %s total, max %s  %s%n", site.count(),
+                    MetricSnapshot.format(site.totalMillis()), MetricSnapshot.format(site.maxMillis()), site.site()));
+            for (StackTraceElement frame : site.sampleStack().subList(0, Math.min(6, site.sampleStack().size()))) {
+                sb.append("      at ").append(frame).append('\n');
+            }
+        }
+
+        TextArea text = new TextArea(sb.toString());
+        text.setEditable(false);
+        text.setStyle("-fx-font-family: monospace;");
+        text.setPrefSize(760, 460);
+
+        Alert alert = new Alert(Alert.AlertType.INFORMATION);
+        alert.setTitle("Performance");
+        alert.setHeaderText("Since application start");
+        alert.getDialogPane().setContent(new VBox(text));
+        alert.setResizable(true);
+        alert.showAndWait();
+    }
+
+    private static void line(StringBuilder sb, String label, MetricSnapshot s) {
+        sb.append(String.format("  %-28s %s", shorten(label, 28), s.summary()));
+        if (s.count() > 0) sb.append("  max ").append(MetricSnapshot.format(s.maxMillis()));
+        sb.append('\n');
+    }
+
+    private static String shorten(String s, int max) {
+        return s.length() <= max ? s : s.substring(0, max - 3) + "...";
+    }
 }
@@ -0,0 +1,248 @@
+package com.fitlife;
+
+import com.fitlife.db.ScreenTasks;
+import com.fitlife.io.CsvImporter;
+import com.fitlife.io.DataExporter;
+import com.fitlife.io.ExportFilter;
+import com.fitlife.io.ExportFormat;
+import com.fitlife.io.ExportKind;
+import com.fitlife.io.ExportResult;
+import com.fitlife.io.ImportError;
+import com.fitlife.io.ImportKind;
+import com.fitlife.io.ImportReport;
+import com.fitlife.service.ProgramCatalog;
+import com.fitlife.service.RecordValidator;
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.fxml.FXML;
+import javafx.scene.control.*;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+import javafx.stage.FileChooser;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public class DataToolsController {
+
+    // 🔹 CSV import
+    @FXML private VBox contentBox;
+    @FXML private ComboBox<ImportKind> importKindField;
+    @FXML private Label importColumnsLabel;
+    @FXML private Button importButton;
+    @FXML private Button cancelImportButton;
+    @FXML private ProgressBar importProgress;
+    @FXML private Label importStatusLabel;
+    @FXML private ListView<String> importErrorList;
+    @FXML private Button saveErrorsButton;
+
+    // 🔹 Export
+    @FXML private ComboBox<ExportKind> exportKindField;
+    @FXML private ComboBox<ExportFormat> exportFormatField;
+    @FXML private HBox exportFilterBox;
+    @FXML private DatePicker exportFromField;
+    @FXML private DatePicker exportToField;
+    @FXML private ComboBox<String> exportProgramField;
+    @FXML private TextField exportUserIdField;
+    @FXML private Button exportButton;
+    @FXML private Button cancelExportButton;
+    @FXML private Label exportStatusLabel;
+
+    @FXML private ProgressIndicator loadingIndicator;
+
+    private static final String ALL_PROGRAMS = "All Programs";
+
+    private AdminDashboardController dashboardController;
+    private final ScreenTasks tasks = new ScreenTasks();
+    private final CsvImporter importer = new CsvImporter();
+    private final DataExporter exporter = new DataExporter();
+    private CompletableFuture<ImportReport> runningImport;
+    private CompletableFuture<ExportResult> runningExport;
+    private ImportReport lastReport;
+
+    public void setDashboardController(AdminDashboardController controller) {
+        this.dashboardController = controller;
+    }
+
+    @FXML
+    public void initialize() {
+        tasks.bindTo(contentBox);
+        tasks.showWhileBusy(loadingIndicator);
+        importKindField.setItems(FXCollections.observableArrayList(ImportKind.values()));
+        importKindField.valueProperty().addListener((obs, o, kind) -> showExpectedColumns(kind));
+        importKindField.setValue(ImportKind.STAFF);
+
+        exportKindField.setItems(FXCollections.observableArrayList(ExportKind.values()));
+        exportFormatField.setItems(FXCollections.observableArrayList(ExportFormat.values()));
+        exportKindField.valueProperty().addListener((obs, o, kind) ->
+                exportFilterBox.setDisable(kind != ExportKind.BOOKINGS)); // filters apply to bookings only
+        exportKindField.setValue(ExportKind.BOOKINGS);
+        exportFormatField.setValue(ExportFormat.CSV);
+        exportProgramField.getItems().setAll(ALL_PROGRAMS);
+        tasks.await(ProgramCatalog.getInstance().getProgramNames(),
+                names -> exportProgramField.getItems().addAll(names),
+                e -> exportStatusLabel.setText("Could not load programs: " + e.getMessage()));
+    }
+
+    private void showExpectedColumns(ImportKind kind) {
+        if (kind == null) return;
+        String text = "Header row: " + String.join(", ", kind.getRequiredColumns());
+        if (!kind.getOptionalColumns().isEmpty()) {
+            text += " (optional: " + String.join(", ", kind.getOptionalColumns()) + ")";
+        }
+        importColumnsLabel.setText(text);
+    }
+
+    // 🔹 Pick a file and stream it in the background
+    @FXML
+    private void importCsv() {
+        ImportKind kind = importKindField.getValue();
+        if (kind == null) return;
+
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Import " + kind.getLabel());
+        chooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("CSV files", "*.csv"));
+        File file = chooser.showOpenDialog(contentBox.getScene().getWindow());
+        if (file == null) return;
+
+        setImporting(true);
+        importErrorList.getItems().clear();
+        importProgress.setProgress(0);
+        importStatusLabel.setText("Importing " + file.getName() + "...");
+        lastReport = null;
+        saveErrorsButton.setDisable(true);
+
+        runningImport = tasks.write(() -> importer.importFile(file.toPath(), kind,
+                (fraction, read, imported, rejected) -> Platform.runLater(() -> {
+                    importProgress.setProgress(fraction);
+                    importStatusLabel.setText(String.format("%d rows read, %d imported, %d rejected",
+                            read, imported, rejected));
+                })), this::showReport, e -> {
+            setImporting(false);
+            importProgress.setProgress(0);
+            importStatusLabel.setText("Import failed: " + e.getMessage());
+            showAlert(Alert.AlertType.ERROR, "Import Failed", e.getMessage());
+        });
+    }
+
+    private void showReport(ImportReport report) {
+        setImporting(false);
+        lastReport = report;
+        importProgress.setProgress(1);
+        importStatusLabel.setText(report.summary());
+
+        List<String> lines = new ArrayList<>(report.errors().size() + 1);
+        for (ImportError e : report.errors()) {
+            lines.add("Line " + e.line() + ": " + e.message());
+        }
+        if (report.rejected() > report.errors().size()) {
+            lines.add("... and " + (report.rejected() - report.errors().size()) + " more");
+        }
+        importErrorList.getItems().setAll(lines);
+        saveErrorsButton.setDisable(report.errors().isEmpty());
+    }
+
+    @FXML
+    private void cancelImport() {
+        if (runningImport == null || runningImport.isDone()) return;
+        runningImport.cancel(true);
+        setImporting(false);
+        importStatusLabel.setText("Import cancelled. Rows committed before the cancel were kept.");
+    }
+
+    @FXML
+    private void saveErrorReport() {
+        if (lastReport == null) return;
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Save Error Report");
+        chooser.setInitialFileName(lastReport.kind().name().toLowerCase() + "-import-errors.csv");
+        File file = chooser.showSaveDialog(contentBox.getScene().getWindow());
+        if (file == null) return;
+        try {
+            lastReport.writeErrors(file.toPath());
+        } catch (IOException e) {
+            showAlert(Alert.AlertType.ERROR, "Error", "Failed to save error report: " + e.getMessage());
+        }
+    }
+
+    // 🔹 Stream the selected table to a file in the background
+    @FXML
+    private void exportData() {
+        ExportKind kind = exportKindField.getValue();
+        ExportFormat format = exportFormatField.getValue();
+        if (kind == null || format == null) return;
+
+        String userId = exportUserIdField.getText().trim();
+        if (!userId.isEmpty() && (!RecordValidator.isPositiveNumber(userId) || userId.length() > 9)) {
+            showAlert(Alert.AlertType.WARNING, "Validation Error", "User ID must be a number.");
+            return;
+        }
+        LocalDate from = exportFromField.getValue();
+        LocalDate to = exportToField.getValue();
+        if (from != null && to != null && from.isAfter(to)) {
+            showAlert(Alert.AlertType.WARNING, "Validation Error", "The From date must not be after the To date.");
+            return;
+        }
+        String program = exportProgramField.getValue();
+        ExportFilter filter = new ExportFilter(from, to,
+                program == null || ALL_PROGRAMS.equals(program) ? null : program,
+                userId.isEmpty() ? null : Integer.valueOf(userId));
+
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Export " + kind.getLabel());
+        chooser.setInitialFileName(kind.name().toLowerCase() + "." + format.getExtension());
+        File file = chooser.showSaveDialog(contentBox.getScene().getWindow());
+        if (file == null) return;
+
+        setExporting(true);
+        exportStatusLabel.setText("Exporting...");
+        runningExport = tasks.run(() -> exporter.export(kind, filter, format, file.toPath(),
+                rows -> Platform.runLater(() -> {
+                    if (exportButton.isDisabled()) exportStatusLabel.setText(rows + " rows written...");
+                })), result -> {
+            setExporting(false);
+            exportStatusLabel.setText(result.summary());
+        }, e -> {
+            setExporting(false);
+            exportStatusLabel.setText("Export failed: " + e.getMessage());
+            showAlert(Alert.AlertType.ERROR, "Export Failed", e.getMessage());
+        });
+    }
+
+    @FXML
+    private void cancelExport() {
+        if (runningExport == null || runningExport.isDone()) return;
+        runningExport.cancel(true); // the exporter stops at the next row and deletes the partial file
+        setExporting(false);
+        exportStatusLabel.setText("Export cancelled.");
+    }
+
+    private void setExporting(boolean exporting) {
+        exportButton.setDisable(exporting);
+        cancelExportButton.setDisable(!exporting);
+    }
+
+    private void setImporting(boolean importing) {
+        importButton.setDisable(importing);
+        importKindField.setDisable(importing);
+        cancelImportButton.setDisable(!importing);
+    }
+
+    // 🔹 Alerts
+    private void showAlert(Alert.AlertType type, String title, String msg) {
+        Alert alert = new Alert(type);
+        alert.setTitle(title);
+        alert.setHeaderText(null);
+        alert.setContentText(msg);
+        alert.showAndWait();
+    }
+
+    @FXML
+    private void goBack() {
+        if (dashboardController != null) dashboardController.showHome();
+    }
+}
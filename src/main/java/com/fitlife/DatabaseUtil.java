@@ -1,19 +1,92 @@
 package com.fitlife;
 
+import com.fitlife.db.ConnectionPool;
+import com.fitlife.db.DatabaseBackend;
+import com.fitlife.db.EmbeddedDatabase;
+import com.fitlife.db.MigrationRunner;
+import com.fitlife.db.PoolConfig;
+import com.fitlife.db.PoolStats;
+import com.fitlife.metrics.JdbcMetrics;
+import com.fitlife.metrics.MetricsRegistry;
+import com.fitlife.metrics.Timer;
+
 import java.sql.Connection;
-import java.sql.DriverManager;
+import java.sql.SQLException;
 
 public class DatabaseUtil {
-    private static final String URL = "jdbc:mysql://localhost:3306/GymDB";
-    private static final String USER = "root";
-    private static final String PASSWORD = ""; // <-- MAMP root password
-    private static Connection connection;
-
-    public static Connection getConnection() throws Exception {
-        if(connection == null || connection.isClosed()) {
-            Class.forName("com.mysql.cj.jdbc.Driver");
-            connection = DriverManager.getConnection(URL, USER, PASSWORD);
+    // ✅ MySQL by default; -Dfitlife.db.mode=embedded|memory runs on an in-process H2 database
+    private static final DatabaseBackend BACKEND = DatabaseBackend.fromSystemProperties();
+
+    private static final Timer BORROW_TIMER = MetricsRegistry.getInstance().timer(MetricsRegistry.DB_BORROW);
+
+    private static volatile ConnectionPool pool;
+
+    // ✅ Borrow a pooled connection; close() hands it back to the pool.
+    //    Borrow wait and every statement run on it are timed (see MetricsRegistry)
+    public static Connection getConnection() throws SQLException {
+        ConnectionPool p = getPool();
+        long started = System.nanoTime();
+        Connection conn = p.borrow();
+        BORROW_TIMER.recordSince(started);
+        return JdbcMetrics.wrap(conn);
+    }
+
+    public static ConnectionPool getPool() throws SQLException {
+        ConnectionPool p = pool;
+        if (p == null) {
+            synchronized (DatabaseUtil.class) {
+                p = pool;
+                if (p == null) {
+                    loadDriver();
+                    p = new ConnectionPool(PoolConfig.fromSystemProperties(
+                            BACKEND.getDefaultUrl(), BACKEND.getDefaultUser(), BACKEND.getDefaultPassword()));
+                    try {
+                        prepareSchema(p);
+                    } catch (SQLException e) {
+                        p.close();
+                        throw e;
+                    }
+                    pool = p;
+                }
+            }
+        }
+        return p;
+    }
+
+    // ✅ Versioned migrations first, then starter data for a new embedded database
+    private static void prepareSchema(ConnectionPool p) throws SQLException {
+        boolean migrate = MigrationRunner.isEnabled() || BACKEND.isEmbedded();
+        if (!migrate) return;
+        try (Connection conn = p.borrow()) {
+            MigrationRunner.migrate(conn);
+            if (BACKEND.isEmbedded()) EmbeddedDatabase.seed(conn);
+        }
+    }
+
+    private static void loadDriver() throws SQLException {
+        try {
+            Class.forName(BACKEND.getDriverClass());
+        } catch (ClassNotFoundException e) {
+            throw new SQLException("JDBC driver " + BACKEND.getDriverClass() + " not found on the classpath", e);
+        }
+    }
+
+    public static DatabaseBackend getBackend() {
+        return BACKEND;
+    }
+
+    // ✅ Pool gauges (active/idle/borrow wait) — null until the pool is first used
+    public static PoolStats getPoolStats() {
+        ConnectionPool p = pool;
+        return p == null ? null : p.stats();
+    }
+
+    // ✅ Close all physical connections (called on application exit)
+    public static void shutdown() {
+        ConnectionPool p = pool;
+        if (p != null) {
+            p.close();
+            pool = null;
         }
-        return connection;
     }
 }
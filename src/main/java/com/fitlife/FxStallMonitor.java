@@ -0,0 +1,215 @@
+package com.fitlife;
+
+import com.fitlife.metrics.LatencyHistogram;
+import com.fitlife.metrics.MetricsRegistry;
+import javafx.application.Platform;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Watchdog for the FX Application Thread.
+ * A daemon thread posts one ping at a time (every -Dfitlife.fx.pingMillis, default 100 ms) and
+ * records how long the FX thread takes to run it ("fx.pulseDelay"). When a ping is still waiting
+ * after -Dfitlife.fx.stallMillis (default 100 ms), the FX thread's stack is captured; once the
+ * ping runs, the stall is counted ("fx.stalls", "fx.stallMillis") and attributed to a call site:
+ * the first com.fitlife frame plus the frame it was blocked in
+ * (e.g. "ManageStaffController.addStaff:142 -> SocketInputStream.read").
+ * Stalls are aggregated per site for the admin dashboard and appended, with their stack, to a
+ * rolling log (-Dfitlife.fx.stallLog, default ~/.fitlife/logs/fx-stalls.log, 3 x 1 MB).
+ * All file I/O happens on the watchdog thread, never on the FX thread.
+ */
+public final class FxStallMonitor {
+
+    static final long PING_MILLIS = Math.max(10, Long.getLong("fitlife.fx.pingMillis", 100));
+    static final long STALL_MILLIS = Math.max(1, Long.getLong("fitlife.fx.stallMillis", 100));
+
+    private static final int MAX_FRAMES = 30;
+    private static final int MAX_SITES = 200;
+    private static final long MAX_LOG_BYTES = 1024 * 1024;
+    private static final int LOG_FILES = 3;
+    private static final Path LOG_FILE = Paths.get(System.getProperty("fitlife.fx.stallLog",
+            Paths.get(System.getProperty("user.home"), ".fitlife", "logs", "fx-stalls.log").toString()));
+
+    private static final MetricsRegistry METRICS = MetricsRegistry.getInstance();
+    private static final LatencyHistogram DELAYS = METRICS.histogram(MetricsRegistry.FX_PULSE_DELAY);
+
+    /** Stalls aggregated by call site. */
+    public record StallSite(String site, long count, long totalMillis, long maxMillis, List<StackTraceElement> sampleStack) {
+    }
+
+    private record Capture(long ping, StackTraceElement[] stack) {
+    }
+
+    private record StallEvent(LocalDateTime at, long millis, String site, StackTraceElement[] stack) {
+    }
+
+    // nanoTime the outstanding ping was posted, 0 when none is pending
+    private static final AtomicLong pendingSince = new AtomicLong();
+    private static volatile Thread fxThread;
+    private static volatile Capture pendingCapture; // stack taken while a ping was overdue
+    private static final Map<String, StallSite> sites = new ConcurrentHashMap<>();
+    private static final Queue<StallEvent> unwritten = new ConcurrentLinkedQueue<>();
+    private static Thread thread;
+
+    private FxStallMonitor() {
+    }
+
+    public static synchronized void start() {
+        if (thread != null || !MetricsRegistry.ENABLED) return;
+        thread = new Thread(FxStallMonitor::run, "fitlife-fx-monitor");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // ✅ Worst call sites first (by total time stalled)
+    public static List<StallSite> getStallSites() {
+        List<StallSite> all = new ArrayList<>(sites.values());
+        all.sort(Comparator.comparingLong(StallSite::totalMillis).reversed());
+        return all;
+    }
+
+    public static Path getLogFile() {
+        return LOG_FILE;
+    }
+
+    // --- Watchdog thread ---
+
+    private static void run() {
+        long sleep = Math.max(5, Math.min(PING_MILLIS, STALL_MILLIS / 2));
+        long nextPing = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            long now = System.nanoTime();
+            long posted = pendingSince.get();
+            if (posted == 0 && now >= nextPing) {
+                pendingSince.set(now);
+                long ping = now;
+                Platform.runLater(() -> answered(ping));
+                nextPing = now + TimeUnit.MILLISECONDS.toNanos(PING_MILLIS);
+            } else if (posted != 0 && now - posted >= TimeUnit.MILLISECONDS.toNanos(STALL_MILLIS)) {
+                Capture c = pendingCapture;
+                if (c == null || c.ping() != posted) capture(posted);
+            }
+            writeLog();
+            try {
+                Thread.sleep(sleep);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    // 🔹 What the FX thread is doing right now (it is stuck, so the stack is the culprit)
+    private static void capture(long ping) {
+        Thread fx = fxThread;
+        if (fx == null) return;
+        StackTraceElement[] stack = fx.getStackTrace();
+        if (stack.length > 0) pendingCapture = new Capture(ping, stack);
+    }
+
+    // --- FX thread ---
+
+    private static void answered(long posted) {
+        if (fxThread == null) fxThread = Thread.currentThread();
+        long delayNanos = System.nanoTime() - posted;
+        Capture capture = pendingCapture;
+        StackTraceElement[] stack = capture != null && capture.ping() == posted ? capture.stack() : null;
+        pendingSince.set(0);
+
+        DELAYS.record(TimeUnit.NANOSECONDS.toMicros(delayNanos));
+        long delayMillis = TimeUnit.NANOSECONDS.toMillis(delayNanos);
+        if (delayMillis < STALL_MILLIS) return;
+
+        METRICS.counter(MetricsRegistry.FX_STALLS).increment();
+        METRICS.counter(MetricsRegistry.FX_STALL_MILLIS).add(delayMillis);
+        String site = stack == null ? "(ended before a stack was captured)" : siteOf(stack);
+        record(site, delayMillis, stack);
+        unwritten.add(new StallEvent(LocalDateTime.now(), delayMillis, site, stack));
+    }
+
+    private static void record(String site, long millis, StackTraceElement[] stack) {
+        String key = sites.containsKey(site) || sites.size() < MAX_SITES ? site : "(other)";
+        sites.merge(key, new StallSite(key, 1, millis, millis, trim(stack)), (old, add) ->
+                new StallSite(key, old.count() + 1, old.totalMillis() + millis, Math.max(old.maxMillis(), millis),
+                        millis > old.maxMillis() && !add.sampleStack().isEmpty() ? add.sampleStack() : old.sampleStack()));
+    }
+
+    // "ManageStaffController.addStaff:142 -> SocketInputStream.read"
+    static String siteOf(StackTraceElement[] stack) {
+        StackTraceElement top = stack[0];
+        StackTraceElement app = null;
+        for (StackTraceElement frame : stack) {
+            if (frame.getClassName().startsWith("com.fitlife.")) {
+                app = frame;
+                break;
+            }
+        }
+        String blocked = simpleName(top.getClassName()) + "." + top.getMethodName();
+        if (app == null) return "(JavaFX) -> " + blocked;
+        String caller = simpleName(app.getClassName()) + "." + app.getMethodName() + ":" + app.getLineNumber();
+        return app == top ? caller : caller + " -> " + blocked;
+    }
+
+    private static String simpleName(String className) {
+        String name = className.substring(className.lastIndexOf('.') + 1);
+        int lambda = name.indexOf("$$Lambda");
+        return lambda > 0 ? name.substring(0, lambda) : name;
+    }
+
+    private static List<StackTraceElement> trim(StackTraceElement[] stack) {
+        if (stack == null) return List.of();
+        return List.of(Arrays.copyOf(stack, Math.min(stack.length, MAX_FRAMES)));
+    }
+
+    // --- Rolling log (watchdog thread only) ---
+
+    private static void writeLog() {
+        if (unwritten.isEmpty()) return;
+        try {
+            Files.createDirectories(LOG_FILE.toAbsolutePath().getParent());
+            if (Files.exists(LOG_FILE) && Files.size(LOG_FILE) > MAX_LOG_BYTES) rotate();
+            try (Writer out = Files.newBufferedWriter(LOG_FILE, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                StallEvent e;
+                while ((e = unwritten.poll()) != null) {
+                    out.write(e.at() + "  FX thread stalled " + e.millis() + " ms at " + e.site() + System.lineSeparator());
+                    if (e.stack() != null) {
+                        for (StackTraceElement frame : trim(e.stack())) {
+                            out.write("    at " + frame + System.lineSeparator());
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            unwritten.clear(); // don't pile up events when the log location is unwritable
+            System.err.println("Could not write FX stall log " + LOG_FILE + ": " + e.getMessage());
+        }
+    }
+
+    // fx-stalls.log -> .1 -> .2 (oldest dropped)
+    private static void rotate() throws IOException {
+        for (int i = LOG_FILES - 1; i >= 1; i--) {
+            Path from = i == 1 ? LOG_FILE : Paths.get(LOG_FILE + "." + (i - 1));
+            if (Files.exists(from)) {
+                Files.move(from, Paths.get(LOG_FILE + "." + i), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+}
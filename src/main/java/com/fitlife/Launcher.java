@@ -0,0 +1,19 @@
+package com.fitlife;
+
+import javafx.application.Application;
+
+/**
+ * Plain entry point for starting the app from a classpath (e.g. the appcds profile).
+ * The JDK refuses to launch a main class that extends {@link Application} unless JavaFX is on the
+ * module path; this class doesn't, so JavaFX jars on the classpath are enough.
+ */
+public final class Launcher {
+
+    private Launcher() {
+    }
+
+    public static void main(String[] args) {
+        StartupTimer.mark(StartupTimer.Phase.MAIN);
+        Application.launch(MainApp.class, args);
+    }
+}
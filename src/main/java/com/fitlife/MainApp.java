@@ -1,31 +1,98 @@
 package com.fitlife;
 
+import com.fitlife.db.DataAccessService;
+import com.fitlife.service.AuthService;
 import javafx.application.Application;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
 import javafx.scene.Scene;
+import javafx.scene.control.Alert;
 import javafx.stage.Stage;
 
+import java.io.IOException;
+import java.util.List;
+
 public class MainApp extends Application {
 
+    // ✅ Runs before the first window: start the slow warm-ups in parallel and return at once,
+    //    so the login screen shows while the driver, pool and migrations are still loading
+    @Override
+    public void init() {
+        AuthService.getInstance().warmUp(); // calibrates password hashing in parallel
+        ViewRegistry.preload(List.of("/admin_dashboard.fxml", "/dashboard_home.fxml",
+                "/member_dashboard.fxml", "/MemberHome.fxml"));
+        DataAccessService.supply(DatabaseUtil::getPool).whenComplete((pool, e) -> {
+            if (e == null) {
+                StartupTimer.mark(StartupTimer.Phase.DB_READY);
+            } else {
+                // Screens report their own connection errors; don't block startup on a missing server
+                System.err.println("Database not ready at startup: " + e.getMessage());
+                StartupTimer.databaseFailed();
+            }
+        });
+    }
+
     @Override
     public void start(Stage stage) throws Exception {
-        // ✅ Load the login/start screen
-        FXMLLoader loader = new FXMLLoader(getClass().getResource("/MainApp.fxml"));
-        Parent root = loader.load();
+        // ✅ Idle sessions return their own window to the login screen
+        SessionManager.setExpiryHandler((session, window) -> {
+            if (!(window instanceof Stage expired)) return;
+            try {
+                showLogin(expired);
+                Alert alert = new Alert(Alert.AlertType.INFORMATION,
+                        "You were logged out after a period of inactivity.");
+                alert.initOwner(expired);
+                alert.setHeaderText("Session expired");
+                alert.show();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        });
+
+        // ✅ One login window per terminal (-Dfitlife.terminals, e.g. reception + kiosk)
+        int terminals = Math.max(1, Integer.getInteger("fitlife.terminals", 1));
+        for (int i = 1; i <= terminals; i++) {
+            Stage terminal = i == 1 ? stage : new Stage();
+            terminal.getProperties().put("fitlife.terminal", "Terminal " + i);
+            showLogin(terminal);
+            terminal.setResizable(false); // Optional: lock size for consistent layout
+            terminal.centerOnScreen();    // Centers the window on screen
+            terminal.show();
+        }
 
-        // ✅ Create scene with exact preferred size from FXML
-        Scene scene = new Scene(root, 1220, 720);
+        FxStallMonitor.start(); // feeds the admin Performance tile
+
+        // ✅ First layout pulse of the login window = first frame
+        Scene scene = stage.getScene();
+        scene.addPostLayoutPulseListener(new Runnable() {
+            @Override
+            public void run() {
+                scene.removePostLayoutPulseListener(this);
+                StartupTimer.mark(StartupTimer.Phase.FIRST_FRAME);
+            }
+        });
+    }
+
+    private void showLogin(Stage stage) throws IOException {
+        // ✅ Load the login/start screen (cached per window; the scene takes its 1220x720 preferred size)
+        ViewRegistry.showScene(stage, "/MainApp.fxml");
 
         // ✅ Stage setup
-        stage.setTitle("FitLife Gym Management System");
-        stage.setScene(scene);
-        stage.setResizable(false); // Optional: lock size for consistent layout
-        stage.centerOnScreen();    // Centers the window on screen
-        stage.show();
+        Object terminal = stage.getProperties().get("fitlife.terminal");
+        boolean multiple = Integer.getInteger("fitlife.terminals", 1) > 1;
+        stage.setTitle("FitLife Gym Management System" + (multiple && terminal != null ? " - " + terminal : ""));
+    }
+
+    // ✅ Release pooled database connections on exit
+    @Override
+    public void stop() {
+        DataAccessService.shutdown();
+        if (DatabaseUtil.getPoolStats() != null) {
+            System.out.println("Database pool at shutdown: " + DatabaseUtil.getPoolStats());
+        }
+        DatabaseUtil.shutdown();
     }
 
     public static void main(String[] args) {
+        StartupTimer.mark(StartupTimer.Phase.MAIN);
         launch(args);
     }
 }
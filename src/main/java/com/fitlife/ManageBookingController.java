@@ -1,29 +1,42 @@
 package com.fitlife;
 
+import com.fitlife.db.KeysetPager;
+import com.fitlife.db.ScreenTasks;
 import com.fitlife.model.Booking;
+import com.fitlife.model.ClassSession;
+import com.fitlife.model.Program;
+import com.fitlife.model.UserSession;
+import com.fitlife.repository.BookingRepository;
+import com.fitlife.service.BookingService;
+import com.fitlife.service.PricingEngine;
+import com.fitlife.service.ProgramCatalog;
+import com.fitlife.service.RecordValidator;
+import com.fitlife.service.ScheduleService;
+import com.fitlife.service.SessionEvents;
 import javafx.application.Platform;
-import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
 import javafx.scene.control.*;
 import javafx.scene.input.MouseEvent;
 import javafx.stage.Stage;
+import javafx.util.StringConverter;
 
-import java.sql.*;
 import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 
-public class ManageBookingController {
+public class ManageBookingController implements CachedView {
 
     // --- FXML Components ---
     @FXML private TextField nameField;
     @FXML private TextField contactField;
     @FXML private ComboBox<String> membershipField;
     @FXML private ComboBox<String> programField;
+    @FXML private ComboBox<ClassSession> sessionField;
     @FXML private DatePicker startDateField;
     @FXML private TextField sessionsField;
     @FXML private TextField totalCostField;
@@ -35,41 +48,148 @@ public class ManageBookingController {
     @FXML private TableColumn<Booking, String> colContact;
     @FXML private TableColumn<Booking, String> colMembership;
     @FXML private TableColumn<Booking, String> colProgram;
-    @FXML private TableColumn<Booking, String> colStartDate;
-    @FXML private TableColumn<Booking, String> colSessions;
-    @FXML private TableColumn<Booking, String> colTotalCost;
+    @FXML private TableColumn<Booking, LocalDate> colStartDate;
+    @FXML private TableColumn<Booking, Number> colSessions;
+    @FXML private TableColumn<Booking, Number> colTotalCost;
+    @FXML private ProgressIndicator loadingIndicator;
+    @FXML private Button prevPageButton;
+    @FXML private Button nextPageButton;
+    @FXML private Label pageLabel;
 
     private final ObservableList<Booking> bookingList = FXCollections.observableArrayList();
+    private final ScreenTasks tasks = new ScreenTasks();
+    private final BookingRepository bookingRepository = new BookingRepository();
+    private final BookingService bookingService = BookingService.getInstance();
+    // ✅ Captured while the screen loads, so background work always uses this terminal's member
+    private final UserSession session = SessionManager.current();
+    private KeysetPager<Booking> pager;
+    private final ProgramCatalog catalog = ProgramCatalog.getInstance();
+    private final PricingEngine pricing = PricingEngine.getInstance();
+    private final Consumer<List<Program>> catalogListener = programs -> loadProgramsFromDatabase();
+    private final ScheduleService schedule = ScheduleService.getInstance();
+    private final SessionEvents events = SessionEvents.getInstance();
+    private final Consumer<SessionEvents.Event> sessionListener = this::onSessionEvent;
+    private int pendingSessionId; // chosen on the calendar, selected once the picker has loaded
+
+    private static final int SESSION_DAYS = 30;
+    private static final DateTimeFormatter SESSION_FORMAT = DateTimeFormatter.ofPattern("EEE d MMM HH:mm");
+
+    // Fields compared when an update loses to another desk
+    private static final List<ConflictDialog.Field<Booking>> CONFLICT_FIELDS = List.of(
+            ConflictDialog.field("Full name", Booking::getFullName),
+            ConflictDialog.field("Contact", Booking::getContact),
+            ConflictDialog.field("Membership", Booking::getMembership),
+            ConflictDialog.field("Program", Booking::getProgram),
+            ConflictDialog.field("Start date", Booking::getStartDate),
+            ConflictDialog.field("Sessions", Booking::getNumSessions),
+            ConflictDialog.field("Total cost", Booking::getTotalCost));
 
     // --- Initialization ---
     @FXML
     public void initialize() {
-        membershipField.setItems(FXCollections.observableArrayList("Monthly", "Quarterly", "Annual"));
+        membershipField.setItems(FXCollections.observableArrayList(RecordValidator.MEMBERSHIP_TYPES));
+        // ✅ Price depends on program and membership too, not just the session count
+        membershipField.valueProperty().addListener((obs, o, n) -> calculateTotalCost());
+        programField.valueProperty().addListener((obs, o, n) -> {
+            calculateTotalCost();
+            loadSessions(n);
+        });
+        setupSessionPicker();
         setupTable();
+        tasks.bindTo(bookingTable);
+        tasks.showWhileBusy(loadingIndicator);
+        catalog.addListener(catalogListener);
+        events.addListener(sessionListener);
+
+        // ✅ Page through the member's bookings by booking_id
+        int userId = currentUserId();
+        pager = new KeysetPager<>(tasks,
+                (afterId, limit) -> bookingRepository.findPageByUser(userId, afterId, limit),
+                Booking::getId, bookingList, KeysetPager.DEFAULT_PAGE_SIZE,
+                ex -> showAlert(Alert.AlertType.ERROR, "Database Error", ex.getMessage()));
+        pager.bindControls(prevPageButton, nextPageButton, pageLabel);
+
         loadProgramsFromDatabase();
         loadBookingsForCurrentUser(); // ✅ Only logged-in user's bookings
         bookingTable.setOnMouseClicked(this::handleTableClick);
     }
 
     private void setupTable() {
-        colBookingId.setCellValueFactory(cell ->
-                new SimpleStringProperty(String.format("B%03d", cell.getValue().getId())));
+        colBookingId.setCellValueFactory(BookingCellValues.BOOKING_ID);
         colName.setCellValueFactory(cell -> cell.getValue().fullNameProperty());
         colContact.setCellValueFactory(cell -> cell.getValue().contactProperty());
         colMembership.setCellValueFactory(cell -> cell.getValue().membershipProperty());
         colProgram.setCellValueFactory(cell -> cell.getValue().programProperty());
-        colStartDate.setCellValueFactory(cell ->
-                new SimpleStringProperty(cell.getValue().getStartDate() == null ? "" :
-                        cell.getValue().getStartDate().toString()));
-        colSessions.setCellValueFactory(cell ->
-                new SimpleStringProperty(String.valueOf(cell.getValue().getNumSessions())));
-        colTotalCost.setCellValueFactory(cell ->
-                new SimpleStringProperty(String.valueOf(cell.getValue().getTotalCost())));
+        colStartDate.setCellValueFactory(BookingCellValues.START_DATE);
+        colSessions.setCellValueFactory(BookingCellValues.SESSIONS);
+        colTotalCost.setCellValueFactory(BookingCellValues.TOTAL_COST);
 
         bookingTable.setItems(bookingList);
         bookingTable.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
     }
 
+    // ✅ Upcoming classes of the chosen program with places left; picking one sets the start date
+    private void setupSessionPicker() {
+        sessionField.setConverter(new StringConverter<>() {
+            @Override
+            public String toString(ClassSession s) {
+                if (s == null) return "";
+                return s.startsAt().format(SESSION_FORMAT) + " · " + (s.isFull() ? "full, join waitlist" : s.available() + " left");
+            }
+
+            @Override
+            public ClassSession fromString(String text) {
+                return null;
+            }
+        });
+        sessionField.valueProperty().addListener((obs, o, n) -> {
+            if (n != null) startDateField.setValue(n.startsAt().toLocalDate());
+        });
+    }
+
+    private void loadSessions(String programName) {
+        Program program = programName == null ? null : findProgram(programName);
+        if (program == null) {
+            sessionField.getItems().clear();
+            return;
+        }
+        int programId = Integer.parseInt(program.getId());
+        ClassSession chosen = sessionField.getValue();
+        tasks.run(() -> schedule.upcoming(programId, SESSION_DAYS), sessions -> {
+            if (!programName.equals(programField.getValue())) return; // program changed meanwhile
+            // ✅ Keep the chosen class selected across refreshes (its seat count may have changed)
+            int keep = pendingSessionId != 0 ? pendingSessionId : chosen == null ? 0 : chosen.id();
+            sessionField.getItems().setAll(sessions);
+            for (ClassSession s : sessions) {
+                if (s.id() == keep) sessionField.setValue(s);
+            }
+            pendingSessionId = 0;
+        }, ex -> showAlert(Alert.AlertType.ERROR, "Database Error", ex.getMessage()));
+    }
+
+    private Program findProgram(String name) {
+        for (Program p : catalog.getPrograms().getNow(List.of())) {
+            if (p.getName().equals(name)) return p;
+        }
+        return null;
+    }
+
+    // ✅ Opened from the class calendar: form prefilled with that session
+    public void bookSession(ClassSession s) {
+        clearFields();
+        pendingSessionId = s.id();
+        programField.setValue(s.programName());
+        startDateField.setValue(s.startsAt().toLocalDate());
+        sessionsField.setText("1");
+        calculateTotalCost();
+    }
+
+    // ✅ A seat changed hands at some terminal: refresh the class picker; pick up our own promotions
+    private void onSessionEvent(SessionEvents.Event e) {
+        if (e.kind() == SessionEvents.Kind.PROMOTED && e.userId() == currentUserId()) pager.reload();
+        if (programField.getValue() != null && !sessionField.isDisabled()) loadSessions(programField.getValue());
+    }
+
     // --- Calculate Total Cost ---
     @FXML
     private void calculateTotalCost() {
@@ -82,11 +202,11 @@ public class ManageBookingController {
             int sessions = Integer.parseInt(s);
             if (sessions <= 0) throw new NumberFormatException();
 
-            int rate = (sessions <= 10) ? 1000 :
-                    (sessions <= 30) ? 800 :
-                            (sessions <= 50) ? 600 : 500;
+            // ✅ Program rate x membership/volume tier (see PricingEngine)
+            long total = pricing.quote(programField.getValue(), membershipField.getValue(), sessions);
+            if (total > Integer.MAX_VALUE) throw new NumberFormatException();
 
-            totalCostField.setText(String.valueOf(sessions * rate));
+            totalCostField.setText(String.valueOf(total));
         } catch (NumberFormatException ex) {
             totalCostField.setText("Invalid");
         }
@@ -97,48 +217,78 @@ public class ManageBookingController {
     private void createBooking() {
         if (!validateBookingInputs()) return;
 
-        try (Connection conn = DatabaseUtil.getConnection()) {
-            // ✅ Include user_id to track ownership
-            String insertSql = "INSERT INTO Bookings (user_id, full_name, contact, membership_type, program, start_date, sessions, total_cost) " +
-                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
-            PreparedStatement ps = conn.prepareStatement(insertSql, Statement.RETURN_GENERATED_KEYS);
-
-            ps.setInt(1, SessionManager.getUserId()); // ✅ Current user
-            ps.setString(2, nameField.getText().trim());
-            ps.setString(3, contactField.getText().trim());
-            ps.setString(4, membershipField.getValue());
-            ps.setString(5, programField.getValue());
-            ps.setDate(6, startDateField.getValue() == null ? null : Date.valueOf(startDateField.getValue()));
-            ps.setInt(7, Integer.parseInt(sessionsField.getText().trim()));
-            ps.setInt(8, Integer.parseInt(totalCostField.getText().trim()));
-            ps.executeUpdate();
-
-            ResultSet rs = ps.getGeneratedKeys();
-            if (rs.next()) {
-                int id = rs.getInt(1);
-                Booking b = new Booking(
-                        id,
-                        nameField.getText().trim(),
-                        contactField.getText().trim(),
-                        membershipField.getValue(),
-                        programField.getValue(),
-                        startDateField.getValue(),
-                        Integer.parseInt(sessionsField.getText().trim()),
-                        Integer.parseInt(totalCostField.getText().trim())
-                );
-                bookingList.add(b);
-                showAlert(Alert.AlertType.INFORMATION, "Success", "Booking created: " + formatBookingId(id));
-                clearFields();
+        int userId = currentUserId(); // ✅ Current user
+        ClassSession classSession = sessionField.getValue();
+        Booking draft = bookingFromForm(0, classSession == null ? 0 : classSession.id());
+
+        if (classSession != null && classSession.isFull()) {
+            offerWaitlist(draft);
+            return;
+        }
+
+        // ✅ Include user_id to track ownership (and take the class seat in the same transaction)
+        tasks.write(() -> bookingService.book(userId, draft), id -> {
+            if (id == BookingRepository.SESSION_FULL) {
+                offerWaitlist(draft); // filled up since the picker loaded
+                return;
+            }
+            if (id == BookingRepository.ALREADY_IN_SESSION) {
+                showAlert(Alert.AlertType.WARNING, "Already Booked", "You are already booked or waiting for this class.");
+                return;
             }
+            if (id < 0) return;
+            bookingCreated(draft.withId(id));
+        }, ex -> {
+            ex.printStackTrace();
+            showAlert(Alert.AlertType.ERROR, "Database Error", ex.getMessage());
+        });
+    }
+
+    // --- Full class: queue for a place (booked automatically when one frees up) ---
+    private void offerWaitlist(Booking draft) {
+        Alert confirm = new Alert(Alert.AlertType.CONFIRMATION,
+                "This class is full. Join the waitlist? You will be booked automatically when a place frees up.",
+                ButtonType.YES, ButtonType.NO);
+        confirm.setHeaderText(null);
+        Optional<ButtonType> res = confirm.showAndWait();
+        if (res.isEmpty() || res.get() != ButtonType.YES) {
+            loadSessions(programField.getValue());
+            return;
+        }
 
-        } catch (Exception ex) {
+        int userId = currentUserId();
+        tasks.write(() -> bookingService.bookOrWait(userId, draft), result -> {
+            if (result.isBooked()) {
+                bookingCreated(draft.withId(result.bookingId())); // a place had just freed up
+            } else if (result.alreadyIn()) {
+                showAlert(Alert.AlertType.WARNING, "Already Booked", "You are already booked or waiting for this class.");
+                loadSessions(programField.getValue());
+            } else if (result.isQueued()) {
+                showAlert(Alert.AlertType.INFORMATION, "Waitlist",
+                        "You are number " + result.position() + " on the waitlist for this class.");
+                clearFields();
+            } else {
+                showAlert(Alert.AlertType.WARNING, "Class Started", "This class has already started.");
+                loadSessions(programField.getValue());
+            }
+        }, ex -> {
             ex.printStackTrace();
             showAlert(Alert.AlertType.ERROR, "Database Error", ex.getMessage());
+        });
+    }
+
+    private void bookingCreated(Booking created) {
+        if (pager.isOnLastPage() && bookingList.size() < pager.getPageSize()) {
+            bookingList.add(created);
+        } else {
+            pager.reload(); // new booking lands on a later page
         }
+        showAlert(Alert.AlertType.INFORMATION, "Success", "Booking created: " + created.getFormattedBookingId());
+        clearFields();
     }
 
-    private String formatBookingId(int id) {
-        return String.format("B%03d", id);
+    private int currentUserId() {
+        return session == null ? 0 : session.userId();
     }
 
     // --- Edit Booking ---
@@ -150,41 +300,52 @@ public class ManageBookingController {
             return;
         }
         if (!validateBookingInputs()) return;
+        // The seat belongs to a class of this program on this date; moving it means a new booking
+        if (selected.getSessionId() != 0 && (!selected.getProgram().equals(programField.getValue())
+                || !Objects.equals(selected.getStartDate(), startDateField.getValue()))) {
+            showAlert(Alert.AlertType.WARNING, "Class Booking",
+                    "This booking holds a place in a class. Delete it and book another class instead.");
+            return;
+        }
 
-        selected.setFullName(nameField.getText().trim());
-        selected.setContact(contactField.getText().trim());
-        selected.setMembership(membershipField.getValue());
-        selected.setProgram(programField.getValue());
-        selected.setStartDate(startDateField.getValue());
-        selected.setNumSessions(Integer.parseInt(sessionsField.getText().trim()));
-        selected.setTotalCost(Integer.parseInt(totalCostField.getText().trim()));
-
-        String updateSql = "UPDATE Bookings SET full_name=?, contact=?, membership_type=?, program=?, start_date=?, sessions=?, total_cost=? " +
-                "WHERE booking_id=? AND user_id=?";
-        try (Connection conn = DatabaseUtil.getConnection();
-             PreparedStatement ps = conn.prepareStatement(updateSql)) {
-
-            ps.setString(1, selected.getFullName());
-            ps.setString(2, selected.getContact());
-            ps.setString(3, selected.getMembership());
-            ps.setString(4, selected.getProgram());
-            ps.setDate(5, selected.getStartDate() == null ? null : Date.valueOf(selected.getStartDate()));
-            ps.setInt(6, selected.getNumSessions());
-            ps.setInt(7, selected.getTotalCost());
-            ps.setInt(8, selected.getId());
-            ps.setInt(9, SessionManager.getUserId()); // ✅ Ensure user owns it
-
-            int rows = ps.executeUpdate();
-            if (rows > 0) {
-                bookingTable.refresh();
+        saveBooking(selected, selected,
+                bookingFromForm(selected.getId(), selected.getSessionId()).withVersion(selected.getVersion()));
+    }
+
+    // --- Versioned save; if the member's other desk saved first, show the diff and let them decide ---
+    private void saveBooking(Booking row, Booking loaded, Booking changes) {
+        int userId = currentUserId();
+        tasks.write(() -> bookingRepository.update(userId, changes), result -> {
+            if (result.applied()) {
+                replaceRow(row, result.current());
                 showAlert(Alert.AlertType.INFORMATION, "Success", "Booking updated successfully.");
                 clearFields();
-            } else {
-                showAlert(Alert.AlertType.WARNING, "Unauthorized", "You can only edit your own bookings.");
+                return;
             }
-        } catch (Exception ex) {
-            showAlert(Alert.AlertType.ERROR, "Database Error", ex.getMessage());
-        }
+            if (result.isDeleted()) {
+                bookingList.remove(row);
+                showAlert(Alert.AlertType.WARNING, "Not Found", "This booking was deleted or is not yours to edit.");
+                clearFields();
+                return;
+            }
+            Booking current = result.current();
+            switch (ConflictDialog.resolve("booking", ConflictDialog.diff(CONFLICT_FIELDS, loaded, changes, current))) {
+                case OVERWRITE -> saveBooking(row, current, changes.withVersion(current.getVersion()));
+                case TAKE_THEIRS -> {
+                    replaceRow(row, current);
+                    bookingTable.getSelectionModel().select(current);
+                    fillFormFromSelection();
+                }
+                case KEEP_EDITING -> {
+                }
+            }
+        }, ex -> showAlert(Alert.AlertType.ERROR, "Database Error", ex.getMessage()));
+    }
+
+    // Bookings are immutable: a saved edit replaces the row in the page
+    private void replaceRow(Booking row, Booking with) {
+        int i = bookingList.indexOf(row);
+        if (i >= 0) bookingList.set(i, with);
     }
 
     // --- Delete Booking ---
@@ -197,68 +358,42 @@ public class ManageBookingController {
         }
 
         Alert confirm = new Alert(Alert.AlertType.CONFIRMATION,
-                "Delete booking " + formatBookingId(selected.getId()) + "?",
+                "Delete booking " + selected.getFormattedBookingId() + "?",
                 ButtonType.YES, ButtonType.NO);
 
         Optional<ButtonType> res = confirm.showAndWait();
         if (res.isEmpty() || res.get() != ButtonType.YES) return;
 
-        try (Connection conn = DatabaseUtil.getConnection();
-             PreparedStatement ps = conn.prepareStatement("DELETE FROM Bookings WHERE booking_id=? AND user_id=?")) {
-            ps.setInt(1, selected.getId());
-            ps.setInt(2, SessionManager.getUserId()); // ✅ Ownership check
-            int rows = ps.executeUpdate();
-            if (rows > 0) {
+        int userId = currentUserId();
+        int bookingId = selected.getId();
+        // ✅ Other terminals refresh and a promoted member is told they got the place (published on commit)
+        tasks.write(() -> bookingService.cancel(userId, bookingId), result -> {
+            if (result.deleted()) {
                 bookingList.remove(selected);
                 showAlert(Alert.AlertType.INFORMATION, "Deleted", "Booking deleted successfully.");
                 clearFields();
             } else {
                 showAlert(Alert.AlertType.WARNING, "Unauthorized", "You can only delete your own bookings.");
             }
-        } catch (Exception ex) {
-            showAlert(Alert.AlertType.ERROR, "Database Error", ex.getMessage());
-        }
+        }, ex -> showAlert(Alert.AlertType.ERROR, "Database Error", ex.getMessage()));
     }
 
-    // --- Load Programs ---
+    // --- Re-entering the cached screen: re-pull the current page and program list ---
+    @Override
+    public void onShow() {
+        loadProgramsFromDatabase();
+        pager.reload();
+    }
+
+    // --- Load Programs (from the shared catalog; no query once it is warm) ---
     private void loadProgramsFromDatabase() {
-        programField.getItems().clear();
-        String sql = "SELECT Name FROM Program";
-        try (Connection conn = DatabaseUtil.getConnection();
-             Statement st = conn.createStatement();
-             ResultSet rs = st.executeQuery(sql)) {
-            while (rs.next()) {
-                programField.getItems().add(rs.getString("Name"));
-            }
-        } catch (Exception ex) {
-            showAlert(Alert.AlertType.ERROR, "Database Error", ex.getMessage());
-        }
+        tasks.await(catalog.getProgramNames(), names -> programField.getItems().setAll(names),
+                ex -> showAlert(Alert.AlertType.ERROR, "Database Error", ex.getMessage()));
     }
 
-    // --- Load Bookings (Only current user) ---
+    // --- Load Bookings (Only current user, first page) ---
     private void loadBookingsForCurrentUser() {
-        bookingList.clear();
-        String sql = "SELECT * FROM Bookings WHERE user_id = ? ORDER BY booking_id";
-        try (Connection conn = DatabaseUtil.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setInt(1, SessionManager.getUserId());
-            ResultSet rs = ps.executeQuery();
-            while (rs.next()) {
-                Booking b = new Booking(
-                        rs.getInt("booking_id"),
-                        rs.getString("full_name"),
-                        rs.getString("contact"),
-                        rs.getString("membership_type"),
-                        rs.getString("program"),
-                        rs.getDate("start_date") == null ? null : rs.getDate("start_date").toLocalDate(),
-                        rs.getInt("sessions"),
-                        rs.getInt("total_cost")
-                );
-                bookingList.add(b);
-            }
-        } catch (Exception ex) {
-            showAlert(Alert.AlertType.ERROR, "Database Error", ex.getMessage());
-        }
+        pager.first();
     }
 
     // --- Helpers ---
@@ -276,6 +411,9 @@ public class ManageBookingController {
         startDateField.setValue(s.getStartDate());
         sessionsField.setText(String.valueOf(s.getNumSessions()));
         totalCostField.setText(String.valueOf(s.getTotalCost()));
+        sessionField.setValue(null);
+        sessionField.setDisable(true); // a saved booking keeps its class seat
+        startDateField.setDisable(s.getSessionId() != 0); // ...and that class's date
     }
 
     @FXML
@@ -287,15 +425,35 @@ public class ManageBookingController {
         startDateField.setValue(null);
         sessionsField.clear();
         totalCostField.clear();
+        sessionField.setValue(null);
+        sessionField.setDisable(false);
+        startDateField.setDisable(false);
+        pendingSessionId = 0;
         bookingTable.getSelectionModel().clearSelection();
     }
 
+    // ✅ Booking built from the (already validated) form
+    private Booking bookingFromForm(int id, int sessionId) {
+        return new Booking(
+                id,
+                nameField.getText().trim(),
+                contactField.getText().trim(),
+                membershipField.getValue(),
+                programField.getValue(),
+                startDateField.getValue(),
+                Integer.parseInt(sessionsField.getText().trim()),
+                Integer.parseInt(totalCostField.getText().trim()),
+                sessionId,
+                0
+        );
+    }
+
     private boolean validateBookingInputs() {
         if (nameField.getText().trim().isEmpty()) {
             showAlert(Alert.AlertType.WARNING, "Validation Error", "Full name is required.");
             return false;
         }
-        if (!contactField.getText().matches("\\d{10}")) {
+        if (!RecordValidator.isContact(contactField.getText())) {
             showAlert(Alert.AlertType.WARNING, "Validation Error", "Contact must be 10 digits.");
             return false;
         }
@@ -307,6 +465,14 @@ public class ManageBookingController {
             showAlert(Alert.AlertType.WARNING, "Validation Error", "Select program.");
             return false;
         }
+        if (!RecordValidator.isPositiveNumber(sessionsField.getText().trim())) {
+            showAlert(Alert.AlertType.WARNING, "Validation Error", "Enter a valid number of sessions.");
+            return false;
+        }
+        if (!RecordValidator.isWholeNumber(totalCostField.getText().trim())) {
+            showAlert(Alert.AlertType.WARNING, "Validation Error", "Total cost could not be calculated.");
+            return false;
+        }
         return true;
     }
 
@@ -321,10 +487,10 @@ public class ManageBookingController {
     @FXML
     private void goBack() {
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/member_dashboard.fxml"));
-            Parent root = loader.load();
             Stage stage = (Stage) bookingTable.getScene().getWindow();
-            stage.setScene(new Scene(root));
+            // ✅ Back to the cached member dashboard instead of re-parsing it
+            MemberDashboardController dashboard = ViewRegistry.showScene(stage, "/member_dashboard.fxml");
+            dashboard.showHome();
             stage.setTitle("Member Main Menu");
         } catch (Exception e) {
             showAlert(Alert.AlertType.ERROR, "Navigation Error", "Unable to go back to main menu.");
@@ -5,10 +5,18 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
+import com.fitlife.db.ScreenTasks;
 import com.fitlife.model.Program;
-import java.sql.*;
+import com.fitlife.repository.ProgramRepository;
+import com.fitlife.repository.StaffRepository;
+import com.fitlife.service.ProgramCatalog;
+import com.fitlife.service.RecordValidator;
+import com.fitlife.service.ScheduleService;
 
-public class ManageProgramsController {
+import java.util.List;
+import java.util.function.Consumer;
+
+public class ManageProgramsController implements CachedView {
 
     // 🔹 FXML UI Elements
     @FXML private TextField programNameField;
@@ -23,24 +31,38 @@ public class ManageProgramsController {
     @FXML private TableColumn<Program, Number> colCostPerSession;
     @FXML private TableColumn<Program, String> colDescription;
     @FXML private TableColumn<Program, String> colTrainer;
+    @FXML private ProgressIndicator loadingIndicator;
 
     private ObservableList<Program> programList = FXCollections.observableArrayList();
     private ObservableList<String> trainerList = FXCollections.observableArrayList();
-    private Connection conn;
     private AdminDashboardController dashboardController;
+    private final ScreenTasks tasks = new ScreenTasks();
+    private final ProgramRepository programRepository = new ProgramRepository();
+    private final StaffRepository staffRepository = new StaffRepository();
+    private final ProgramCatalog catalog = ProgramCatalog.getInstance();
+    private final ScheduleService schedule = ScheduleService.getInstance();
+    private final Consumer<List<Program>> catalogListener = this::showPrograms;
+    private ProgramSearchFilter searchFilter;
+    private SearchDebouncer searchDebouncer;
+
+    // Fields compared when an update loses to another desk
+    private static final List<ConflictDialog.Field<Program>> CONFLICT_FIELDS = List.of(
+            ConflictDialog.field("Program name", Program::getName),
+            ConflictDialog.field("Cost per session", Program::getCostPerSession),
+            ConflictDialog.field("Description", Program::getDescription),
+            ConflictDialog.field("Trainer", Program::getTrainer));
 
     // 🔹 Initialize
     @FXML
     public void initialize() {
-        try {
-            conn = DatabaseUtil.getConnection();
-            bindTableColumns();
-            loadPrograms();
-            loadTrainers(); // ✅ Load trainers into ComboBox
-        } catch (Exception e) {
-            e.printStackTrace();
-            showAlert(Alert.AlertType.ERROR, "Database Error", "Could not connect to the database.");
-        }
+        tasks.bindTo(programTable);
+        tasks.showWhileBusy(loadingIndicator);
+        searchFilter = new ProgramSearchFilter(programList, catalog);
+        bindTableColumns();
+        searchDebouncer = new SearchDebouncer(searchField, SearchDebouncer.DEFAULT_DELAY, searchFilter::apply);
+        catalog.addListener(catalogListener);
+        loadPrograms();
+        loadTrainers(); // ✅ Load trainers into ComboBox
 
         // Table selection listener
         programTable.getSelectionModel().selectedItemProperty().addListener((obs, oldSel, newSel) -> {
@@ -53,19 +75,22 @@ public class ManageProgramsController {
         });
     }
 
+    // 🔹 Re-entering the cached screen: trainers may have changed on the staff screen
+    @Override
+    public void onShow() {
+        loadPrograms();
+        loadTrainers();
+    }
+
     // 🔹 Load Trainer Names (Role = 'Trainer')
     private void loadTrainers() {
-        trainerList.clear();
-        String query = "SELECT name FROM Staff WHERE role = 'Trainer'";
-        try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery(query)) {
-            while (rs.next()) {
-                trainerList.add(rs.getString("name"));
-            }
+        tasks.run(staffRepository::findTrainerNames, names -> {
+            trainerList.setAll(names);
             trainerField.setItems(trainerList);
-        } catch (SQLException e) {
+        }, e -> {
             e.printStackTrace();
             showAlert(Alert.AlertType.ERROR, "Error", "Failed to load trainers list.");
-        }
+        });
     }
 
     // 🔹 Link columns to Program model
@@ -75,27 +100,15 @@ public class ManageProgramsController {
         colCostPerSession.setCellValueFactory(data -> data.getValue().costPerSessionProperty());
         colDescription.setCellValueFactory(data -> data.getValue().descriptionProperty());
         colTrainer.setCellValueFactory(data -> data.getValue().trainerProperty());
-        programTable.setItems(programList);
+        searchFilter.attach(programTable);
     }
 
-    // 🔹 Load all programs
+    // 🔹 Load all programs (shared catalog; only the first screen opened hits the database)
     private void loadPrograms() {
-        programList.clear();
-        String query = "SELECT * FROM Program";
-        try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery(query)) {
-            while (rs.next()) {
-                programList.add(new Program(
-                        rs.getString("id"),
-                        rs.getString("name"),
-                        rs.getInt("cost_per_session"),
-                        rs.getString("description"),
-                        rs.getString("trainer")
-                ));
-            }
-        } catch (SQLException e) {
+        tasks.await(catalog.getPrograms(), this::showPrograms, e -> {
             e.printStackTrace();
             showAlert(Alert.AlertType.ERROR, "Error", "Failed to load program data.");
-        }
+        });
     }
 
     // 🔹 Add new program
@@ -103,21 +116,20 @@ public class ManageProgramsController {
     private void addProgram() {
         if (!validateInputs()) return;
 
-        String query = "INSERT INTO Program (name, cost_per_session, description, trainer) VALUES (?, ?, ?, ?)";
-        try (PreparedStatement ps = conn.prepareStatement(query)) {
-            ps.setString(1, programNameField.getText().trim());
-            ps.setInt(2, Integer.parseInt(costField.getText().trim()));
-            ps.setString(3, descriptionField.getText().trim());
-            ps.setString(4, trainerField.getValue());
-            ps.executeUpdate();
+        Program program = programFromForm(null);
 
+        tasks.write(() -> programRepository.insert(program), id -> {
+            if (id != null) {
+                catalog.programAdded(program.withId(id));
+            } else {
+                catalog.refresh();
+            }
             showAlert(Alert.AlertType.INFORMATION, "Success", "Program added successfully!");
-            loadPrograms();
             clearFields();
-        } catch (SQLException e) {
+        }, e -> {
             e.printStackTrace();
             showAlert(Alert.AlertType.ERROR, "Error", "Failed to add program.");
-        }
+        });
     }
 
     // 🔹 Update existing program
@@ -130,22 +142,39 @@ public class ManageProgramsController {
         }
         if (!validateInputs()) return;
 
-        String query = "UPDATE Program SET name=?, cost_per_session=?, description=?, trainer=? WHERE id=?";
-        try (PreparedStatement ps = conn.prepareStatement(query)) {
-            ps.setString(1, programNameField.getText().trim());
-            ps.setInt(2, Integer.parseInt(costField.getText().trim()));
-            ps.setString(3, descriptionField.getText().trim());
-            ps.setString(4, trainerField.getValue());
-            ps.setString(5, selected.getId());
-            ps.executeUpdate();
-
-            showAlert(Alert.AlertType.INFORMATION, "Success", "Program updated successfully!");
-            loadPrograms();
-            clearFields();
-        } catch (SQLException e) {
+        saveProgram(selected, programFromForm(selected.getId()).withVersion(selected.getVersion()));
+    }
+
+    // 🔹 Versioned save; if another desk saved first, show the diff and let the user decide
+    private void saveProgram(Program loaded, Program program) {
+        tasks.write(() -> programRepository.update(program), result -> {
+            if (result.applied()) {
+                catalog.programUpdated(result.current());
+                showAlert(Alert.AlertType.INFORMATION, "Success", "Program updated successfully!");
+                clearFields();
+                return;
+            }
+            if (result.isDeleted()) {
+                catalog.programRemoved(program.getId());
+                showAlert(Alert.AlertType.WARNING, "Program Deleted", "This program was deleted at another desk.");
+                clearFields();
+                return;
+            }
+            Program current = result.current();
+            switch (ConflictDialog.resolve("program", ConflictDialog.diff(CONFLICT_FIELDS, loaded, program, current))) {
+                case OVERWRITE -> saveProgram(current, program.withVersion(current.getVersion()));
+                case TAKE_THEIRS -> {
+                    catalog.programUpdated(current);
+                    showAlert(Alert.AlertType.INFORMATION, "Reloaded", "Showing the program as saved at the other desk.");
+                    clearFields();
+                }
+                case KEEP_EDITING -> {
+                }
+            }
+        }, e -> {
             e.printStackTrace();
             showAlert(Alert.AlertType.ERROR, "Error", "Failed to update program.");
-        }
+        });
     }
 
     // 🔹 Delete program
@@ -157,36 +186,60 @@ public class ManageProgramsController {
             return;
         }
 
-        String query = "DELETE FROM Program WHERE id=?";
-        try (PreparedStatement ps = conn.prepareStatement(query)) {
-            ps.setString(1, selected.getId());
-            ps.executeUpdate();
-
+        String id = selected.getId();
+        tasks.write(() -> programRepository.delete(id), rows -> {
+            if (rows == ProgramRepository.HAS_BOOKED_CLASSES) {
+                showAlert(Alert.AlertType.WARNING, "Program In Use",
+                        "Members are booked or waiting for upcoming classes of this program. Cancel those first.");
+                return;
+            }
+            catalog.programRemoved(id);
             showAlert(Alert.AlertType.INFORMATION, "Deleted", "Program deleted successfully!");
-            loadPrograms();
             clearFields();
-        } catch (SQLException e) {
+        }, e -> {
             e.printStackTrace();
             showAlert(Alert.AlertType.ERROR, "Error", "Failed to delete program.");
-        }
+        });
     }
 
-    // 🔹 Search programs
+    // 🔹 Weekly class timetable of the selected program
     @FXML
-    private void searchPrograms() {
-        String query = searchField.getText().trim().toLowerCase();
-        ObservableList<Program> filteredList = FXCollections.observableArrayList();
-
-        for (Program p : programList) {
-            if (p.getName().toLowerCase().contains(query)
-                    || p.getTrainer().toLowerCase().contains(query)
-                    || p.getDescription().toLowerCase().contains(query)) {
-                filteredList.add(p);
-            }
+    private void editSchedule() {
+        Program selected = programTable.getSelectionModel().getSelectedItem();
+        if (selected == null) {
+            showAlert(Alert.AlertType.WARNING, "No Selection", "Select a program to edit its timetable.");
+            return;
         }
 
-        programTable.setItems(filteredList);
-        if (query.isEmpty()) programTable.setItems(programList);
+        int programId = Integer.parseInt(selected.getId());
+        tasks.run(() -> schedule.slots(programId), slots ->
+                ScheduleDialog.edit(selected.getName(), programId, slots)
+                        .filter(changes -> !changes.isEmpty())
+                        .ifPresent(changes -> saveSchedule(programId, changes)), e -> {
+            e.printStackTrace();
+            showAlert(Alert.AlertType.ERROR, "Error", "Failed to load the timetable.");
+        });
+    }
+
+    private void saveSchedule(int programId, ScheduleDialog.Changes changes) {
+        tasks.write(() -> {
+            schedule.saveSlots(programId, changes.removed(), changes.added());
+            return null;
+        }, ok -> showAlert(Alert.AlertType.INFORMATION, "Saved", "Timetable updated."), e -> {
+            e.printStackTrace();
+            showAlert(Alert.AlertType.ERROR, "Error", "Failed to save the timetable.");
+        });
+    }
+
+    private void showPrograms(List<Program> programs) {
+        programList.setAll(programs);
+        searchFilter.reapply();
+    }
+
+    // 🔹 Search programs (live as you type; Enter runs the pending search immediately)
+    @FXML
+    private void searchPrograms() {
+        searchDebouncer.flush();
     }
 
     // 🔹 Clear fields
@@ -203,6 +256,17 @@ public class ManageProgramsController {
         programTable.getSelectionModel().clearSelection();
     }
 
+    // 🔹 Build a Program from the (already validated) form
+    private Program programFromForm(String id) {
+        return new Program(
+                id,
+                programNameField.getText().trim(),
+                Integer.parseInt(costField.getText().trim()),
+                descriptionField.getText().trim(),
+                trainerField.getValue()
+        );
+    }
+
     // 🔹 Input validation
     private boolean validateInputs() {
         String name = programNameField.getText().trim();
@@ -211,7 +275,7 @@ public class ManageProgramsController {
         String trainer = trainerField.getValue();
 
         if (name.isEmpty()) return showValidationError("Program name is required.");
-        if (!cost.matches("\\d+")) return showValidationError("Cost must be a valid number.");
+        if (!RecordValidator.isWholeNumber(cost)) return showValidationError("Cost must be a valid number.");
         if (desc.isEmpty()) return showValidationError("Description cannot be empty.");
         if (trainer == null || trainer.isEmpty()) return showValidationError("Please select a trainer.");
 
@@ -6,22 +6,49 @@ import javafx.scene.control.*;
 import javafx.scene.layout.BorderPane;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import java.sql.*;
+import com.fitlife.db.KeysetPager;
+import com.fitlife.db.ScreenTasks;
 import com.fitlife.model.Staff;
+import com.fitlife.repository.StaffRepository;
+import com.fitlife.service.RecordValidator;
 
-public class ManageStaffController {
+import java.util.List;
+import java.util.Locale;
+
+public class ManageStaffController implements CachedView {
 
     @FXML private TableView<Staff> staffTable;
-    @FXML private TableColumn<Staff, String> colId, colName, colGender, colRole, colContact, colEmail, colSalary;
+    @FXML private TableColumn<Staff, String> colId, colName, colGender, colRole, colContact, colEmail;
+    @FXML private TableColumn<Staff, Number> colSalary;
 
-    @FXML private TextField nameField, contactField, emailField, salaryField;
+    @FXML private TextField nameField, contactField, emailField, salaryField, searchField;
     @FXML private ComboBox<String> genderField, roleField;
 
     @FXML private Button backButton, exitButton;
+    @FXML private ProgressIndicator loadingIndicator;
+    @FXML private Button prevPageButton, nextPageButton;
+    @FXML private Label pageLabel;
 
     private ObservableList<Staff> staffList = FXCollections.observableArrayList();
+    private final ScreenTasks tasks = new ScreenTasks();
+    private final StaffRepository staffRepository = new StaffRepository();
+    private KeysetPager<Staff> pager;
+
+    // Live search runs in the page query, so it finds staff on every page, not just the one shown.
+    // Read on the background thread; replaced on the FX thread
+    private volatile String staffQuery = "";
+    private SearchDebouncer searchDebouncer;
     private AdminDashboardController dashboardController;
 
+    // Fields compared when an update loses to another desk
+    private static final List<ConflictDialog.Field<Staff>> CONFLICT_FIELDS = List.of(
+            ConflictDialog.field("Name", Staff::getName),
+            ConflictDialog.field("Gender", Staff::getGender),
+            ConflictDialog.field("Role", Staff::getRole),
+            ConflictDialog.field("Contact", Staff::getContact),
+            ConflictDialog.field("Email", Staff::getEmail),
+            ConflictDialog.field("Salary", Staff::getSalary));
+
     // Setter called from AdminDashboardController
     public void setDashboardController(AdminDashboardController controller) {
         this.dashboardController = controller;
@@ -36,17 +63,35 @@ public class ManageStaffController {
         colRole.setCellValueFactory(data -> data.getValue().roleProperty());
         colContact.setCellValueFactory(data -> data.getValue().contactProperty());
         colEmail.setCellValueFactory(data -> data.getValue().emailProperty());
-        colSalary.setCellValueFactory(data -> data.getValue().salaryProperty().asString());
+        colSalary.setCellValueFactory(data -> data.getValue().salaryProperty());
 
         // ✅ Make table columns resize evenly
         staffTable.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
 
+        // ✅ Background loads stop when the screen is left
+        tasks.bindTo(staffTable);
+        tasks.showWhileBusy(loadingIndicator);
+
+        // ✅ Page through staff by id instead of loading the whole table
+        pager = new KeysetPager<>(tasks, (afterId, limit) -> staffRepository.findPage(staffQuery, afterId, limit),
+                s -> Integer.parseInt(s.getId()),
+                staffList, KeysetPager.DEFAULT_PAGE_SIZE, ex -> {
+                    ex.printStackTrace();
+                    showAlert(Alert.AlertType.ERROR, "Database Error", ex.getMessage());
+                });
+        pager.bindControls(prevPageButton, nextPageButton, pageLabel);
+        staffTable.setItems(staffList);
+
+        // ✅ Search as you type
+        searchDebouncer = new SearchDebouncer(searchField, SearchDebouncer.DEFAULT_DELAY, this::filterStaff);
+        searchField.setOnAction(e -> searchDebouncer.flush());
+
         // ✅ Load staff data from the database
         loadStaffFromDatabase();
 
         // ✅ Initialize dropdowns
-        roleField.setItems(FXCollections.observableArrayList("Trainer", "Reception", "Cleaner", "Nutritionist"));
-        genderField.setItems(FXCollections.observableArrayList("Male", "Female"));
+        roleField.setItems(FXCollections.observableArrayList(RecordValidator.ROLES));
+        genderField.setItems(FXCollections.observableArrayList(RecordValidator.GENDERS));
 
         // ✅ Handle salary autofill based on role
         roleField.setOnAction(e -> setSalary());
@@ -60,32 +105,24 @@ public class ManageStaffController {
     }
 
 
-    // 🔹 Fetch all staff from DB
-    private void loadStaffFromDatabase() {
-        staffList.clear();
-        try (Connection conn = DatabaseUtil.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery("SELECT * FROM Staff")) {
-
-            while (rs.next()) {
-                staffList.add(new Staff(
-                        rs.getString("id"),
-                        rs.getString("name"),
-                        rs.getString("gender"),
-                        rs.getString("role"),
-                        rs.getString("contact"),
-                        rs.getString("email"),
-                        rs.getInt("salary")
-                ));
-            }
+    // 🔹 Re-entering the cached screen: re-pull the page being shown
+    @Override
+    public void onShow() {
+        pager.reload();
+    }
 
-            staffTable.setItems(null);
-            staffTable.layout();
-            staffTable.setItems(staffList);
+    // 🔹 Fetch the first page of staff from DB (off the FX thread)
+    private void loadStaffFromDatabase() {
+        pager.first();
+    }
 
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+    // 🔹 A new search starts again from the first page of matching staff
+    private void filterStaff(String query) {
+        String q = query.trim().toLowerCase(Locale.ROOT);
+        if (q.equals(staffQuery)) return;
+        staffQuery = q;
+        tasks.cancelAll(); // a slower page for the old search must not land after this one
+        pager.first();
     }
 
     // 🔹 Auto set salary by role
@@ -113,36 +150,26 @@ public class ManageStaffController {
             return; // Stop if any field fails validation
         }
 
-        try (Connection conn = DatabaseUtil.getConnection()) {
+        Staff staff = staffFromForm(null);
+
+        tasks.write(() -> {
             // Check if contact or email already exists
-            PreparedStatement check = conn.prepareStatement("SELECT * FROM Staff WHERE email=? OR contact=?");
-            check.setString(1, emailField.getText());
-            check.setString(2, contactField.getText());
-            ResultSet rs = check.executeQuery();
-            if (rs.next()) {
+            if (staffRepository.existsByEmailOrContact(staff.getEmail(), staff.getContact())) return false;
+            staffRepository.insert(staff);
+            return true;
+        }, inserted -> {
+            if (!inserted) {
                 showAlert(Alert.AlertType.WARNING, "Duplicate Entry",
                         "A staff member with this email or contact number already exists.");
                 return;
             }
-
-            PreparedStatement ps = conn.prepareStatement(
-                    "INSERT INTO Staff (name, gender, role, contact, email, salary) VALUES (?, ?, ?, ?, ?, ?)"
-            );
-            ps.setString(1, nameField.getText().trim());
-            ps.setString(2, genderField.getValue());
-            ps.setString(3, roleField.getValue());
-            ps.setString(4, contactField.getText().trim());
-            ps.setString(5, emailField.getText().trim());
-            ps.setInt(6, Integer.parseInt(salaryField.getText().trim()));
-
-            ps.executeUpdate();
             showAlert(Alert.AlertType.INFORMATION, "Success", "Staff added successfully!");
-            loadStaffFromDatabase();
+            pager.reload();
             clearFields();
-        } catch (Exception e) {
+        }, e -> {
             e.printStackTrace();
             showAlert(Alert.AlertType.ERROR, "Error", "Failed to add staff. Please check your input.");
-        }
+        });
     }
 
     // 🔹 Update selected staff
@@ -158,27 +185,53 @@ public class ManageStaffController {
             return; // Stop if any field fails validation
         }
 
-        try (Connection conn = DatabaseUtil.getConnection()) {
-            PreparedStatement ps = conn.prepareStatement(
-                    "UPDATE Staff SET name=?, gender=?, role=?, contact=?, email=?, salary=? WHERE id=?"
-            );
-            ps.setString(1, nameField.getText().trim());
-            ps.setString(2, genderField.getValue());
-            ps.setString(3, roleField.getValue());
-            ps.setString(4, contactField.getText().trim());
-            ps.setString(5, emailField.getText().trim());
-            ps.setInt(6, Integer.parseInt(salaryField.getText().trim()));
-            ps.setString(7, selected.getId());
-
-            ps.executeUpdate();
-            showAlert(Alert.AlertType.INFORMATION, "Success", "Staff record updated successfully!");
-            loadStaffFromDatabase();
-            clearFields();
-        } catch (Exception e) {
+        saveStaff(selected, staffFromForm(selected.getId()).withVersion(selected.getVersion()));
+    }
+
+    // 🔹 Versioned save; if another desk saved first, show the diff and let the user decide
+    private void saveStaff(Staff loaded, Staff staff) {
+        tasks.write(() -> staffRepository.update(staff), result -> {
+            if (result.applied()) {
+                showAlert(Alert.AlertType.INFORMATION, "Success", "Staff record updated successfully!");
+                pager.reload();
+                clearFields();
+                return;
+            }
+            if (result.isDeleted()) {
+                showAlert(Alert.AlertType.WARNING, "Record Deleted", "This staff member was deleted at another desk.");
+                pager.reload();
+                clearFields();
+                return;
+            }
+            Staff current = result.current();
+            switch (ConflictDialog.resolve("staff member", ConflictDialog.diff(CONFLICT_FIELDS, loaded, staff, current))) {
+                case OVERWRITE -> saveStaff(current, staff.withVersion(current.getVersion()));
+                case TAKE_THEIRS -> {
+                    showAlert(Alert.AlertType.INFORMATION, "Reloaded", "Showing the record as saved at the other desk.");
+                    pager.reload();
+                    clearFields();
+                }
+                case KEEP_EDITING -> {
+                }
+            }
+        }, e -> {
             e.printStackTrace();
             showAlert(Alert.AlertType.ERROR, "Error", "Failed to update staff record.");
-        }
+        });
     }
+    // 🔹 Build a Staff record from the (already validated) form
+    private Staff staffFromForm(String id) {
+        return new Staff(
+                id,
+                nameField.getText().trim(),
+                genderField.getValue(),
+                roleField.getValue(),
+                contactField.getText().trim(),
+                emailField.getText().trim(),
+                Integer.parseInt(salaryField.getText().trim())
+        );
+    }
+
     // 🔹 Validate input fields with regex + field highlighting
     private boolean validateInputs() {
         // Reset borders
@@ -189,11 +242,6 @@ public class ManageStaffController {
         genderField.setStyle(null);
         roleField.setStyle(null);
 
-        // Regex patterns
-        String emailRegex = "^[\\w.-]+@[\\w.-]+\\.\\w+$";
-        String contactRegex = "\\d{10}";
-        String salaryRegex = "\\d+";
-
         if (nameField.getText().trim().isEmpty()) {
             highlightError(nameField, "Name cannot be empty.");
             return false;
@@ -206,15 +254,15 @@ public class ManageStaffController {
             highlightError(roleField, "Please select a role.");
             return false;
         }
-        if (!contactField.getText().matches(contactRegex)) {
+        if (!RecordValidator.isContact(contactField.getText())) {
             highlightError(contactField, "Enter a valid 10-digit contact number (e.g., 0771234567).");
             return false;
         }
-        if (!emailField.getText().matches(emailRegex)) {
+        if (!RecordValidator.isEmail(emailField.getText())) {
             highlightError(emailField, "Enter a valid email address (e.g., user@mail.com).");
             return false;
         }
-        if (!salaryField.getText().matches(salaryRegex)) {
+        if (!RecordValidator.isWholeNumber(salaryField.getText())) {
             highlightError(salaryField, "Salary must be a number.");
             return false;
         }
@@ -237,18 +285,15 @@ public class ManageStaffController {
             return;
         }
 
-        try (Connection conn = DatabaseUtil.getConnection()) {
-            PreparedStatement ps = conn.prepareStatement("DELETE FROM Staff WHERE id=?");
-            ps.setString(1, selected.getId());
-            ps.executeUpdate();
-
+        String id = selected.getId();
+        tasks.write(() -> staffRepository.delete(id), rows -> {
             showAlert(Alert.AlertType.INFORMATION, "Deleted", "Staff record deleted successfully!");
-            loadStaffFromDatabase();
+            pager.reload();
             clearFields();
-        } catch (Exception e) {
+        }, e -> {
             e.printStackTrace();
             showAlert(Alert.AlertType.ERROR, "Error", "Failed to delete staff record.");
-        }
+        });
     }
 
     // 🔹 Fill form when a table row is clicked
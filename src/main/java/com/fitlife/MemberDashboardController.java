@@ -1,25 +1,47 @@
 package com.fitlife;
 
-import javafx.application.Platform;
+import com.fitlife.model.Booking;
+import com.fitlife.model.UserSession;
+import com.fitlife.service.SessionEvents;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
 import javafx.scene.control.Alert;
 import javafx.scene.control.ButtonBar;
 import javafx.scene.control.ButtonType;
 import javafx.scene.control.DialogPane;
 import javafx.scene.layout.BorderPane;
-import javafx.scene.layout.Pane;
+
+import java.time.format.DateTimeFormatter;
+import java.util.function.Consumer;
 
 public class MemberDashboardController {
 
+    private static final DateTimeFormatter DAY = DateTimeFormatter.ofPattern("EEE d MMM");
+
     @FXML
     private BorderPane mainBorderPane;
 
+    private final Consumer<SessionEvents.Event> sessionListener = this::onSessionEvent;
+
     @FXML
     public void initialize() {
+        SessionEvents.getInstance().addListener(sessionListener);
         showHome();
     }
 
+    // ✅ A cancellation at any terminal gave this window's member a waitlisted place
+    private void onSessionEvent(SessionEvents.Event e) {
+        if (e.kind() != SessionEvents.Kind.PROMOTED || mainBorderPane.getScene() == null) return;
+        UserSession session = SessionManager.of(mainBorderPane.getScene().getWindow());
+        if (session == null || session.userId() != e.userId()) return;
+        Booking b = e.booking();
+        Alert alert = new Alert(Alert.AlertType.INFORMATION);
+        alert.setTitle("Waitlist");
+        alert.setHeaderText("A place opened up!");
+        alert.setContentText("You are now booked into " + b.getProgram() + " on " + b.getStartDate().format(DAY)
+                + " (booking " + b.getFormattedBookingId() + " for " + b.getFullName() + ").");
+        alert.show();
+    }
+
     public void showHome() {
         loadCenterView("/MemberHome.fxml", controller -> {
             if (controller instanceof MemberHomeController homeController) {
@@ -30,14 +52,10 @@ public class MemberDashboardController {
 
     private void loadCenterView(String fxmlPath, java.util.function.Consumer<Object> controllerHandler) {
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource(fxmlPath));
-            Pane view = loader.load();
-
-            Object controller = loader.getController();
+            // ✅ Parsed once per session, then reused (see ViewRegistry)
+            Object controller = ViewRegistry.show(mainBorderPane, fxmlPath);
             if (controllerHandler != null)
                 controllerHandler.accept(controller);
-
-            mainBorderPane.setCenter(view);
         } catch (Exception e) {
             e.printStackTrace();
             showAlert("Error loading view: " + fxmlPath);
@@ -46,17 +64,12 @@ public class MemberDashboardController {
 
     @FXML
     private void logout() {
+        // ✅ Get current window (stage)
+        javafx.stage.Stage stage = (javafx.stage.Stage) mainBorderPane.getScene().getWindow();
+        SessionManager.close(stage); // ✅ Only this terminal's session
         try {
-            // ✅ Adjust the path if your FXML is inside a subfolder
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/MainApp.fxml"));
-            Pane loginRoot = loader.load();
-
-            // ✅ Get current window (stage)
-            javafx.stage.Stage stage = (javafx.stage.Stage) mainBorderPane.getScene().getWindow();
-
-            // ✅ Replace the full scene
-            javafx.scene.Scene scene = new javafx.scene.Scene(loginRoot);
-            stage.setScene(scene);
+            // ✅ Swap the full window back to the (cached) login screen
+            ViewRegistry.showScene(stage, "/MainApp.fxml");
             stage.setTitle("FitLife Login");
             stage.show();
         } catch (Exception e) {
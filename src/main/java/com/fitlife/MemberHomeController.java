@@ -1,9 +1,7 @@
 package com.fitlife;
 
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
 import javafx.scene.layout.BorderPane;
-import javafx.scene.layout.Pane;
 
 public class MemberHomeController {
 
@@ -23,14 +21,15 @@ public class MemberHomeController {
         loadPage("ViewPrograms.fxml");
     }
 
+    @FXML
+    private void openClassCalendar() {
+        loadPage("SessionCalendar.fxml");
+    }
+
     private void loadPage(String fxml) {
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/" + fxml));
-            Pane view = loader.load();
-
             BorderPane mainPane = dashboardController.getMainBorderPane();
-            mainPane.setCenter(view);
-
+            ViewRegistry.show(mainPane, "/" + fxml); // ✅ Reused after the first visit
         } catch (Exception e) {
             e.printStackTrace();
             System.err.println("❌ Error loading " + fxml);
@@ -0,0 +1,78 @@
+package com.fitlife;
+
+import com.fitlife.model.Program;
+import com.fitlife.service.ProgramCatalog;
+import javafx.beans.binding.Bindings;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
+import javafx.scene.control.TableView;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Live, ranked program filter for a TableView.
+ * One FilteredList/SortedList pair wraps the screen's program list for its whole lifetime;
+ * a query only swaps the predicate. When the new query extends the previous one, the index
+ * is searched within the previous matches instead of the whole catalog.
+ */
+public class ProgramSearchFilter {
+
+    private final ProgramCatalog catalog;
+    private final FilteredList<Program> filtered;
+    private final SortedList<Program> sorted;
+    private final ObjectProperty<Comparator<Program>> rankOrder = new SimpleObjectProperty<>();
+
+    private String lastQuery = "";
+    private Set<String> lastMatches; // null = no filter
+
+    public ProgramSearchFilter(ObservableList<Program> source, ProgramCatalog catalog) {
+        this.catalog = catalog;
+        this.filtered = new FilteredList<>(source);
+        this.sorted = new SortedList<>(filtered);
+    }
+
+    // ✅ Show the filtered view in the table; column sorting wins over search rank
+    public void attach(TableView<Program> table) {
+        sorted.comparatorProperty().bind(Bindings.createObjectBinding(
+                () -> table.getComparator() != null ? table.getComparator() : rankOrder.get(),
+                table.comparatorProperty(), rankOrder));
+        table.setSortPolicy(t -> true); // the SortedList does the sorting
+        table.setItems(sorted);
+    }
+
+    public void apply(String query) {
+        query = query == null ? "" : query.trim();
+        if (query.isEmpty()) {
+            lastQuery = "";
+            lastMatches = null;
+            filtered.setPredicate(null);
+            rankOrder.set(null);
+            return;
+        }
+
+        Set<String> within = lastMatches != null && query.startsWith(lastQuery) ? lastMatches : null;
+        List<Program> results = catalog.search(query, within);
+
+        Map<String, Integer> rank = new HashMap<>(results.size() * 2);
+        for (int i = 0; i < results.size(); i++) rank.put(results.get(i).getId(), i);
+
+        lastQuery = query;
+        lastMatches = rank.keySet();
+        filtered.setPredicate(p -> rank.containsKey(p.getId()));
+        rankOrder.set(Comparator.comparingInt(p -> rank.getOrDefault(p.getId(), Integer.MAX_VALUE)));
+    }
+
+    // ✅ Source list changed (catalog reload/add/update/delete): search the full index again
+    public void reapply() {
+        String query = lastQuery;
+        lastMatches = null;
+        apply(query);
+    }
+}
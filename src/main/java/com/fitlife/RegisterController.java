@@ -1,19 +1,35 @@
 package com.fitlife;
 
+import com.fitlife.db.ScreenTasks;
+import com.fitlife.service.AuthService;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Scene;
 import javafx.scene.control.*;
 import javafx.stage.Stage;
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 
-public class RegisterController {
+public class RegisterController implements CachedView {
 
     @FXML private TextField usernameField;
     @FXML private PasswordField passwordField;
     @FXML private PasswordField confirmPasswordField;
+    @FXML private Button registerBtn;
+    @FXML private ProgressIndicator loadingIndicator;
+
+    private final ScreenTasks tasks = new ScreenTasks();
+    private final AuthService auth = AuthService.getInstance();
+
+    @FXML
+    public void initialize() {
+        tasks.showWhileBusy(loadingIndicator);
+        registerBtn.disableProperty().bind(tasks.busyProperty());
+    }
+
+    // ✅ Cached screen shown again: start from an empty form
+    @Override
+    public void onShow() {
+        usernameField.clear();
+        passwordField.clear();
+        confirmPasswordField.clear();
+    }
 
     // ✅ Handle Register Button
     @FXML
@@ -32,42 +48,26 @@ public class RegisterController {
             return;
         }
 
-        try (Connection conn = DatabaseUtil.getConnection()) {
-            // Check if username already exists
-            String checkSql = "SELECT COUNT(*) FROM `Login` WHERE LOWER(`username`) = LOWER(?)";
-            PreparedStatement checkStmt = conn.prepareStatement(checkSql);
-            checkStmt.setString(1, username);
-            ResultSet rs = checkStmt.executeQuery();
-            rs.next();
-            if (rs.getInt(1) > 0) {
+        // ✅ Password is hashed (salted PBKDF2) before the new 'member' row is inserted
+        tasks.await(auth.register(username, password), created -> {
+            if (!created) {
                 showAlert(Alert.AlertType.WARNING, "Username Exists", "That username is already taken.");
                 return;
             }
-
-            // Insert new user with 'member' role
-            String insertSql = "INSERT INTO `Login` (`username`, `password`, `type`) VALUES (?, ?, 'member')";
-            PreparedStatement stmt = conn.prepareStatement(insertSql);
-            stmt.setString(1, username);
-            stmt.setString(2, password);
-            stmt.executeUpdate();
-
             showAlert(Alert.AlertType.INFORMATION, "Success", "Account created successfully!");
             goBackToLogin();
-
-        } catch (Exception e) {
+        }, e -> {
             e.printStackTrace();
             showAlert(Alert.AlertType.ERROR, "Database Error", "Could not create account.\n" + e.getMessage());
-        }
+        });
     }
 
     // ✅ Go Back to Login
     @FXML
     private void goBackToLogin() {
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/MainApp.fxml"));
-            Scene scene = new Scene(loader.load());
             Stage stage = (Stage) usernameField.getScene().getWindow();
-            stage.setScene(scene);
+            ViewRegistry.showScene(stage, "/MainApp.fxml");
             stage.setTitle("Login");
         } catch (Exception e) {
             e.printStackTrace();
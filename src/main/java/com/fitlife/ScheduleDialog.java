@@ -0,0 +1,138 @@
+package com.fitlife;
+
+import com.fitlife.model.ScheduleSlot;
+import com.fitlife.service.RecordValidator;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.geometry.Insets;
+import javafx.scene.control.Button;
+import javafx.scene.control.ButtonType;
+import javafx.scene.control.ComboBox;
+import javafx.scene.control.Dialog;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.control.TextField;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+import javafx.util.StringConverter;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.time.format.TextStyle;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Edits the weekly timetable of one program (admin). Returns only what changed: slots to
+ * remove and new slots to add (id 0), so booked sessions of untouched slots stay as they are.
+ */
+public final class ScheduleDialog {
+
+    /** Changes to save with {@code ScheduleService.saveSlots}. */
+    public record Changes(List<ScheduleSlot> removed, List<ScheduleSlot> added) {
+        public boolean isEmpty() {
+            return removed.isEmpty() && added.isEmpty();
+        }
+    }
+
+    private static final Comparator<ScheduleSlot> ORDER =
+            Comparator.comparing(ScheduleSlot::day).thenComparing(ScheduleSlot::start);
+
+    private ScheduleDialog() {
+    }
+
+    public static Optional<Changes> edit(String programName, int programId, List<ScheduleSlot> current) {
+        ObservableList<ScheduleSlot> slots = FXCollections.observableArrayList(current);
+        slots.sort(ORDER);
+        ListView<ScheduleSlot> list = new ListView<>(slots);
+        list.setPrefHeight(220);
+        list.setCellFactory(v -> new ListCell<>() {
+            @Override
+            protected void updateItem(ScheduleSlot slot, boolean empty) {
+                super.updateItem(slot, empty);
+                setText(empty || slot == null ? null : slot.describe());
+            }
+        });
+
+        ComboBox<DayOfWeek> dayField = new ComboBox<>(FXCollections.observableArrayList(DayOfWeek.values()));
+        dayField.setConverter(new StringConverter<>() {
+            @Override
+            public String toString(DayOfWeek day) {
+                return day == null ? "" : day.getDisplayName(TextStyle.SHORT, Locale.getDefault());
+            }
+
+            @Override
+            public DayOfWeek fromString(String text) {
+                return null;
+            }
+        });
+        dayField.setValue(DayOfWeek.MONDAY);
+        TextField timeField = field("07:00", 60);
+        TextField durationField = field("60", 50);
+        TextField capacityField = field("12", 50);
+        Label error = new Label();
+        error.setStyle("-fx-text-fill: #c0392b;");
+
+        Button add = new Button("Add");
+        add.setOnAction(e -> {
+            error.setText("");
+            LocalTime start;
+            try {
+                start = LocalTime.parse(timeField.getText().trim());
+            } catch (DateTimeParseException ex) {
+                error.setText("Time must be HH:mm, e.g. 07:30.");
+                return;
+            }
+            if (!RecordValidator.isPositiveNumber(durationField.getText().trim())
+                    || !RecordValidator.isPositiveNumber(capacityField.getText().trim())) {
+                error.setText("Duration and capacity must be positive numbers.");
+                return;
+            }
+            for (ScheduleSlot s : slots) {
+                if (s.day() == dayField.getValue() && s.start().equals(start)) {
+                    error.setText("There is already a class at that time.");
+                    return;
+                }
+            }
+            slots.add(new ScheduleSlot(0, programId, dayField.getValue(), start,
+                    Integer.parseInt(durationField.getText().trim()),
+                    Integer.parseInt(capacityField.getText().trim())));
+            slots.sort(ORDER);
+        });
+        Button remove = new Button("Remove");
+        remove.disableProperty().bind(list.getSelectionModel().selectedItemProperty().isNull());
+        remove.setOnAction(e -> slots.remove(list.getSelectionModel().getSelectedItem()));
+
+        HBox inputs = new HBox(8, dayField, timeField, new Label("min"), durationField,
+                new Label("places"), capacityField, add, remove);
+        VBox content = new VBox(8, list, inputs, error,
+                new Label("Removing a slot drops its future classes that nobody has booked yet."));
+        content.setPadding(new Insets(8, 0, 0, 0));
+
+        Dialog<ButtonType> dialog = new Dialog<>();
+        dialog.setTitle("Class Timetable");
+        dialog.setHeaderText("Weekly classes of " + programName);
+        dialog.getDialogPane().setContent(content);
+        dialog.getDialogPane().getButtonTypes().addAll(ButtonType.OK, ButtonType.CANCEL);
+        if (dialog.showAndWait().orElse(ButtonType.CANCEL) != ButtonType.OK) return Optional.empty();
+
+        List<ScheduleSlot> removed = new ArrayList<>(current);
+        removed.removeAll(slots);
+        List<ScheduleSlot> added = new ArrayList<>();
+        for (ScheduleSlot s : slots) {
+            if (s.id() == 0) added.add(s);
+        }
+        return Optional.of(new Changes(removed, added));
+    }
+
+    private static TextField field(String text, double width) {
+        TextField field = new TextField(text);
+        field.setPrefWidth(width);
+        return field;
+    }
+}
@@ -0,0 +1,49 @@
+package com.fitlife;
+
+import javafx.animation.PauseTransition;
+import javafx.scene.control.TextField;
+import javafx.util.Duration;
+
+import java.util.function.Consumer;
+
+/**
+ * Search-as-you-type for a TextField.
+ * Each keystroke restarts the pause, so a pending search is dropped as soon as a newer
+ * keystroke arrives and only the last query of a burst is run (on the FX thread).
+ */
+public class SearchDebouncer {
+
+    public static final Duration DEFAULT_DELAY = Duration.millis(150);
+
+    private final TextField field;
+    private final PauseTransition pause;
+    private final Consumer<String> onQuery;
+    private String lastQuery = "";
+
+    public SearchDebouncer(TextField field, Duration delay, Consumer<String> onQuery) {
+        this.field = field;
+        this.onQuery = onQuery;
+        this.pause = new PauseTransition(delay);
+        pause.setOnFinished(e -> run());
+        field.textProperty().addListener((obs, oldText, newText) -> pause.playFromStart());
+    }
+
+    // ✅ Run the current query now (e.g. on Enter)
+    public void flush() {
+        pause.stop();
+        run();
+    }
+
+    // ✅ Re-run the current query even if it hasn't changed (data underneath changed)
+    public void rerun() {
+        lastQuery = null;
+        flush();
+    }
+
+    private void run() {
+        String query = field.getText() == null ? "" : field.getText().trim();
+        if (query.equals(lastQuery)) return;
+        lastQuery = query;
+        onQuery.accept(query);
+    }
+}
@@ -0,0 +1,287 @@
+package com.fitlife;
+
+import com.fitlife.db.ScreenTasks;
+import com.fitlife.model.ClassSession;
+import com.fitlife.model.Program;
+import com.fitlife.model.UserSession;
+import com.fitlife.service.ProgramCatalog;
+import com.fitlife.service.ScheduleService;
+import com.fitlife.service.SessionEvents;
+import javafx.fxml.FXML;
+import javafx.scene.control.Alert;
+import javafx.scene.control.ButtonType;
+import javafx.scene.control.ComboBox;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressIndicator;
+import javafx.scene.control.Tooltip;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.ColumnConstraints;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.RowConstraints;
+import javafx.scene.layout.VBox;
+import javafx.stage.Stage;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.TextStyle;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * Month calendar of class sessions with live availability for members.
+ * The 6 x 7 day cells are built once and refilled per month; a month is one background
+ * read of ClassSession (occupancy is precomputed), so paging months stays quick.
+ * Seat changes made at any terminal arrive as {@link SessionEvents} and reload the month.
+ */
+public class SessionCalendarController implements CachedView {
+
+    private static final int WEEKS = 6;
+    private static final int MAX_PER_DAY = 4;  // the rest go in a "+N more" tooltip
+    private static final int FEW_LEFT = 3;
+    private static final String ALL_PROGRAMS = "All programs";
+    private static final DateTimeFormatter MONTH = DateTimeFormatter.ofPattern("MMMM yyyy");
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm");
+
+    @FXML private GridPane calendarGrid;
+    @FXML private ComboBox<String> programFilter;
+    @FXML private Label monthLabel;
+    @FXML private ProgressIndicator loadingIndicator;
+
+    private final ScreenTasks tasks = new ScreenTasks();
+    private final ScheduleService schedule = ScheduleService.getInstance();
+    private final ProgramCatalog catalog = ProgramCatalog.getInstance();
+    private final Consumer<List<Program>> catalogListener = programs -> loadProgramNames();
+    private final Consumer<SessionEvents.Event> sessionListener = event -> loadMonth();
+    // ✅ Captured while the screen loads, so background work always uses this terminal's member
+    private final UserSession session = SessionManager.current();
+
+    private final VBox[] dayCells = new VBox[WEEKS * 7];
+    private YearMonth month = YearMonth.now();
+    private ScheduleService.MonthView view;
+
+    @FXML
+    public void initialize() {
+        tasks.bindTo(calendarGrid);
+        tasks.showWhileBusy(loadingIndicator);
+        buildGrid();
+
+        programFilter.valueProperty().addListener((obs, o, n) -> render());
+        catalog.addListener(catalogListener);
+        SessionEvents.getInstance().addListener(sessionListener);
+        loadProgramNames();
+        loadMonth();
+    }
+
+    // 🔹 Back on the cached screen: seats may have been taken since
+    @Override
+    public void onShow() {
+        loadMonth();
+    }
+
+    // 🔹 Weekday headers and the reusable day cells
+    private void buildGrid() {
+        for (int c = 0; c < 7; c++) {
+            ColumnConstraints col = new ColumnConstraints();
+            col.setPercentWidth(100.0 / 7);
+            calendarGrid.getColumnConstraints().add(col);
+            Label header = new Label(DayOfWeek.of(c + 1).getDisplayName(TextStyle.SHORT, Locale.getDefault()));
+            header.getStyleClass().add("calendar-header");
+            header.setMaxWidth(Double.MAX_VALUE);
+            calendarGrid.add(header, c, 0);
+        }
+        calendarGrid.getRowConstraints().add(new RowConstraints());
+        for (int r = 0; r < WEEKS; r++) {
+            RowConstraints row = new RowConstraints();
+            row.setVgrow(Priority.ALWAYS);
+            row.setFillHeight(true);
+            calendarGrid.getRowConstraints().add(row);
+        }
+        for (int i = 0; i < dayCells.length; i++) {
+            VBox cell = new VBox();
+            cell.getStyleClass().add("calendar-day");
+            cell.setMaxSize(Double.MAX_VALUE, Double.MAX_VALUE);
+            dayCells[i] = cell;
+            calendarGrid.add(cell, i % 7, i / 7 + 1);
+        }
+    }
+
+    private void loadProgramNames() {
+        tasks.await(catalog.getProgramNames(), names -> {
+            String selected = programFilter.getValue();
+            List<String> items = new ArrayList<>(names.size() + 1);
+            items.add(ALL_PROGRAMS);
+            items.addAll(names);
+            programFilter.getItems().setAll(items);
+            programFilter.setValue(selected != null && items.contains(selected) ? selected : ALL_PROGRAMS);
+        }, e -> e.printStackTrace());
+    }
+
+    private void loadMonth() {
+        YearMonth requested = month;
+        monthLabel.setText(requested.format(MONTH));
+        int userId = session == null ? 0 : session.userId();
+        tasks.run(() -> schedule.month(requested, userId), v -> {
+            if (!v.month().equals(month)) return; // the user already paged on
+            view = v;
+            render();
+        }, e -> {
+            e.printStackTrace();
+            showAlert(Alert.AlertType.ERROR, "Database Error", "Unable to load the class calendar.");
+        });
+    }
+
+    @FXML
+    private void previousMonth() {
+        month = month.minusMonths(1);
+        loadMonth();
+    }
+
+    @FXML
+    private void nextMonth() {
+        month = month.plusMonths(1);
+        loadMonth();
+    }
+
+    @FXML
+    private void thisMonth() {
+        month = YearMonth.now();
+        loadMonth();
+    }
+
+    // 🔹 Refill the day cells from the loaded month (no database access)
+    private void render() {
+        LocalDate first = month.atDay(1).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        LocalDate today = LocalDate.now();
+        String program = programFilter.getValue();
+        boolean allPrograms = program == null || ALL_PROGRAMS.equals(program);
+
+        for (int i = 0; i < dayCells.length; i++) {
+            LocalDate date = first.plusDays(i);
+            VBox cell = dayCells[i];
+            cell.getChildren().clear();
+            cell.getStyleClass().setAll("calendar-day");
+            if (!YearMonth.from(date).equals(month)) cell.getStyleClass().add("calendar-day-outside");
+            if (date.equals(today)) cell.getStyleClass().add("calendar-today");
+
+            Label dateLabel = new Label(String.valueOf(date.getDayOfMonth()));
+            dateLabel.getStyleClass().add("calendar-date");
+            cell.getChildren().add(dateLabel);
+
+            List<ClassSession> sessions = view == null ? List.of() : view.byDay().getOrDefault(date, List.of());
+            List<ClassSession> hidden = new ArrayList<>();
+            int shown = 0;
+            for (ClassSession s : sessions) {
+                if (!allPrograms && !program.equals(s.programName())) continue;
+                if (shown < MAX_PER_DAY) {
+                    cell.getChildren().add(sessionLabel(s));
+                    shown++;
+                } else {
+                    hidden.add(s);
+                }
+            }
+            if (!hidden.isEmpty()) {
+                Label more = new Label("+" + hidden.size() + " more");
+                StringBuilder tip = new StringBuilder();
+                for (ClassSession s : hidden) tip.append(describe(s)).append('\n');
+                more.setTooltip(new Tooltip(tip.toString().trim()));
+                cell.getChildren().add(more);
+            }
+        }
+    }
+
+    private Label sessionLabel(ClassSession s) {
+        boolean mine = view.mine().contains(s.id());
+        Integer position = view.waiting().get(s.id());
+        String text = s.startsAt().format(TIME) + " " + s.programName();
+        String style;
+        if (mine) {
+            text = "✓ " + text;
+            style = "session-mine";
+        } else if (position != null) {
+            text = "⏳ " + text + " · #" + position;
+            style = "session-waiting";
+        } else {
+            text = text + " · " + s.available();
+            style = s.isFull() ? "session-full" : s.available() <= FEW_LEFT ? "session-few" : "session-open";
+        }
+        Label label = new Label(text);
+        label.setMaxWidth(Double.MAX_VALUE);
+        label.getStyleClass().add(style);
+        label.setTooltip(new Tooltip(describe(s)));
+        label.setOnMouseClicked(e -> sessionClicked(s, mine, position != null));
+        return label;
+    }
+
+    private static String describe(ClassSession s) {
+        return s.programName() + " " + s.startsAt().format(TIME) + "–" + s.endsAt().format(TIME)
+                + ", " + s.available() + " of " + s.capacity() + " places left";
+    }
+
+    // 🔹 Book a class (or join its waitlist when full): open the booking form with this session filled in
+    private void sessionClicked(ClassSession s, boolean mine, boolean waiting) {
+        if (mine) {
+            showAlert(Alert.AlertType.INFORMATION, "Already Booked", "You already have a place in this class.");
+            return;
+        }
+        if (waiting) {
+            leaveWaitlist(s);
+            return;
+        }
+        if (!s.startsAt().isAfter(LocalDateTime.now())) {
+            showAlert(Alert.AlertType.INFORMATION, "Class Started", "This class has already started.");
+            return;
+        }
+        try {
+            BorderPane mainPane = (BorderPane) calendarGrid.getScene().getRoot();
+            ManageBookingController bookings = ViewRegistry.show(mainPane, "/ManageBookings.fxml");
+            bookings.bookSession(s);
+        } catch (Exception e) {
+            e.printStackTrace();
+            showAlert(Alert.AlertType.ERROR, "Navigation Error", "Unable to open the booking form.");
+        }
+    }
+
+    private void leaveWaitlist(ClassSession s) {
+        Alert confirm = new Alert(Alert.AlertType.CONFIRMATION,
+                "You are on the waitlist for this class. Leave the waitlist?", ButtonType.YES, ButtonType.NO);
+        confirm.setHeaderText(null);
+        if (confirm.showAndWait().orElse(ButtonType.NO) != ButtonType.YES) return;
+
+        int userId = session == null ? 0 : session.userId();
+        // The month reloads on the LEFT_WAITLIST event the service publishes
+        tasks.write(() -> schedule.leaveWaitlist(userId, s.id()), null,
+                e -> {
+                    e.printStackTrace();
+                    showAlert(Alert.AlertType.ERROR, "Database Error", "Unable to leave the waitlist.");
+                });
+    }
+
+    @FXML
+    private void goBack() {
+        try {
+            Stage stage = (Stage) calendarGrid.getScene().getWindow();
+            // ✅ Back to the cached member dashboard instead of re-parsing it
+            MemberDashboardController dashboard = ViewRegistry.showScene(stage, "/member_dashboard.fxml");
+            dashboard.showHome();
+            stage.setTitle("Member Main Menu");
+        } catch (Exception e) {
+            e.printStackTrace();
+            showAlert(Alert.AlertType.ERROR, "Navigation Error", "Unable to go back to main menu.");
+        }
+    }
+
+    private void showAlert(Alert.AlertType type, String title, String message) {
+        Alert alert = new Alert(type);
+        alert.setTitle(title);
+        alert.setHeaderText(null);
+        alert.setContentText(message);
+        alert.showAndWait();
+    }
+}
@@ -1,35 +1,191 @@
 package com.fitlife;
 
+import com.fitlife.model.User;
+import com.fitlife.model.UserSession;
+import javafx.application.Platform;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.input.MouseEvent;
+import javafx.stage.Window;
+
+import java.lang.ref.WeakReference;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Registry of logged-in sessions, one per terminal window (e.g. the reception PC and a
+ * self-service kiosk window in the same JVM).
+ * Sessions are immutable {@link UserSession} snapshots in a concurrent map, so reads from any
+ * thread are lock-free; screens should capture {@link #current()} once while loading and pass
+ * that snapshot (not the static getters) into background work.
+ * "Current" follows the focused window. Sessions idle for longer than
+ * -Dfitlife.session.idleMinutes (default 15, 0 = never) are closed by a background scheduler
+ * and their window is handed to the expiry handler.
+ */
 public class SessionManager {
 
-    private static int userId;
-    private static String username;
-    private static String role;
+    private static final String SESSION_KEY = "fitlife.sessionId";
+    private static final String TRACKED_KEY = "fitlife.sessionTracked";
+
+    private static final long IDLE_TIMEOUT_NANOS =
+            TimeUnit.MINUTES.toNanos(Math.max(0, Long.getLong("fitlife.session.idleMinutes", 15)));
+    private static final long TOUCH_GRANULARITY_NANOS = TimeUnit.SECONDS.toNanos(1);
 
-    // --- Set user session after login ---
-    public static void setSession(int id, String user, String userRole) {
-        userId = id;
-        username = user;
-        role = userRole;
+    private static final Map<String, UserSession> sessions = new ConcurrentHashMap<>();
+    private static final Map<String, WeakReference<Window>> windows = new ConcurrentHashMap<>();
+    private static volatile String currentId;
+    private static volatile BiConsumer<UserSession, Window> expiryHandler;
+    private static ScheduledExecutorService reaper;
+
+    private SessionManager() {
     }
 
-    // --- Getters ---
+    // --- Open a session for the window the user logged in from (FX thread) ---
+    public static UserSession open(Window window, User user) {
+        String previous = (String) window.getProperties().get(SESSION_KEY);
+        if (previous != null) close(previous);
+
+        UserSession session = new UserSession(UUID.randomUUID().toString(), user.getId(), user.getUsername(),
+                user.getRole(), terminalName(window), Instant.now(), System.nanoTime());
+        sessions.put(session.id(), session);
+        windows.put(session.id(), new WeakReference<>(window));
+        window.getProperties().put(SESSION_KEY, session.id());
+        track(window);
+        currentId = session.id();
+        startReaper();
+        return session;
+    }
+
+    // --- Snapshots (safe from any thread) ---
+
+    // ✅ Session of the focused terminal window, or null when it is at the login screen
+    public static UserSession current() {
+        String id = currentId;
+        return id == null ? null : sessions.get(id);
+    }
+
+    public static UserSession get(String sessionId) {
+        return sessionId == null ? null : sessions.get(sessionId);
+    }
+
+    // ✅ Session logged in on a given terminal window (null at the login screen)
+    public static UserSession of(Window window) {
+        return get((String) window.getProperties().get(SESSION_KEY));
+    }
+
+    public static List<UserSession> getSessions() {
+        return List.copyOf(sessions.values());
+    }
+
+    // --- Shortcuts for the current session (0 / null when logged out) ---
     public static int getUserId() {
-        return userId;
+        UserSession s = current();
+        return s == null ? 0 : s.userId();
     }
 
     public static String getUsername() {
-        return username;
+        UserSession s = current();
+        return s == null ? null : s.username();
     }
 
     public static String getRole() {
-        return role;
+        UserSession s = current();
+        return s == null ? null : s.role();
+    }
+
+    // --- Close sessions (on logout) ---
+    public static void close(Window window) {
+        Object id = window.getProperties().remove(SESSION_KEY);
+        if (id != null) close((String) id);
+    }
+
+    public static void close(String sessionId) {
+        sessions.remove(sessionId);
+        windows.remove(sessionId);
+        if (sessionId.equals(currentId)) currentId = null;
+        ViewRegistry.evictSession(sessionId); // cached screens hold this member's data
+    }
+
+    // 🔹 ViewRegistry: make a window's session current while its screens are built (FX thread)
+    static String switchCurrent(String sessionId) {
+        String previous = currentId;
+        currentId = sessionId;
+        return previous;
     }
 
-    // --- Clear session (on logout) ---
     public static void clearSession() {
-        userId = 0;
-        username = null;
-        role = null;
+        String id = currentId;
+        if (id == null) return;
+        WeakReference<Window> ref = windows.get(id);
+        Window window = ref == null ? null : ref.get();
+        if (window != null) {
+            close(window);
+        } else {
+            close(id);
+        }
+    }
+
+    // ✅ Called on the FX thread with the expired session and its window (if still open)
+    public static void setExpiryHandler(BiConsumer<UserSession, Window> handler) {
+        expiryHandler = handler;
+    }
+
+    // --- Activity tracking ---
+    public static void touch(String sessionId) {
+        if (sessionId == null) return;
+        long now = System.nanoTime();
+        sessions.computeIfPresent(sessionId, (id, s) ->
+                now - s.lastActiveNanos() < TOUCH_GRANULARITY_NANOS ? s : s.touchedAt(now));
+    }
+
+    // 🔹 Once per window: focus decides "current", input counts as activity
+    private static void track(Window window) {
+        if (window.getProperties().putIfAbsent(TRACKED_KEY, Boolean.TRUE) != null) return;
+        window.focusedProperty().addListener((obs, was, focused) -> {
+            if (focused) currentId = (String) window.getProperties().get(SESSION_KEY);
+        });
+        window.addEventFilter(MouseEvent.MOUSE_PRESSED, e -> touch((String) window.getProperties().get(SESSION_KEY)));
+        window.addEventFilter(KeyEvent.KEY_PRESSED, e -> touch((String) window.getProperties().get(SESSION_KEY)));
+    }
+
+    private static String terminalName(Window window) {
+        Object name = window.getProperties().get("fitlife.terminal");
+        return name == null ? "Terminal" : name.toString();
+    }
+
+    // --- Idle timeout ---
+    private static synchronized void startReaper() {
+        if (reaper != null || IDLE_TIMEOUT_NANOS == 0) return;
+        reaper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "fitlife-session-reaper");
+            t.setDaemon(true);
+            return t;
+        });
+        long period = Math.max(TimeUnit.SECONDS.toNanos(5), Math.min(TimeUnit.MINUTES.toNanos(1), IDLE_TIMEOUT_NANOS / 4));
+        reaper.scheduleWithFixedDelay(SessionManager::expireIdle, period, period, TimeUnit.NANOSECONDS);
+    }
+
+    static void expireIdle() {
+        long now = System.nanoTime();
+        for (UserSession s : sessions.values()) {
+            if (now - s.lastActiveNanos() < IDLE_TIMEOUT_NANOS) continue;
+            // Only expire the snapshot we looked at; a concurrent touch keeps the session alive
+            if (!sessions.remove(s.id(), s)) continue;
+            WeakReference<Window> ref = windows.remove(s.id());
+            if (s.id().equals(currentId)) currentId = null;
+            Window window = ref == null ? null : ref.get();
+            BiConsumer<UserSession, Window> handler = expiryHandler;
+            Platform.runLater(() -> {
+                ViewRegistry.evictSession(s.id());
+                if (window != null) window.getProperties().remove(SESSION_KEY, s.id());
+                if (handler != null) handler.accept(s, window);
+            });
+        }
     }
 }
@@ -1,23 +1,27 @@
 package com.fitlife;
 
+import com.fitlife.db.ScreenTasks;
+import com.fitlife.model.User;
+import com.fitlife.service.AuthService;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Scene;
 import javafx.scene.control.*;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.stage.Stage;
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 
-public class StartScreenController {
+import java.util.List;
+
+public class StartScreenController implements CachedView {
 
     @FXML private TextField usernameField;
     @FXML private PasswordField passwordField;
     @FXML private Button loginBtn;
     @FXML private Button registerBtn;
     @FXML private Button exitBtn;
+    @FXML private ProgressIndicator loadingIndicator;
+
+    private final ScreenTasks tasks = new ScreenTasks();
+    private final AuthService auth = AuthService.getInstance();
 
     @FXML
     public void initialize() {
@@ -25,6 +29,18 @@ public class StartScreenController {
         loginBtn.setOnAction(e -> login());
         registerBtn.setOnAction(e -> handleRegister());
         exitBtn.setOnAction(e -> handleExit());
+
+        // ✅ No double-submits while the login query is running
+        tasks.showWhileBusy(loadingIndicator);
+        loginBtn.disableProperty().bind(tasks.busyProperty());
+    }
+
+    // ✅ Cached login screen shown again (logout / expiry): never keep the last credentials
+    @Override
+    public void onShow() {
+        usernameField.clear();
+        passwordField.clear();
+        usernameField.requestFocus();
     }
 
     // ✅ Press Enter to trigger login
@@ -38,6 +54,8 @@ public class StartScreenController {
     // ✅ Login logic (tracks user session)
     @FXML
     private void login() {
+        if (tasks.busyProperty().get()) return; // Enter pressed while a login is in flight
+
         String username = usernameField.getText().trim();
         String password = passwordField.getText().trim();
 
@@ -46,54 +64,39 @@ public class StartScreenController {
             return;
         }
 
-        try (Connection conn = DatabaseUtil.getConnection()) {
-            // Fetch id, username, and type
-            String sql = """
-                    SELECT `id`, `username`, `type`
-                    FROM `Login`
-                    WHERE LOWER(`username`) = LOWER(?)
-                    AND BINARY `password` = ?
-                    """;
-
-            PreparedStatement stmt = conn.prepareStatement(sql);
-            stmt.setString(1, username);
-            stmt.setString(2, password);
-            ResultSet rs = stmt.executeQuery();
-
-            if (rs.next()) {
-                int userId = rs.getInt("id");
-                String user = rs.getString("username");
-                String role = rs.getString("type");
-
-                // ✅ Store logged-in user info globally
-                SessionManager.setSession(userId, user, role);
-
-                // Redirect based on role
-                if (role.equalsIgnoreCase("admin")) {
-                    loadScreen("/admin_dashboard.fxml", "Admin Dashboard");
-                } else {
-                    loadScreen("/member_dashboard.fxml", "Member Dashboard");
-                }
-
-            } else {
+        // ✅ Lookup + password hash check both run off the FX thread
+        tasks.await(auth.login(username, password), result -> {
+            if (result.isEmpty()) {
                 showAlert(Alert.AlertType.ERROR, "Login Failed", "Invalid username or password!");
+                return;
             }
+            User account = result.get();
+            String role = account.getRole();
 
-        } catch (Exception ex) {
+            // ✅ Open a session for this terminal window (others keep theirs)
+            SessionManager.open(loginBtn.getScene().getWindow(), account);
+
+            // Redirect based on role, then prepare the screens this role usually opens next
+            Stage stage = (Stage) loginBtn.getScene().getWindow();
+            if (role.equalsIgnoreCase("admin")) {
+                loadScreen("/admin_dashboard.fxml", "Admin Dashboard");
+                ViewRegistry.warm(stage, List.of("/manage_staff.fxml", "/manage_program.fxml", "/admin_bookings.fxml", "/admin_analytics.fxml"));
+            } else {
+                loadScreen("/member_dashboard.fxml", "Member Dashboard");
+                ViewRegistry.warm(stage, List.of("/ManageBookings.fxml", "/ViewPrograms.fxml", "/SessionCalendar.fxml"));
+            }
+        }, ex -> {
             ex.printStackTrace();
             showAlert(Alert.AlertType.ERROR, "Database Error",
                     "Failed to connect to the database.\n" + ex.getMessage());
-        }
+        });
     }
 
     // ✅ Load dashboard screen
     private void loadScreen(String fxmlPath, String title) {
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource(fxmlPath));
-            Scene scene = new Scene(loader.load());
             Stage stage = (Stage) loginBtn.getScene().getWindow();
-
-            stage.setScene(scene);
+            ViewRegistry.showScene(stage, fxmlPath);
             stage.setTitle(title);
             stage.setResizable(true);
             stage.centerOnScreen();
@@ -108,10 +111,8 @@ public class StartScreenController {
     @FXML
     private void handleRegister() {
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/register_screen.fxml"));
-            Scene scene = new Scene(loader.load());
             Stage stage = (Stage) registerBtn.getScene().getWindow();
-            stage.setScene(scene);
+            ViewRegistry.showScene(stage, "/register_screen.fxml");
             stage.setTitle("Register");
         } catch (Exception e) {
             e.printStackTrace();
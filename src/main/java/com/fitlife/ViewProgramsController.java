@@ -2,18 +2,19 @@ package com.fitlife;
 
 import javafx.application.Platform;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
 import javafx.scene.control.*;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.stage.Stage;
 
-import java.sql.*;
+import com.fitlife.db.ScreenTasks;
 import com.fitlife.model.Program;
+import com.fitlife.service.ProgramCatalog;
 
-public class ViewProgramsController {
+import java.util.List;
+import java.util.function.Consumer;
+
+public class ViewProgramsController implements CachedView {
 
     @FXML private TextField searchField;
     @FXML private TableView<Program> programTable;
@@ -21,9 +22,15 @@ public class ViewProgramsController {
     @FXML private TableColumn<Program, String> colName;
     @FXML private TableColumn<Program, String> colDescription;
     @FXML private TableColumn<Program, String> colTrainer;
-    @FXML private TableColumn<Program, Integer> colCost;
+    @FXML private TableColumn<Program, Number> colCost;
+    @FXML private ProgressIndicator loadingIndicator;
 
     private ObservableList<Program> programList = FXCollections.observableArrayList();
+    private final ScreenTasks tasks = new ScreenTasks();
+    private final ProgramCatalog catalog = ProgramCatalog.getInstance();
+    private final Consumer<List<Program>> catalogListener = this::showPrograms;
+    private ProgramSearchFilter searchFilter;
+    private SearchDebouncer searchDebouncer;
 
     @FXML
     public void initialize() {
@@ -31,61 +38,52 @@ public class ViewProgramsController {
         programTable.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
         colId.setCellValueFactory(cell -> cell.getValue().idProperty());
         colName.setCellValueFactory(cell -> cell.getValue().nameProperty());
-        colCost.setCellValueFactory(cell -> cell.getValue().costPerSessionProperty().asObject());
+        colCost.setCellValueFactory(cell -> cell.getValue().costPerSessionProperty());
         colDescription.setCellValueFactory(cell -> cell.getValue().descriptionProperty());
         colTrainer.setCellValueFactory(cell -> cell.getValue().trainerProperty());
 
-        // Load all programs initially
+        // Live ranked search over the shared catalog
+        searchFilter = new ProgramSearchFilter(programList, catalog);
+        searchFilter.attach(programTable);
+        searchDebouncer = new SearchDebouncer(searchField, SearchDebouncer.DEFAULT_DELAY, searchFilter::apply);
+
+        // Load all programs initially (cancelled if the user leaves first)
+        tasks.bindTo(programTable);
+        tasks.showWhileBusy(loadingIndicator);
+        catalog.addListener(catalogListener);
         loadPrograms();
     }
 
-    private void loadPrograms() {
-        programList.clear();
-        String sql = "SELECT * FROM Program";
-
-        try (Connection conn = DatabaseUtil.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
-
-            while (rs.next()) {
-                programList.add(new Program(
-                        rs.getString("id"),
-                        rs.getString("name"),
-                        rs.getInt("cost_per_session"),
-                        rs.getString("description"),
-                        rs.getString("trainer")
-                ));
-            }
-            programTable.setItems(programList);
+    // ✅ Back on a cached screen: pick up catalog changes made while it was hidden
+    @Override
+    public void onShow() {
+        loadPrograms();
+    }
 
-        } catch (Exception e) {
+    private void loadPrograms() {
+        tasks.await(catalog.getPrograms(), this::showPrograms, e -> {
             e.printStackTrace();
             showAlert(Alert.AlertType.ERROR, "Database Error", "Unable to load program data.");
-        }
+        });
+    }
+
+    private void showPrograms(List<Program> programs) {
+        programList.setAll(programs);
+        searchFilter.reapply();
     }
 
     @FXML
     private void searchPrograms() {
-        String keyword = searchField.getText().toLowerCase().trim();
-        if (keyword.isEmpty()) {
-            programTable.setItems(programList);
-        } else {
-            programTable.setItems(programList.filtered(p ->
-                    p.getName().toLowerCase().contains(keyword) ||
-                            p.getDescription().toLowerCase().contains(keyword) ||
-                            p.getTrainer().toLowerCase().contains(keyword)
-            ));
-        }
+        searchDebouncer.flush();
     }
 
     @FXML
     private void goBack() {
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/member_dashboard.fxml"));
-            Parent root = loader.load();
-
             Stage stage = (Stage) searchField.getScene().getWindow();
-            stage.setScene(new Scene(root));
+            // ✅ Back to the cached member dashboard instead of re-parsing it
+            MemberDashboardController dashboard = ViewRegistry.showScene(stage, "/member_dashboard.fxml");
+            dashboard.showHome();
             stage.setTitle("Member Main Menu");
 
         } catch (Exception e) {
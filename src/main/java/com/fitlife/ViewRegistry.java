@@ -0,0 +1,274 @@
+package com.fitlife;
+
+import com.fitlife.metrics.MetricsRegistry;
+import com.fitlife.metrics.Timer;
+import com.fitlife.model.UserSession;
+import javafx.application.Platform;
+import javafx.css.CssParser;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.layout.BorderPane;
+import javafx.stage.Stage;
+import javafx.stage.Window;
+import javafx.stage.WindowEvent;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Parses each screen once and keeps its node and controller, so navigating back to a screen
+ * is a scene-graph swap instead of an FXML parse.
+ * Views are cached per window and per session (a member's booking screen is never shown to
+ * another login) with an LRU bound of -Dfitlife.ui.viewCacheSize (default 12), and a session's
+ * views are dropped when it logs out or expires, and a window's views when it is closed (the keys
+ * hold the window, so they must not outlive it). Reused controllers get {@link CachedView#onShow()}.
+ * {@link #preload} reads the FXML and loads its controller and control classes off the FX thread;
+ * {@link #warm} does that and then builds the screens on the FX thread one per pulse so input
+ * stays responsive.
+ * All methods except warm's background part must be called on the FX thread.
+ */
+public final class ViewRegistry {
+
+    /** A parsed screen: its root node and controller. */
+    public record View<C>(Parent root, C controller) {
+    }
+
+    private record Key(Window window, String sessionId, String fxml) {
+    }
+
+    private static final class Entry {
+        final View<?> view;
+        boolean shown;
+
+        Entry(View<?> view) {
+            this.view = view;
+        }
+    }
+
+    private static final int MAX_VIEWS = Math.max(1, Integer.getInteger("fitlife.ui.viewCacheSize", 12));
+    private static final MetricsRegistry METRICS = MetricsRegistry.getInstance();
+    private static final Timer NAVIGATION_TIMER = METRICS.timer(MetricsRegistry.NAVIGATION);
+    private static final Pattern CONTROLLER = Pattern.compile("fx:controller\\s*=\\s*\"([^\"]+)\"");
+    private static final Pattern IMPORT = Pattern.compile("<\\?import\\s+([\\w.*]+)\\s*\\?>");
+    private static final Pattern ELEMENT = Pattern.compile("<([A-Z]\\w*)");
+    private static final Pattern STYLESHEET = Pattern.compile("stylesheets\\s*=\\s*\"@([^\"]+)\"");
+    // Window property marking that its close handler is installed
+    private static final String EVICT_ON_HIDE = ViewRegistry.class.getName() + ".evictOnHide";
+
+    private static final Map<Key, Entry> views = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+            return size() > MAX_VIEWS;
+        }
+    };
+    // FXML source, read once (also filled in the background by warm())
+    private static final Map<String, byte[]> sources = new ConcurrentHashMap<>();
+    private static final Set<String> parsedStylesheets = ConcurrentHashMap.newKeySet();
+    // Window whose screens are being built, for nested loads from initialize()
+    private static final Deque<Window> loading = new ArrayDeque<>();
+
+    private ViewRegistry() {
+    }
+
+    // ✅ Put a cached screen in the centre of a dashboard; returns its controller
+    public static <C> C show(BorderPane pane, String fxml) throws IOException {
+        long started = System.nanoTime();
+        Entry entry = entry(windowOf(pane), fxml);
+        pane.setCenter(entry.view.root());
+        C controller = shown(entry);
+        NAVIGATION_TIMER.recordSince(started);
+        return controller;
+    }
+
+    // ✅ Make a cached screen the root of the window's scene (one Scene per window, reused)
+    public static <C> C showScene(Stage stage, String fxml) throws IOException {
+        long started = System.nanoTime();
+        Entry entry = entry(stage, fxml);
+        Scene scene = stage.getScene();
+        if (scene == null) {
+            stage.setScene(new Scene(entry.view.root()));
+        } else if (scene.getRoot() != entry.view.root()) {
+            scene.setRoot(entry.view.root());
+        }
+        C controller = shown(entry);
+        NAVIGATION_TIMER.recordSince(started);
+        return controller;
+    }
+
+    // ✅ Likely next screens for this window: prepared in the background after login
+    public static void warm(Window window, List<String> fxmls) {
+        String sessionId = sessionIdOf(window);
+        preload(fxmls).thenRun(() -> Platform.runLater(() -> buildNext(window, sessionId, new ArrayDeque<>(fxmls))));
+    }
+
+    // ✅ Off the FX thread: read the FXML, load its controller and element classes, warm the CSS parser
+    public static CompletableFuture<Void> preload(List<String> fxmls) {
+        return CompletableFuture.runAsync(() -> {
+            for (String fxml : fxmls) {
+                try {
+                    prefetch(fxml);
+                } catch (IOException | RuntimeException | LinkageError e) {
+                    System.err.println("Could not pre-load " + fxml + ": " + e.getMessage());
+                }
+            }
+        }, runnable -> {
+            Thread t = new Thread(runnable, "fitlife-view-preload");
+            t.setDaemon(true);
+            t.start();
+        });
+    }
+
+    private static void prefetch(String fxml) throws IOException {
+        String text = new String(source(fxml), StandardCharsets.UTF_8);
+        ClassLoader loader = ViewRegistry.class.getClassLoader();
+
+        Matcher controller = CONTROLLER.matcher(text);
+        if (controller.find()) loadClass(controller.group(1), loader);
+
+        // <?import javafx.scene.control.*?> + <Button ...> -> javafx.scene.control.Button
+        List<String> packages = new ArrayList<>();
+        Matcher imports = IMPORT.matcher(text);
+        while (imports.find()) {
+            String name = imports.group(1);
+            if (name.endsWith(".*")) {
+                packages.add(name.substring(0, name.length() - 2));
+            } else {
+                loadClass(name, loader);
+            }
+        }
+        Set<String> elements = new HashSet<>();
+        Matcher tags = ELEMENT.matcher(text);
+        while (tags.find()) elements.add(tags.group(1));
+        for (String element : elements) {
+            for (String pkg : packages) {
+                if (loadClass(pkg + "." + element, loader)) break;
+            }
+        }
+
+        Matcher css = STYLESHEET.matcher(text);
+        while (css.find()) {
+            URL url = ViewRegistry.class.getResource("/" + css.group(1));
+            if (url != null && parsedStylesheets.add(css.group(1))) new CssParser().parse(url);
+        }
+    }
+
+    // Loaded but not initialised: some control static initialisers expect the FX thread
+    private static boolean loadClass(String className, ClassLoader loader) {
+        try {
+            Class.forName(className, false, loader);
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    // 🔹 One screen per FX pulse; stops if the window logged out or switched user meanwhile
+    private static void buildNext(Window window, String sessionId, Deque<String> pending) {
+        String fxml = pending.poll();
+        if (fxml == null || !window.isShowing() || !Objects.equals(sessionId, sessionIdOf(window))) return;
+        try {
+            entry(window, fxml);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Could not warm " + fxml + ": " + e.getMessage());
+        }
+        Platform.runLater(() -> buildNext(window, sessionId, pending));
+    }
+
+    // ✅ Forget every screen that belongs to a session (logout / idle expiry)
+    public static void evictSession(String sessionId) {
+        if (sessionId == null) return;
+        views.keySet().removeIf(key -> sessionId.equals(key.sessionId()));
+    }
+
+    // ✅ Forget every screen of a window (it was closed)
+    public static void evictWindow(Window window) {
+        views.keySet().removeIf(key -> key.window() == window);
+    }
+
+    // --- Internals ---
+
+    private static Entry entry(Window window, String fxml) throws IOException {
+        Key key = new Key(window, sessionIdOf(window), fxml);
+        Entry entry = views.get(key);
+        if (entry == null) {
+            METRICS.counter(MetricsRegistry.VIEW_CACHE_MISSES).increment();
+            entry = new Entry(load(window, fxml));
+            views.put(key, entry);
+            if (window != null && window.getProperties().putIfAbsent(EVICT_ON_HIDE, Boolean.TRUE) == null) {
+                window.addEventHandler(WindowEvent.WINDOW_HIDDEN, e -> evictWindow(window));
+            }
+        } else {
+            METRICS.counter(MetricsRegistry.VIEW_CACHE_HITS).increment();
+        }
+        return entry;
+    }
+
+    private static View<?> load(Window window, String fxml) throws IOException {
+        URL location = ViewRegistry.class.getResource(fxml);
+        if (location == null) throw new IOException("Screen not found: " + fxml);
+
+        FXMLLoader loader = new FXMLLoader(location);
+        // Controllers capture SessionManager.current() while loading: make it this window's session
+        String previous = SessionManager.switchCurrent(sessionIdOf(window));
+        loading.push(window);
+        long started = System.nanoTime();
+        try (InputStream in = new ByteArrayInputStream(source(fxml))) {
+            Parent root = loader.load(in);
+            return new View<>(root, loader.getController());
+        } finally {
+            long elapsed = System.nanoTime() - started;
+            METRICS.timer(MetricsRegistry.FXML_LOAD).record(elapsed);
+            METRICS.timer(MetricsRegistry.FXML_LOAD + " " + fxml).record(elapsed);
+            loading.pop();
+            SessionManager.switchCurrent(previous);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <C> C shown(Entry entry) {
+        Object controller = entry.view.controller();
+        if (entry.shown && controller instanceof CachedView cached) cached.onShow();
+        entry.shown = true;
+        return (C) controller;
+    }
+
+    private static byte[] source(String fxml) throws IOException {
+        byte[] cached = sources.get(fxml);
+        if (cached != null) return cached;
+        try (InputStream in = ViewRegistry.class.getResourceAsStream(fxml)) {
+            if (in == null) throw new IOException("Screen not found: " + fxml);
+            byte[] bytes = in.readAllBytes();
+            sources.put(fxml, bytes);
+            return bytes;
+        }
+    }
+
+    private static Window windowOf(Node anchor) {
+        Scene scene = anchor.getScene();
+        if (scene != null && scene.getWindow() != null) return scene.getWindow();
+        return loading.peek(); // called from a controller's initialize() during a load
+    }
+
+    private static String sessionIdOf(Window window) {
+        UserSession session = window == null ? null : SessionManager.of(window);
+        return session == null ? null : session.id();
+    }
+}
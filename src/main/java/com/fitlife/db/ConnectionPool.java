@@ -0,0 +1,361 @@
+package com.fitlife.db;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Small bounded JDBC connection pool.
+ * Connections handed out are proxies: calling close() returns the physical
+ * connection to the pool instead of closing it, so existing
+ * try-with-resources blocks keep working unchanged.
+ */
+public class ConnectionPool implements AutoCloseable {
+
+    // Skip the validation round-trip for connections that were just returned
+    private static final long VALIDATION_BYPASS_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private final PoolConfig config;
+    private final LinkedBlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<>();
+    private final Semaphore permits;
+    private final ScheduledExecutorService evictor;
+
+    // --- Gauges ---
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger total = new AtomicInteger();
+    private final LongAdder borrowCount = new LongAdder();
+    private final LongAdder borrowWaitNanos = new LongAdder();
+    private final AtomicLong maxBorrowWaitNanos = new AtomicLong();
+    private final LongAdder createdCount = new LongAdder();
+    private final LongAdder destroyedCount = new LongAdder();
+    private final LongAdder timeoutCount = new LongAdder();
+
+    private volatile boolean closed;
+
+    public ConnectionPool(PoolConfig config) {
+        this.config = config;
+        this.permits = new Semaphore(config.maxPoolSize, true);
+        this.evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "fitlife-pool-evictor");
+            t.setDaemon(true);
+            return t;
+        });
+        evictor.scheduleWithFixedDelay(this::evictAndFill,
+                config.evictionIntervalMillis, config.evictionIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public PoolConfig getConfig() {
+        return config;
+    }
+
+    // ✅ Borrow a connection (blocks up to borrowTimeout when the pool is exhausted)
+    public Connection borrow() throws SQLException {
+        if (closed) throw new SQLException("Connection pool is closed");
+
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(config.borrowTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+        if (!acquired) {
+            timeoutCount.increment();
+            throw new SQLTimeoutException("Timed out after " + config.borrowTimeoutMillis
+                    + " ms waiting for a database connection (pool size " + config.maxPoolSize + ")");
+        }
+
+        try {
+            PooledConnection pc = takeValidConnection();
+            active.incrementAndGet();
+            recordBorrowWait(System.nanoTime() - start);
+            return pc.lease();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    // ✅ Open connections up front so the first screen doesn't pay for the handshake
+    public void warmUp() {
+        evictAndFill();
+    }
+
+    private PooledConnection takeValidConnection() throws SQLException {
+        PooledConnection pc;
+        while ((pc = idle.pollFirst()) != null) {
+            long now = System.nanoTime();
+            if (pc.isExpired(now) || !pc.validate(now)) {
+                destroy(pc);
+                continue;
+            }
+            return pc;
+        }
+        return create();
+    }
+
+    private PooledConnection create() throws SQLException {
+        Connection raw = DriverManager.getConnection(config.url, config.user, config.password);
+        total.incrementAndGet();
+        createdCount.increment();
+        return new PooledConnection(raw, System.nanoTime());
+    }
+
+    private void destroy(PooledConnection pc) {
+        total.decrementAndGet();
+        destroyedCount.increment();
+        try {
+            pc.raw.close();
+        } catch (SQLException ignored) {
+            // Connection is being discarded anyway
+        }
+    }
+
+    private void release(PooledConnection pc) {
+        active.decrementAndGet();
+        try {
+            pc.closeOpenStatements();
+            long now = System.nanoTime();
+            if (!closed && !pc.isExpired(now) && pc.reset()) {
+                pc.lastReturnedNanos = now;
+                idle.offerFirst(pc); // LIFO keeps the warmest connections in use
+            } else {
+                destroy(pc);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void recordBorrowWait(long nanos) {
+        borrowCount.increment();
+        borrowWaitNanos.add(nanos);
+        maxBorrowWaitNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    // 🔹 Idle eviction + max-lifetime retirement + keep minIdle connections open
+    private void evictAndFill() {
+        if (closed) return;
+        long now = System.nanoTime();
+        long idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(config.idleTimeoutMillis);
+
+        for (PooledConnection pc : new ArrayList<>(idle)) {
+            boolean idleTooLong = idle.size() > config.minIdle
+                    && now - pc.lastReturnedNanos > idleTimeoutNanos;
+            if ((idleTooLong || pc.isExpired(now)) && idle.remove(pc)) {
+                destroy(pc);
+            }
+        }
+
+        // Top up idle connections (not just the total) so the next borrows under load skip the connect.
+        // Each new connection is opened under a permit, like a borrow, so the pool never exceeds its size
+        try {
+            while (!closed && idle.size() < config.minIdle && total.get() < config.maxPoolSize
+                    && permits.tryAcquire()) {
+                try {
+                    PooledConnection pc = create();
+                    pc.lastReturnedNanos = System.nanoTime();
+                    idle.offerLast(pc);
+                } finally {
+                    permits.release();
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Connection pool could not open idle connection: " + e.getMessage());
+        }
+    }
+
+    // ✅ Snapshot of pool gauges (safe to call from any thread)
+    public PoolStats stats() {
+        long borrows = borrowCount.sum();
+        return new PoolStats(
+                active.get(),
+                idle.size(),
+                total.get(),
+                config.maxPoolSize,
+                permits.getQueueLength(),
+                borrows,
+                borrows == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(borrowWaitNanos.sum() / borrows) / 1000.0,
+                TimeUnit.NANOSECONDS.toMicros(maxBorrowWaitNanos.get()) / 1000.0,
+                createdCount.sum(),
+                destroyedCount.sum(),
+                timeoutCount.sum()
+        );
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        evictor.shutdownNow();
+        PooledConnection pc;
+        while ((pc = idle.pollFirst()) != null) {
+            destroy(pc);
+        }
+    }
+
+    // =========================================================
+    // Physical connection wrapper
+    // =========================================================
+    private final class PooledConnection {
+        final Connection raw;
+        final long createdNanos;
+        volatile long lastReturnedNanos;
+        final List<Statement> openStatements = new ArrayList<>();
+
+        PooledConnection(Connection raw, long createdNanos) {
+            this.raw = raw;
+            this.createdNanos = createdNanos;
+            this.lastReturnedNanos = createdNanos;
+        }
+
+        boolean isExpired(long now) {
+            return config.maxLifetimeMillis > 0
+                    && now - createdNanos > TimeUnit.MILLISECONDS.toNanos(config.maxLifetimeMillis);
+        }
+
+        boolean validate(long now) {
+            if (now - lastReturnedNanos < VALIDATION_BYPASS_NANOS) return true;
+            try {
+                return raw.isValid(config.validationTimeoutSeconds);
+            } catch (SQLException e) {
+                return false;
+            }
+        }
+
+        // Undo anything a borrower may have changed before the next lease
+        boolean reset() {
+            try {
+                if (raw.isClosed()) return false;
+                if (!raw.getAutoCommit()) {
+                    raw.rollback();
+                    raw.setAutoCommit(true);
+                }
+                if (raw.isReadOnly()) raw.setReadOnly(false);
+                raw.clearWarnings();
+                return true;
+            } catch (SQLException e) {
+                return false;
+            }
+        }
+
+        // Callers don't always close their statements; don't let them pile up on a reused connection
+        void closeOpenStatements() {
+            for (Statement st : openStatements) {
+                try {
+                    st.close();
+                } catch (SQLException ignored) {
+                    // Already broken; the connection is still usable
+                }
+            }
+            openStatements.clear();
+        }
+
+        Connection lease() {
+            return (Connection) Proxy.newProxyInstance(
+                    ConnectionPool.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    new LeaseHandler(this));
+        }
+    }
+
+    // =========================================================
+    // Proxy handed to callers: close() returns to the pool
+    // =========================================================
+    private final class LeaseHandler implements InvocationHandler {
+        private final PooledConnection pc;
+        private final AtomicBoolean returned = new AtomicBoolean(); // close() may race with itself
+
+        LeaseHandler(PooledConnection pc) {
+            this.pc = pc;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "close":
+                    if (returned.compareAndSet(false, true)) release(pc);
+                    return null;
+                case "isClosed":
+                    return returned.get() || pc.raw.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Pooled[" + pc.raw + "]";
+                default:
+                    break;
+            }
+            if (returned.get()) throw new SQLException("Connection has already been returned to the pool");
+
+            try {
+                Object result = method.invoke(pc.raw, args);
+                if (result instanceof Statement st) {
+                    pc.openStatements.add(st);
+                    return wrapStatement(st, (Connection) proxy);
+                }
+                return result;
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    // Statements answer getConnection() with the lease, so closing that connection returns it
+    private static Statement wrapStatement(Statement st, Connection lease) {
+        Class<?> type = st instanceof CallableStatement ? CallableStatement.class
+                : st instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+        return (Statement) Proxy.newProxyInstance(ConnectionPool.class.getClassLoader(),
+                new Class<?>[]{type}, new StatementHandler(st, lease));
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+        private final Statement st;
+        private final Connection lease;
+
+        StatementHandler(Statement st, Connection lease) {
+            this.st = st;
+            this.lease = lease;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "getConnection":
+                    return lease;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(st, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.fitlife.db;
+
+import com.fitlife.DatabaseUtil;
+
+import java.sql.Connection;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shared executor for all database work so nothing blocks the JavaFX Application Thread.
+ * Uses virtual threads when running on Java 21+, otherwise a fixed pool sized to the
+ * connection pool (more threads than connections would only queue on the pool).
+ */
+public final class DataAccessService {
+
+    private static final ExecutorService EXECUTOR = createExecutor();
+
+    private DataAccessService() {
+    }
+
+    // ✅ Run arbitrary blocking work off the FX thread
+    public static <T> CompletableFuture<T> supply(Callable<T> work) {
+        CancellableFuture<T> result = new CancellableFuture<>();
+        result.task = EXECUTOR.submit(() -> {
+            if (result.isDone()) return;
+            try {
+                result.complete(work.call());
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+        return result;
+    }
+
+    // ✅ Run JDBC work on a pooled connection that is returned automatically
+    public static <T> CompletableFuture<T> withConnection(SqlWork<T> work) {
+        return supply(() -> {
+            try (Connection conn = DatabaseUtil.getConnection()) {
+                return work.execute(conn);
+            }
+        });
+    }
+
+    public static void shutdown() {
+        EXECUTOR.shutdownNow();
+        try {
+            EXECUTOR.awaitTermination(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ExecutorService createExecutor() {
+        try {
+            // Java 21+: one cheap virtual thread per task
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger counter = new AtomicInteger();
+            return Executors.newFixedThreadPool(Integer.getInteger("fitlife.db.poolSize", 10), r -> {
+                Thread t = new Thread(r, "fitlife-data-" + counter.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+        }
+    }
+
+    // Cancelling the future also interrupts the worker that is running it
+    private static final class CancellableFuture<T> extends CompletableFuture<T> {
+        volatile Future<?> task;
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            Future<?> t = task;
+            if (cancelled && t != null) t.cancel(true);
+            return cancelled;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.fitlife.db;
+
+/**
+ * Which database the application talks to, chosen with -Dfitlife.db.mode:
+ * <ul>
+ *   <li>{@code mysql} (default) – the shared GymDB server</li>
+ *   <li>{@code embedded} – an H2 file database under ~/.fitlife (or -Dfitlife.db.embeddedPath),
+ *       for standalone kiosks</li>
+ *   <li>{@code memory} – a throwaway in-memory H2 database, for CI and benchmark runs</li>
+ * </ul>
+ * Embedded databases run in MySQL compatibility mode with the same schema, created and seeded
+ * from the bundled scripts. -Dfitlife.db.url/user/password still override the defaults.
+ */
+public enum DatabaseBackend {
+
+    MYSQL("com.mysql.cj.jdbc.Driver", "root", ""),
+    EMBEDDED("org.h2.Driver", "sa", ""),
+    MEMORY("org.h2.Driver", "sa", "");
+
+    // ✅ Driver-side statement cache + batched rewrites; the pool keeps the connections warm
+    private static final String MYSQL_URL = "jdbc:mysql://localhost:3306/GymDB"
+            + "?cachePrepStmts=true"
+            + "&useServerPrepStmts=true"
+            + "&prepStmtCacheSize=" + Integer.getInteger("fitlife.db.stmtCacheSize", 250)
+            + "&prepStmtCacheSqlLimit=2048"
+            + "&rewriteBatchedStatements=true";
+
+    // MySQL-compatible SQL, lower-case identifiers so `Login` and Login resolve to the same table
+    private static final String H2_OPTIONS = ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;CASE_INSENSITIVE_IDENTIFIERS=TRUE";
+
+    private final String driverClass;
+    private final String defaultUser;
+    private final String defaultPassword;
+
+    DatabaseBackend(String driverClass, String defaultUser, String defaultPassword) {
+        this.driverClass = driverClass;
+        this.defaultUser = defaultUser;
+        this.defaultPassword = defaultPassword;
+    }
+
+    public static DatabaseBackend fromSystemProperties() {
+        String mode = System.getProperty("fitlife.db.mode", "mysql").trim();
+        for (DatabaseBackend backend : values()) {
+            if (backend.name().equalsIgnoreCase(mode)) return backend;
+        }
+        throw new IllegalArgumentException("Unknown -Dfitlife.db.mode: " + mode + " (use mysql, embedded or memory)");
+    }
+
+    public String getDriverClass() {
+        return driverClass;
+    }
+
+    public String getDefaultUrl() {
+        return switch (this) {
+            case MYSQL -> MYSQL_URL;
+            case EMBEDDED -> "jdbc:h2:file:" + System.getProperty("fitlife.db.embeddedPath", "~/.fitlife/gymdb") + H2_OPTIONS;
+            case MEMORY -> "jdbc:h2:mem:fitlife;DB_CLOSE_DELAY=-1" + H2_OPTIONS;
+        };
+    }
+
+    public String getDefaultUser() {
+        return defaultUser;
+    }
+
+    public String getDefaultPassword() {
+        return defaultPassword;
+    }
+
+    // ✅ In-process databases own their schema; MySQL's is managed on the server
+    public boolean isEmbedded() {
+        return this != MYSQL;
+    }
+}
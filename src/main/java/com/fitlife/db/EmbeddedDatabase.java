@@ -0,0 +1,47 @@
+package com.fitlife.db;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Seeds a fresh embedded database from the bundled script (after {@link MigrationRunner} has
+ * created the schema), so a kiosk (or a CI/benchmark run) works without a MySQL server.
+ */
+public final class EmbeddedDatabase {
+
+    static final String SEED = "/db/seed.sql";
+
+    private EmbeddedDatabase() {
+    }
+
+    // ✅ Idempotent: seed data only goes into an empty Login table
+    public static void seed(Connection conn) throws SQLException {
+        if (!isEmpty(conn)) return;
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try {
+            try {
+                SqlScript.load(SEED).execute(conn);
+                conn.commit();
+            } catch (IOException e) {
+                conn.rollback();
+                throw new SQLException("Could not read bundled database script", e);
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+    }
+
+    private static boolean isEmpty(Connection conn) throws SQLException {
+        try (Statement st = conn.createStatement();
+             ResultSet rs = st.executeQuery("SELECT COUNT(*) FROM `Login`")) {
+            return rs.next() && rs.getInt(1) == 0;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.fitlife.db;
+
+import com.fitlife.repository.Page;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.collections.ObservableList;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * Keyset pagination for a TableView.
+ * Only the current page is held in memory; each page is fetched lazily with
+ * "WHERE key > lastKey ORDER BY key LIMIT n", so deep pages cost the same as the first one.
+ * Previous pages are re-fetched from the remembered start keys rather than kept around.
+ * Orders on more than an int key (e.g. "ORDER BY start_date, booking_id") use a
+ * {@link RowPageQuery}, which is handed the last row of the previous page as its cursor.
+ */
+public class KeysetPager<T> {
+
+    @FunctionalInterface
+    public interface PageQuery<T> {
+        Page<T> fetch(int afterKey, int limit) throws Exception;
+    }
+
+    /** Rows after {@code afterRow} in the query's order; {@code afterRow} is null for the first page. */
+    @FunctionalInterface
+    public interface RowPageQuery<T> {
+        Page<T> fetch(T afterRow, int limit) throws Exception;
+    }
+
+    public static final int DEFAULT_PAGE_SIZE = Integer.getInteger("fitlife.ui.pageSize", 100);
+
+    private final ScreenTasks tasks;
+    private final RowPageQuery<T> query;
+    private final ObservableList<T> target;
+    private final int pageSize;
+    private final Consumer<Throwable> onError;
+
+    // Cursor rows (last row of the page before; null for the first page), newest last
+    private final List<T> previousStarts = new ArrayList<>();
+    private T currentStart;
+    private final ReadOnlyIntegerWrapper pageNumber = new ReadOnlyIntegerWrapper(1);
+    private final ReadOnlyBooleanWrapper hasNext = new ReadOnlyBooleanWrapper(false);
+    private final ReadOnlyBooleanWrapper hasPrevious = new ReadOnlyBooleanWrapper(false);
+
+    public KeysetPager(ScreenTasks tasks, PageQuery<T> query, ToIntFunction<T> keyOf,
+                       ObservableList<T> target, int pageSize, Consumer<Throwable> onError) {
+        this(tasks, (T afterRow, int limit) -> query.fetch(afterRow == null ? 0 : keyOf.applyAsInt(afterRow), limit),
+                target, pageSize, onError);
+    }
+
+    public KeysetPager(ScreenTasks tasks, RowPageQuery<T> query,
+                       ObservableList<T> target, int pageSize, Consumer<Throwable> onError) {
+        this.tasks = tasks;
+        this.query = query;
+        this.target = target;
+        this.pageSize = pageSize;
+        this.onError = onError;
+    }
+
+    // ✅ Wire up Prev/Next buttons and a "Page N" label
+    public void bindControls(Button previousButton, Button nextButton, Label pageLabel) {
+        if (previousButton != null) {
+            previousButton.disableProperty().bind(hasPrevious.not().or(tasks.busyProperty()));
+            previousButton.setOnAction(e -> previous());
+        }
+        if (nextButton != null) {
+            nextButton.disableProperty().bind(hasNext.not().or(tasks.busyProperty()));
+            nextButton.setOnAction(e -> next());
+        }
+        if (pageLabel != null) {
+            pageLabel.textProperty().bind(pageNumber.asString("Page %d"));
+        }
+    }
+
+    public void first() {
+        load(null, previousStarts::clear);
+    }
+
+    public void next() {
+        if (!hasNext.get() || target.isEmpty()) return;
+        T start = currentStart;
+        load(target.get(target.size() - 1), () -> previousStarts.add(start));
+    }
+
+    public void previous() {
+        if (previousStarts.isEmpty()) return;
+        load(previousStarts.get(previousStarts.size() - 1), () -> previousStarts.remove(previousStarts.size() - 1));
+    }
+
+    // ✅ Re-read the current page (after an insert/update/delete)
+    public void reload() {
+        load(currentStart, () -> { });
+    }
+
+    public boolean isOnLastPage() {
+        return !hasNext.get();
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    // Page bookkeeping only changes once the fetch succeeded
+    private void load(T afterRow, Runnable onLoaded) {
+        tasks.run(() -> query.fetch(afterRow, pageSize), page -> {
+            onLoaded.run();
+            currentStart = afterRow;
+            target.setAll(page.items());
+            hasNext.set(page.hasNext());
+            hasPrevious.set(!previousStarts.isEmpty());
+            pageNumber.set(previousStarts.size() + 1);
+        }, onError);
+    }
+
+    public ReadOnlyIntegerProperty pageNumberProperty() { return pageNumber.getReadOnlyProperty(); }
+    public ReadOnlyBooleanProperty hasNextProperty() { return hasNext.getReadOnlyProperty(); }
+    public ReadOnlyBooleanProperty hasPreviousProperty() { return hasPrevious.getReadOnlyProperty(); }
+}
@@ -0,0 +1,169 @@
+package com.fitlife.db;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Brings the schema up to date from the versioned scripts in /db/migration.
+ * Applied versions are recorded in {@code schema_version}; each pending script runs once, in order,
+ * and is committed with its version row. (MySQL commits DDL implicitly, so a script that fails
+ * half-way must be fixed by hand before it can be retried.)
+ * On MySQL a named lock keeps two terminals starting at the same time from migrating together.
+ * Set -Dfitlife.db.migrate=false when the database account may not change the schema.
+ */
+public final class MigrationRunner {
+
+    // ✅ Append new scripts here; never edit or reorder one that has shipped
+    static final List<String> SCRIPTS = List.of(
+            "V1__baseline.sql",
+            "V2__lookup_indexes.sql",
+            "V3__row_versions.sql",
+            "V4__class_sessions.sql",
+            "V5__session_waitlist.sql",
+            "V6__booking_rollups.sql",
+            "V7__booking_search_indexes.sql",
+            "V8__waitlist_unique_member.sql",
+            "V9__pricing_tier.sql"
+    );
+
+    private static final String LOCATION = "/db/migration/";
+    private static final String LOCK_NAME = "fitlife_schema_migration";
+    private static final int LOCK_TIMEOUT_SECONDS = 60;
+
+    private static final String CREATE_HISTORY = """
+            CREATE TABLE IF NOT EXISTS `schema_version` (
+                `version`     INT PRIMARY KEY,
+                `script`      VARCHAR(200) NOT NULL,
+                `checksum`    BIGINT       NOT NULL,
+                `installed_on` TIMESTAMP   NOT NULL
+            )""";
+    private static final String FIND_APPLIED = "SELECT `version`, `checksum` FROM `schema_version`";
+    private static final String RECORD = "INSERT INTO `schema_version` (`version`, `script`, `checksum`, `installed_on`) VALUES (?, ?, ?, ?)";
+
+    private MigrationRunner() {
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty("fitlife.db.migrate", "true"));
+    }
+
+    // ✅ Returns how many scripts were applied (0 when already current)
+    public static int migrate(Connection conn) throws SQLException {
+        boolean mysql = "MySQL".equalsIgnoreCase(conn.getMetaData().getDatabaseProductName());
+        boolean autoCommit = conn.getAutoCommit();
+        if (mysql) acquireLock(conn);
+        try {
+            conn.setAutoCommit(false);
+            try (Statement st = conn.createStatement()) {
+                st.execute(CREATE_HISTORY);
+            }
+            conn.commit();
+
+            Map<Integer, Long> applied = findApplied(conn);
+            int count = 0;
+            for (String script : SCRIPTS) {
+                int version = versionOf(script);
+                SqlScript sql = load(script);
+                long checksum = checksum(sql);
+
+                Long installed = applied.get(version);
+                if (installed != null) {
+                    if (installed != checksum) {
+                        System.err.println("Migration " + script + " changed after it was applied (checksum mismatch)");
+                    }
+                    continue;
+                }
+                apply(conn, version, script, sql, checksum);
+                count++;
+            }
+            return count;
+        } finally {
+            conn.setAutoCommit(autoCommit);
+            if (mysql) releaseLock(conn);
+        }
+    }
+
+    private static void apply(Connection conn, int version, String script, SqlScript sql, long checksum) throws SQLException {
+        long started = System.currentTimeMillis();
+        try {
+            sql.execute(conn);
+            try (PreparedStatement ps = conn.prepareStatement(RECORD)) {
+                ps.setInt(1, version);
+                ps.setString(2, script);
+                ps.setLong(3, checksum);
+                ps.setTimestamp(4, new Timestamp(System.currentTimeMillis()));
+                ps.executeUpdate();
+            }
+            conn.commit();
+            System.out.println("Applied migration " + script + " in " + (System.currentTimeMillis() - started) + " ms");
+        } catch (SQLException e) {
+            conn.rollback();
+            throw new SQLException("Migration " + script + " failed: " + e.getMessage(), e.getSQLState(), e.getErrorCode(), e);
+        }
+    }
+
+    private static Map<Integer, Long> findApplied(Connection conn) throws SQLException {
+        Map<Integer, Long> applied = new HashMap<>();
+        try (Statement st = conn.createStatement();
+             ResultSet rs = st.executeQuery(FIND_APPLIED)) {
+            while (rs.next()) {
+                applied.put(rs.getInt(1), rs.getLong(2));
+            }
+        }
+        return applied;
+    }
+
+    private static SqlScript load(String script) throws SQLException {
+        try {
+            return SqlScript.load(LOCATION + script);
+        } catch (IOException e) {
+            throw new SQLException("Could not read migration " + script, e);
+        }
+    }
+
+    // "V12__something.sql" -> 12
+    static int versionOf(String script) {
+        int end = script.indexOf("__");
+        if (!script.startsWith("V") || end < 2) throw new IllegalArgumentException("Bad migration name: " + script);
+        return Integer.parseInt(script.substring(1, end));
+    }
+
+    private static long checksum(SqlScript sql) {
+        CRC32 crc = new CRC32();
+        for (String statement : sql.getStatements()) {
+            crc.update(statement.getBytes(StandardCharsets.UTF_8));
+        }
+        return crc.getValue();
+    }
+
+    private static void acquireLock(Connection conn) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+            ps.setString(1, LOCK_NAME);
+            ps.setInt(2, LOCK_TIMEOUT_SECONDS);
+            try (ResultSet rs = ps.executeQuery()) {
+                if (!rs.next() || rs.getInt(1) != 1) {
+                    throw new SQLException("Timed out waiting for another terminal to finish migrating the schema");
+                }
+            }
+        }
+    }
+
+    private static void releaseLock(Connection conn) {
+        try (PreparedStatement ps = conn.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            ps.setString(1, LOCK_NAME);
+            ps.executeQuery().close();
+        } catch (SQLException e) {
+            System.err.println("Could not release schema migration lock: " + e.getMessage());
+        }
+    }
+}
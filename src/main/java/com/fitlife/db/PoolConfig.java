@@ -0,0 +1,58 @@
+package com.fitlife.db;
+
+/**
+ * Connection pool settings for FitLife.
+ * Every value can be overridden with a -Dfitlife.db.* system property,
+ * e.g. -Dfitlife.db.poolSize=20 for a busy front desk.
+ */
+public class PoolConfig {
+
+    final String url;
+    final String user;
+    final String password;
+    final int maxPoolSize;
+    final int minIdle;
+    final long borrowTimeoutMillis;
+    final int validationTimeoutSeconds;
+    final long idleTimeoutMillis;
+    final long maxLifetimeMillis;
+    final long evictionIntervalMillis;
+
+    public PoolConfig(String url, String user, String password,
+                      int maxPoolSize, int minIdle,
+                      long borrowTimeoutMillis, int validationTimeoutSeconds,
+                      long idleTimeoutMillis, long maxLifetimeMillis,
+                      long evictionIntervalMillis) {
+        if (maxPoolSize <= 0) throw new IllegalArgumentException("maxPoolSize must be > 0");
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        this.maxPoolSize = maxPoolSize;
+        this.minIdle = Math.max(0, Math.min(minIdle, maxPoolSize));
+        this.borrowTimeoutMillis = borrowTimeoutMillis;
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.maxLifetimeMillis = maxLifetimeMillis;
+        this.evictionIntervalMillis = evictionIntervalMillis;
+    }
+
+    // ✅ Defaults tuned for a single gym branch, overridable per terminal
+    public static PoolConfig fromSystemProperties(String defaultUrl, String defaultUser, String defaultPassword) {
+        return new PoolConfig(
+                System.getProperty("fitlife.db.url", defaultUrl),
+                System.getProperty("fitlife.db.user", defaultUser),
+                System.getProperty("fitlife.db.password", defaultPassword),
+                Integer.getInteger("fitlife.db.poolSize", 10),
+                Integer.getInteger("fitlife.db.minIdle", 2),
+                Long.getLong("fitlife.db.borrowTimeoutMs", 10_000L),
+                Integer.getInteger("fitlife.db.validationTimeoutSec", 2),
+                Long.getLong("fitlife.db.idleTimeoutMs", 10 * 60_000L),
+                Long.getLong("fitlife.db.maxLifetimeMs", 30 * 60_000L),
+                Long.getLong("fitlife.db.evictionIntervalMs", 30_000L)
+        );
+    }
+
+    public String getUrl() { return url; }
+    public int getMaxPoolSize() { return maxPoolSize; }
+    public int getMinIdle() { return minIdle; }
+}
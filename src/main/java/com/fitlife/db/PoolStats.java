@@ -0,0 +1,26 @@
+package com.fitlife.db;
+
+/**
+ * Point-in-time view of the connection pool gauges.
+ */
+public record PoolStats(
+        int active,
+        int idle,
+        int total,
+        int maxSize,
+        int waitingBorrowers,
+        long borrowCount,
+        double avgBorrowWaitMillis,
+        double maxBorrowWaitMillis,
+        long createdCount,
+        long destroyedCount,
+        long timeoutCount
+) {
+    @Override
+    public String toString() {
+        return String.format("Pool{active=%d, idle=%d, total=%d/%d, waiting=%d, borrows=%d, " +
+                        "avgWait=%.2fms, maxWait=%.2fms, created=%d, destroyed=%d, timeouts=%d}",
+                active, idle, total, maxSize, waitingBorrowers, borrowCount,
+                avgBorrowWaitMillis, maxBorrowWaitMillis, createdCount, destroyedCount, timeoutCount);
+    }
+}
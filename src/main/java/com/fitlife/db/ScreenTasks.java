@@ -0,0 +1,115 @@
+package com.fitlife.db;
+
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.value.ChangeListener;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.stage.Window;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Background work owned by one screen.
+ * Work runs on {@link DataAccessService}; callbacks are delivered on the FX thread.
+ * Reads ({@link #run}, {@link #withConnection}, {@link #await}) are cancelled and their callbacks
+ * dropped if the screen is left in the meantime. Writes ({@link #write}) are never cancelled from
+ * here: interrupting a worker inside a transaction doesn't undo it, so they run to completion and
+ * their success or error callback is still delivered (alerts don't need the screen to show).
+ * All methods must be called on the FX thread.
+ */
+public class ScreenTasks {
+
+    private final List<CompletableFuture<?>> inFlight = new ArrayList<>(); // reads
+    private final List<CompletableFuture<?>> writes = new ArrayList<>();
+    private final ReadOnlyBooleanWrapper busy = new ReadOnlyBooleanWrapper(this, "busy", false);
+
+    // ✅ Run work in the background, handle the result on the FX thread
+    public <T> CompletableFuture<T> run(Callable<T> work, Consumer<T> onSuccess, Consumer<Throwable> onError) {
+        return track(DataAccessService.supply(work), onSuccess, onError, inFlight);
+    }
+
+    // ✅ Inserts, updates, deletes: left alone by cancelAll(), and the outcome is always reported
+    public <T> CompletableFuture<T> write(Callable<T> work, Consumer<T> onSuccess, Consumer<Throwable> onError) {
+        return track(DataAccessService.supply(work), onSuccess, onError, writes);
+    }
+
+    // ✅ Same as run(), with a pooled connection supplied and returned automatically
+    public <T> CompletableFuture<T> withConnection(SqlWork<T> work, Consumer<T> onSuccess, Consumer<Throwable> onError) {
+        return track(DataAccessService.withConnection(work), onSuccess, onError, inFlight);
+    }
+
+    // ✅ Wait for a shared future (e.g. a cache load) without cancelling it for other screens
+    public <T> CompletableFuture<T> await(CompletableFuture<T> shared, Consumer<T> onSuccess, Consumer<Throwable> onError) {
+        return track(shared.thenApply(Function.identity()), onSuccess, onError, inFlight);
+    }
+
+    private <T> CompletableFuture<T> track(CompletableFuture<T> future, Consumer<T> onSuccess, Consumer<Throwable> onError,
+                                           List<CompletableFuture<?>> owner) {
+        owner.add(future);
+        busy.set(true);
+        future.whenComplete((result, error) -> Platform.runLater(() -> {
+            owner.remove(future);
+            busy.set(!inFlight.isEmpty() || !writes.isEmpty());
+            if (future.isCancelled()) return;
+            if (error != null) {
+                if (onError != null) onError.accept(unwrap(error));
+            } else if (onSuccess != null) {
+                onSuccess.accept(result);
+            }
+        }));
+        return future;
+    }
+
+    // ✅ Drop the reads still running (user navigated away); writes finish and report as usual
+    public void cancelAll() {
+        for (CompletableFuture<?> f : new ArrayList<>(inFlight)) {
+            f.cancel(true);
+        }
+        inFlight.clear();
+        busy.set(!writes.isEmpty());
+    }
+
+    public ReadOnlyBooleanProperty busyProperty() {
+        return busy.getReadOnlyProperty();
+    }
+
+    // ✅ Show a loading indicator only while this screen has work in flight
+    public void showWhileBusy(Node indicator) {
+        if (indicator == null) return;
+        indicator.visibleProperty().bind(busy);
+        indicator.managedProperty().bind(busy);
+    }
+
+    // ✅ Cancel in-flight work once the node is removed from its scene or its scene leaves the window
+    public void bindTo(Node node) {
+        ChangeListener<Window> windowListener = (obs, oldWindow, newWindow) -> {
+            if (newWindow == null) cancelAll();
+        };
+        node.sceneProperty().addListener((obs, oldScene, newScene) -> {
+            if (oldScene != null) oldScene.windowProperty().removeListener(windowListener);
+            if (newScene == null) {
+                cancelAll();
+            } else {
+                newScene.windowProperty().addListener(windowListener);
+            }
+        });
+        Scene current = node.getScene();
+        if (current != null) current.windowProperty().addListener(windowListener);
+    }
+
+    private static Throwable unwrap(Throwable t) {
+        while ((t instanceof CompletionException || t instanceof ExecutionException) && t.getCause() != null) {
+            t = t.getCause();
+        }
+        return t;
+    }
+}
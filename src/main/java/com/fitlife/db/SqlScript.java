@@ -0,0 +1,71 @@
+package com.fitlife.db;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A bundled .sql resource split into statements.
+ * Statements end with ';' at the end of a line; lines starting with '--' are comments.
+ */
+public final class SqlScript {
+
+    private final String name;
+    private final List<String> statements;
+
+    private SqlScript(String name, List<String> statements) {
+        this.name = name;
+        this.statements = statements;
+    }
+
+    // ✅ Load from the classpath, e.g. "/db/schema.sql"
+    public static SqlScript load(String resource) throws IOException {
+        try (InputStream in = SqlScript.class.getResourceAsStream(resource)) {
+            if (in == null) throw new IOException("SQL script not found on the classpath: " + resource);
+            return parse(resource, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    static SqlScript parse(String name, String text) {
+        List<String> statements = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (String line : text.split("\\R")) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("--")) continue;
+            current.append(line).append('\n');
+            if (trimmed.endsWith(";")) {
+                String sql = current.toString().trim();
+                statements.add(sql.substring(0, sql.length() - 1));
+                current.setLength(0);
+            }
+        }
+        if (!current.toString().isBlank()) statements.add(current.toString().trim());
+        return new SqlScript(name, List.copyOf(statements));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<String> getStatements() {
+        return statements;
+    }
+
+    // ✅ Run every statement on the caller's connection (the caller owns the transaction)
+    public void execute(Connection conn) throws SQLException {
+        try (Statement st = conn.createStatement()) {
+            for (String sql : statements) {
+                try {
+                    st.execute(sql);
+                } catch (SQLException e) {
+                    throw new SQLException(name + ": " + e.getMessage() + "\n" + sql, e.getSQLState(), e.getErrorCode(), e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.fitlife.db;
+
+import java.sql.Connection;
+
+/**
+ * Unit of JDBC work that runs on a pooled connection supplied by {@link DataAccessService}.
+ */
+@FunctionalInterface
+public interface SqlWork<T> {
+    T execute(Connection conn) throws Exception;
+}
@@ -0,0 +1,87 @@
+package com.fitlife.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * UTF-8 text writer over a {@link FileChannel} with fixed-size char and byte buffers,
+ * so writing a file of any length uses the same memory.
+ */
+class ChannelTextWriter implements Closeable {
+
+    private static final int BUFFER_CHARS = 32 * 1024;
+
+    private final FileChannel channel;
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+    private final CharBuffer chars = CharBuffer.allocate(BUFFER_CHARS);
+    private final ByteBuffer bytes = ByteBuffer.allocateDirect(BUFFER_CHARS * 4);
+    private long written;
+
+    ChannelTextWriter(Path file) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    ChannelTextWriter append(char c) throws IOException {
+        if (!chars.hasRemaining()) drain(false);
+        chars.put(c);
+        return this;
+    }
+
+    ChannelTextWriter append(CharSequence s) throws IOException {
+        int len = s.length();
+        for (int i = 0; i < len; ) {
+            if (!chars.hasRemaining()) drain(false);
+            int n = Math.min(len - i, chars.remaining());
+            for (int end = i + n; i < end; i++) {
+                chars.put(s.charAt(i));
+            }
+        }
+        return this;
+    }
+
+    long bytesWritten() {
+        return written;
+    }
+
+    // 🔹 Encode buffered chars and push them to the channel
+    private void drain(boolean endOfInput) throws IOException {
+        chars.flip();
+        while (true) {
+            CoderResult result = encoder.encode(chars, bytes, endOfInput);
+            if (result.isError()) result.throwException();
+            writeBytes();
+            if (result.isUnderflow()) break;
+        }
+        if (endOfInput) {
+            encoder.flush(bytes);
+            writeBytes();
+        }
+        chars.compact(); // keeps a dangling high surrogate for the next round
+    }
+
+    private void writeBytes() throws IOException {
+        bytes.flip();
+        while (bytes.hasRemaining()) {
+            written += channel.write(bytes);
+        }
+        bytes.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            drain(true);
+        } finally {
+            channel.close();
+        }
+    }
+}
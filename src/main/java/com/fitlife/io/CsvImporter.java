@@ -0,0 +1,435 @@
+package com.fitlife.io;
+
+import com.fitlife.DatabaseUtil;
+import com.fitlife.model.Booking;
+import com.fitlife.model.Program;
+import com.fitlife.model.Staff;
+import com.fitlife.repository.BookingRepository;
+import com.fitlife.repository.ProgramRepository;
+import com.fitlife.repository.StaffRepository;
+import com.fitlife.repository.UserRepository;
+import com.fitlife.service.PricingEngine;
+import com.fitlife.service.ProgramCatalog;
+import com.fitlife.service.RecordValidator;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Streams a CSV file into the Staff, Program or Bookings table.
+ * Rows are validated with {@link RecordValidator} (the same rules as the entry forms), duplicates are
+ * caught against in-memory sets loaded once up front, and valid rows are written as JDBC batches,
+ * one transaction per chunk (-Dfitlife.import.chunkSize, default 1000).
+ * If a chunk fails, it is rolled back and retried row by row so only the offending rows are rejected.
+ * Chunks committed before a cancel stay committed.
+ * Run off the FX thread (e.g. through ScreenTasks).
+ */
+public class CsvImporter {
+
+    public static final int MAX_REPORTED_ERRORS = 1000;
+    private static final int CHUNK_SIZE = Math.max(1, Integer.getInteger("fitlife.import.chunkSize", 1000));
+
+    private final StaffRepository staffRepository = new StaffRepository();
+    private final ProgramRepository programRepository = new ProgramRepository();
+    private final BookingRepository bookingRepository = new BookingRepository();
+    private final UserRepository userRepository = new UserRepository();
+
+    public ImportReport importFile(Path file, ImportKind kind, ImportProgress progress) throws IOException, SQLException {
+        long started = System.currentTimeMillis();
+        long size = Math.max(1, Files.size(file));
+        RowHandler<?> handler = switch (kind) {
+            case STAFF -> new StaffRows();
+            case PROGRAMS -> new ProgramRows();
+            case BOOKINGS -> new BookingRows();
+        };
+
+        try (CountingInputStream counter = new CountingInputStream(Files.newInputStream(file));
+             CsvReader csv = new CsvReader(new InputStreamReader(counter, StandardCharsets.UTF_8))) {
+            Map<String, Integer> columns = readHeader(csv, kind);
+            handler.prepare();
+
+            Run<?> run = new Run<>(handler, columns);
+            String[] row;
+            while ((row = csv.next()) != null) {
+                if (Thread.currentThread().isInterrupted()) {
+                    run.cancelled = true;
+                    break;
+                }
+                run.add(csv.getRecordLine(), row);
+                if (run.chunk.size() >= CHUNK_SIZE) {
+                    run.flush();
+                    if (progress != null) {
+                        progress.update(Math.min(1.0, counter.count / (double) size), run.rowsRead, run.imported, run.rejected);
+                    }
+                }
+            }
+            if (!run.cancelled) run.flush();
+            if (run.imported > 0) handler.finish();
+            if (progress != null) progress.update(1.0, run.rowsRead, run.imported, run.rejected);
+
+            return new ImportReport(kind, run.rowsRead, run.imported, run.rejected, List.copyOf(run.errors),
+                    run.cancelled, System.currentTimeMillis() - started);
+        }
+    }
+
+    // 🔹 Header names (case-insensitive) → column index; fails fast if a required column is missing
+    private static Map<String, Integer> readHeader(CsvReader csv, ImportKind kind) throws IOException {
+        String[] header = csv.next();
+        if (header == null) throw new IOException("The file is empty.");
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.length; i++) {
+            String name = header[i].replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+            columns.putIfAbsent(name, i);
+        }
+        List<String> missing = new ArrayList<>();
+        for (String required : kind.getRequiredColumns()) {
+            if (!columns.containsKey(required)) missing.add(required);
+        }
+        if (!missing.isEmpty()) {
+            throw new IOException("Missing column(s) for " + kind.getLabel() + ": " + String.join(", ", missing));
+        }
+        return columns;
+    }
+
+    /** State of one import: the pending chunk, its source lines and the running counts. */
+    private final class Run<T> {
+        final RowHandler<T> handler;
+        final Map<String, Integer> columns;
+        final List<T> chunk = new ArrayList<>(CHUNK_SIZE);
+        final List<Long> lines = new ArrayList<>(CHUNK_SIZE);
+        final List<ImportError> errors = new ArrayList<>();
+        long rowsRead;
+        long imported;
+        long rejected;
+        boolean cancelled;
+
+        Run(RowHandler<T> handler, Map<String, Integer> columns) {
+            this.handler = handler;
+            this.columns = columns;
+        }
+
+        void add(long line, String[] fields) {
+            rowsRead++;
+            try {
+                T value = handler.parse(new Row(columns, fields));
+                String problem = handler.check(value);
+                if (problem != null) {
+                    reject(line, problem);
+                    return;
+                }
+                handler.accept(value);
+                chunk.add(value);
+                lines.add(line);
+            } catch (IllegalArgumentException e) {
+                reject(line, e.getMessage());
+            }
+        }
+
+        // ✅ One transaction per chunk; on failure fall back to row-by-row to isolate bad rows
+        void flush() throws SQLException {
+            if (chunk.isEmpty()) return;
+            try (Connection conn = DatabaseUtil.getConnection()) {
+                conn.setAutoCommit(false);
+                try {
+                    handler.write(conn, chunk);
+                    conn.commit();
+                    imported += chunk.size();
+                    for (T value : chunk) {
+                        handler.saved(value);
+                    }
+                } catch (SQLException batchFailure) {
+                    conn.rollback();
+                    for (int i = 0; i < chunk.size(); i++) {
+                        try {
+                            handler.write(conn, List.of(chunk.get(i)));
+                            conn.commit();
+                            imported++;
+                            handler.saved(chunk.get(i));
+                        } catch (SQLException rowFailure) {
+                            conn.rollback();
+                            reject(lines.get(i), rowFailure.getMessage());
+                        }
+                    }
+                }
+            } finally {
+                chunk.clear();
+                lines.clear();
+                handler.chunkDone();
+            }
+        }
+
+        void reject(long line, String message) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) errors.add(new ImportError(line, message));
+        }
+    }
+
+    /** One CSV record addressed by header name. */
+    private record Row(Map<String, Integer> columns, String[] fields) {
+
+        String get(String column) {
+            Integer i = columns.get(column);
+            return i == null || i >= fields.length ? "" : fields[i].trim();
+        }
+
+        int number(String column, String message) {
+            String value = get(column);
+            if (!RecordValidator.isWholeNumber(value)) throw new IllegalArgumentException(message);
+            try {
+                return Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(message);
+            }
+        }
+    }
+
+    /**
+     * Per-table parsing, validation, duplicate tracking and batch writing.
+     * Duplicate keys of accepted rows are held as pending until their chunk commits: only
+     * {@link #saved} rows count as existing for later chunks, so a rolled-back row doesn't
+     * turn later rows with the same values into "duplicates".
+     */
+    private abstract static class RowHandler<T> {
+
+        void prepare() throws SQLException {
+        }
+
+        abstract T parse(Row row);
+
+        abstract String check(T value);
+
+        // Accepted into the current chunk (not written yet)
+        void accept(T value) {
+        }
+
+        // Committed to the table
+        void saved(T value) {
+        }
+
+        // The chunk was written (or given up on); pending keys no longer apply
+        void chunkDone() {
+        }
+
+        abstract void write(Connection conn, List<T> rows) throws SQLException;
+
+        void finish() {
+        }
+    }
+
+    // 🔹 Staff: unique email and contact (against the table and earlier rows in the file).
+    //    Emails are compared lower-cased, as MySQL's case-insensitive collation does.
+    private final class StaffRows extends RowHandler<Staff> {
+        private final Set<String> emails = new HashSet<>();
+        private final Set<String> contacts = new HashSet<>();
+        private final Set<String> pendingEmails = new HashSet<>();
+        private final Set<String> pendingContacts = new HashSet<>();
+
+        @Override
+        void prepare() throws SQLException {
+            Set<String> stored = new HashSet<>();
+            staffRepository.collectEmailsAndContacts(stored, contacts);
+            for (String email : stored) {
+                emails.add(emailKey(email));
+            }
+        }
+
+        private static String emailKey(String email) {
+            return email == null ? null : email.toLowerCase(Locale.ROOT);
+        }
+
+        @Override
+        Staff parse(Row row) {
+            return new Staff(null, row.get("name"), row.get("gender"), row.get("role"), row.get("contact"),
+                    row.get("email"), row.number("salary", "Salary must be a number."));
+        }
+
+        @Override
+        String check(Staff s) {
+            String problem = RecordValidator.checkStaff(s);
+            if (problem != null) return problem;
+            String email = emailKey(s.getEmail());
+            if (emails.contains(email) || pendingEmails.contains(email)
+                    || contacts.contains(s.getContact()) || pendingContacts.contains(s.getContact())) {
+                return "A staff member with this email or contact number already exists.";
+            }
+            return null;
+        }
+
+        @Override
+        void accept(Staff s) {
+            pendingEmails.add(emailKey(s.getEmail()));
+            pendingContacts.add(s.getContact());
+        }
+
+        @Override
+        void saved(Staff s) {
+            emails.add(emailKey(s.getEmail()));
+            contacts.add(s.getContact());
+        }
+
+        @Override
+        void chunkDone() {
+            pendingEmails.clear();
+            pendingContacts.clear();
+        }
+
+        @Override
+        void write(Connection conn, List<Staff> rows) throws SQLException {
+            staffRepository.insertBatch(conn, rows);
+        }
+    }
+
+    // 🔹 Programs: unique names, trainer must be a Staff member with role Trainer
+    private final class ProgramRows extends RowHandler<Program> {
+        private final Set<String> names = new HashSet<>();
+        private final Set<String> pendingNames = new HashSet<>();
+        private final Set<String> trainers = new HashSet<>();
+
+        @Override
+        void prepare() throws SQLException {
+            for (String name : programRepository.findNames()) names.add(name.toLowerCase(Locale.ROOT));
+            trainers.addAll(staffRepository.findTrainerNames());
+        }
+
+        @Override
+        Program parse(Row row) {
+            return new Program(null, row.get("name"), row.number("cost_per_session", "Cost must be a valid number."),
+                    row.get("description"), row.get("trainer"));
+        }
+
+        @Override
+        String check(Program p) {
+            String problem = RecordValidator.checkProgram(p);
+            if (problem != null) return problem;
+            if (!trainers.contains(p.getTrainer())) return "Unknown trainer: " + p.getTrainer();
+            String name = p.getName().toLowerCase(Locale.ROOT);
+            if (names.contains(name) || pendingNames.contains(name)) return "A program with this name already exists.";
+            return null;
+        }
+
+        @Override
+        void accept(Program p) {
+            pendingNames.add(p.getName().toLowerCase(Locale.ROOT));
+        }
+
+        @Override
+        void saved(Program p) {
+            names.add(p.getName().toLowerCase(Locale.ROOT));
+        }
+
+        @Override
+        void chunkDone() {
+            pendingNames.clear();
+        }
+
+        @Override
+        void write(Connection conn, List<Program> rows) throws SQLException {
+            programRepository.insertBatch(conn, rows);
+        }
+
+        @Override
+        void finish() {
+            ProgramCatalog.getInstance().refresh();
+        }
+    }
+
+    /** A historical booking and the member account it belongs to. */
+    private record OwnedBooking(int userId, Booking booking) {
+    }
+
+    // 🔹 Bookings: owner must exist; a blank total_cost is priced like the booking form would
+    private final class BookingRows extends RowHandler<OwnedBooking> {
+        private final Set<Integer> userIds = new HashSet<>();
+        private final PricingEngine pricing = PricingEngine.getInstance();
+
+        @Override
+        void prepare() throws SQLException {
+            userRepository.collectIds(userIds);
+        }
+
+        @Override
+        OwnedBooking parse(Row row) {
+            int userId = row.number("user_id", "user_id must be a number.");
+            int sessions = row.number("sessions", "Enter a valid number of sessions.");
+            String membership = row.get("membership_type");
+            String program = row.get("program");
+
+            LocalDate start = null;
+            String date = row.get("start_date");
+            if (!date.isEmpty()) {
+                try {
+                    start = LocalDate.parse(date);
+                } catch (DateTimeParseException e) {
+                    throw new IllegalArgumentException("start_date must be YYYY-MM-DD.");
+                }
+            }
+
+            String cost = row.get("total_cost");
+            long total = cost.isEmpty()
+                    ? pricing.quote(program, membership, sessions)
+                    : row.number("total_cost", "Total cost could not be calculated.");
+            if (total > Integer.MAX_VALUE) throw new IllegalArgumentException("Total cost could not be calculated.");
+
+            return new OwnedBooking(userId, new Booking(0, row.get("full_name"), row.get("contact"),
+                    membership, program, start, sessions, (int) total));
+        }
+
+        @Override
+        String check(OwnedBooking b) {
+            String problem = RecordValidator.checkBooking(b.booking());
+            if (problem != null) return problem;
+            if (!userIds.contains(b.userId())) return "Unknown user_id: " + b.userId();
+            return null;
+        }
+
+        @Override
+        void write(Connection conn, List<OwnedBooking> rows) throws SQLException {
+            int[] owners = new int[rows.size()];
+            List<Booking> bookings = new ArrayList<>(rows.size());
+            for (int i = 0; i < owners.length; i++) {
+                owners[i] = rows.get(i).userId();
+                bookings.add(rows.get(i).booking());
+            }
+            bookingRepository.insertBatch(conn, owners, bookings);
+        }
+    }
+
+    /** Counts bytes consumed so progress can be reported against the file size. */
+    private static final class CountingInputStream extends FilterInputStream {
+        volatile long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) count++;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) count += n;
+            return n;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.fitlife.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal streaming CSV parser (RFC 4180: quoted fields, doubled quotes, line breaks inside quotes).
+ * Reads one record at a time, so memory does not grow with the file.
+ */
+public class CsvReader implements Closeable {
+
+    private final Reader in;
+    private final char[] buf = new char[8192];
+    private int pos;
+    private int len;
+    private long line = 1;          // physical line the next record starts on
+    private long recordLine;
+    private final StringBuilder field = new StringBuilder();
+
+    public CsvReader(Reader in) {
+        this.in = in;
+    }
+
+    // ✅ Next record's fields, or null at end of input
+    public String[] next() throws IOException {
+        int c = read();
+        while (c == '\r' || c == '\n') {     // skip blank lines
+            if (c == '\n') line++;
+            c = read();
+        }
+        if (c < 0) return null;
+
+        recordLine = line;
+        List<String> fields = new ArrayList<>();
+        field.setLength(0);
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        while (true) {
+            if (quoted) {
+                if (c < 0) throw new IOException("Unterminated quoted field starting on line " + recordLine);
+                if (c == '"') {
+                    int n = read();
+                    if (n == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = n;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') line++;
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0 && !wasQuoted) {
+                quoted = true;
+                wasQuoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                wasQuoted = false;
+            } else if (c == '\n' || c == '\r' || c < 0) {
+                if (c == '\r') {
+                    int n = read();
+                    if (n != '\n') unread();
+                }
+                if (c >= 0) line++;
+                fields.add(field.toString());
+                return fields.toArray(new String[0]);
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    // ✅ Line number the last returned record started on (for error reports)
+    public long getRecordLine() {
+        return recordLine;
+    }
+
+    private int read() throws IOException {
+        if (pos == len) {
+            len = in.read(buf, 0, buf.length);
+            pos = 0;
+            if (len <= 0) {
+                len = 0;
+                return -1;
+            }
+        }
+        return buf[pos++];
+    }
+
+    private void unread() {
+        if (pos > 0) pos--;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -0,0 +1,185 @@
+package com.fitlife.io;
+
+import com.fitlife.DatabaseUtil;
+import com.fitlife.repository.BookingRepository;
+import com.fitlife.repository.StaffRepository;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.concurrent.CancellationException;
+import java.util.function.LongConsumer;
+
+/**
+ * Streams bookings or staff straight from a forward-only ResultSet into a CSV or JSON Lines file.
+ * Rows are never collected: MySQL streams them one by one (fetch size Integer.MIN_VALUE), other
+ * drivers fetch -Dfitlife.export.fetchSize rows at a time (default 1000), and output goes through
+ * fixed-size NIO buffers, so memory stays flat however many rows there are.
+ * Run off the FX thread; interrupting the thread cancels the export and removes the partial file.
+ */
+public class DataExporter {
+
+    private static final int FETCH_SIZE = Math.max(1, Integer.getInteger("fitlife.export.fetchSize", 1000));
+    private static final int PROGRESS_EVERY = 5000;
+
+    private final BookingRepository bookingRepository = new BookingRepository();
+    private final StaffRepository staffRepository = new StaffRepository();
+
+    public ExportResult export(ExportKind kind, ExportFilter filter, ExportFormat format, Path file,
+                               LongConsumer progress) throws IOException, SQLException {
+        long started = System.currentTimeMillis();
+        boolean completed = false;
+        long rows = 0;
+        ChannelTextWriter out = new ChannelTextWriter(file);
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement ps = prepare(conn, kind, filter == null ? ExportFilter.NONE : filter)) {
+            conn.setReadOnly(true);
+            ps.setFetchSize(isMySql(conn) ? Integer.MIN_VALUE : FETCH_SIZE);
+            try (ResultSet rs = ps.executeQuery()) {
+                Column[] columns = columns(rs.getMetaData());
+                if (format == ExportFormat.CSV) writeCsvHeader(out, columns);
+                while (rs.next()) {
+                    if (Thread.currentThread().isInterrupted()) {
+                        cancelQuietly(ps);
+                        throw new CancellationException("Export cancelled");
+                    }
+                    if (format == ExportFormat.CSV) {
+                        writeCsvRow(out, rs, columns);
+                    } else {
+                        writeJsonRow(out, rs, columns);
+                    }
+                    if (++rows % PROGRESS_EVERY == 0 && progress != null) progress.accept(rows);
+                }
+            }
+            completed = true;
+        } finally {
+            out.close();
+            if (!completed) Files.deleteIfExists(file);
+        }
+        if (progress != null) progress.accept(rows);
+        return new ExportResult(file, rows, out.bytesWritten(), System.currentTimeMillis() - started);
+    }
+
+    private PreparedStatement prepare(Connection conn, ExportKind kind, ExportFilter f) throws SQLException {
+        return switch (kind) {
+            case BOOKINGS -> bookingRepository.prepareExport(conn, f.from(), f.to(), f.program(), f.userId());
+            case STAFF -> staffRepository.prepareExport(conn);
+        };
+    }
+
+    private static boolean isMySql(Connection conn) throws SQLException {
+        return "MySQL".equalsIgnoreCase(conn.getMetaData().getDatabaseProductName());
+    }
+
+    // 🔹 Stop the server sending the rest of a streamed result instead of draining it on close
+    private static void cancelQuietly(PreparedStatement ps) {
+        try {
+            ps.cancel();
+        } catch (SQLException ignored) {
+        }
+    }
+
+    /** Column label and whether it is written as a bare JSON number. */
+    private record Column(String label, boolean numeric) {
+    }
+
+    private static Column[] columns(ResultSetMetaData meta) throws SQLException {
+        Column[] columns = new Column[meta.getColumnCount()];
+        for (int i = 0; i < columns.length; i++) {
+            int type = meta.getColumnType(i + 1);
+            boolean numeric = switch (type) {
+                case Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT,
+                     Types.DECIMAL, Types.NUMERIC, Types.REAL, Types.FLOAT, Types.DOUBLE -> true;
+                default -> false;
+            };
+            columns[i] = new Column(meta.getColumnLabel(i + 1), numeric);
+        }
+        return columns;
+    }
+
+    // --- CSV (RFC 4180 quoting, CRLF line ends) ---
+
+    private static void writeCsvHeader(ChannelTextWriter out, Column[] columns) throws IOException {
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) out.append(',');
+            writeCsvValue(out, columns[i].label());
+        }
+        out.append("\r\n");
+    }
+
+    private static void writeCsvRow(ChannelTextWriter out, ResultSet rs, Column[] columns) throws IOException, SQLException {
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) out.append(',');
+            String value = rs.getString(i + 1);
+            if (value != null) writeCsvValue(out, value);
+        }
+        out.append("\r\n");
+    }
+
+    private static void writeCsvValue(ChannelTextWriter out, String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            out.append(value);
+            return;
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') out.append('"');
+            out.append(c);
+        }
+        out.append('"');
+    }
+
+    // --- JSON Lines (one object per line) ---
+
+    private static void writeJsonRow(ChannelTextWriter out, ResultSet rs, Column[] columns) throws IOException, SQLException {
+        out.append('{');
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) out.append(',');
+            writeJsonString(out, columns[i].label());
+            out.append(':');
+            String value = rs.getString(i + 1);
+            if (value == null) {
+                out.append("null");
+            } else if (columns[i].numeric()) {
+                out.append(value);
+            } else {
+                writeJsonString(out, value);
+            }
+        }
+        out.append("}\n");
+    }
+
+    private static void writeJsonString(ChannelTextWriter out, String value) throws IOException {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        out.append('"');
+    }
+}
@@ -0,0 +1,11 @@
+package com.fitlife.io;
+
+import java.time.LocalDate;
+
+/**
+ * Booking export filter; null fields are not filtered on. Dates are inclusive.
+ */
+public record ExportFilter(LocalDate from, LocalDate to, String program, Integer userId) {
+
+    public static final ExportFilter NONE = new ExportFilter(null, null, null, null);
+}
@@ -0,0 +1,27 @@
+package com.fitlife.io;
+
+/**
+ * Output formats supported by {@link DataExporter}.
+ */
+public enum ExportFormat {
+
+    CSV("CSV", "csv"),
+    JSON_LINES("JSON Lines", "jsonl");
+
+    private final String label;
+    private final String extension;
+
+    ExportFormat(String label, String extension) {
+        this.label = label;
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
@@ -0,0 +1,25 @@
+package com.fitlife.io;
+
+/**
+ * Tables that can be exported. Only bookings honour the {@link ExportFilter}.
+ */
+public enum ExportKind {
+
+    BOOKINGS("Bookings"),
+    STAFF("Staff");
+
+    private final String label;
+
+    ExportKind(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
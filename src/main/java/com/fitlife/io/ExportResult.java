@@ -0,0 +1,14 @@
+package com.fitlife.io;
+
+import java.nio.file.Path;
+
+/**
+ * Outcome of one export.
+ */
+public record ExportResult(Path file, long rows, long bytes, long elapsedMillis) {
+
+    public String summary() {
+        return String.format("%d rows, %.1f KB written to %s (%.1f s)",
+                rows, bytes / 1024.0, file.getFileName(), elapsedMillis / 1000.0);
+    }
+}
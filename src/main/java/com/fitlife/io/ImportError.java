@@ -0,0 +1,7 @@
+package com.fitlife.io;
+
+/**
+ * A rejected CSV row: the line it started on and why it was rejected.
+ */
+public record ImportError(long line, String message) {
+}
@@ -0,0 +1,41 @@
+package com.fitlife.io;
+
+import java.util.List;
+
+/**
+ * What a CSV file contains, with the header columns it must (and may) have.
+ */
+public enum ImportKind {
+
+    STAFF("Staff", List.of("name", "gender", "role", "contact", "email", "salary"), List.of()),
+    PROGRAMS("Programs", List.of("name", "cost_per_session", "description", "trainer"), List.of()),
+    BOOKINGS("Bookings", List.of("user_id", "full_name", "contact", "membership_type", "program", "sessions"),
+            List.of("start_date", "total_cost"));
+
+    private final String label;
+    private final List<String> requiredColumns;
+    private final List<String> optionalColumns;
+
+    ImportKind(String label, List<String> requiredColumns, List<String> optionalColumns) {
+        this.label = label;
+        this.requiredColumns = requiredColumns;
+        this.optionalColumns = optionalColumns;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public List<String> getRequiredColumns() {
+        return requiredColumns;
+    }
+
+    public List<String> getOptionalColumns() {
+        return optionalColumns;
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
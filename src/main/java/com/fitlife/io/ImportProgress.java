@@ -0,0 +1,13 @@
+package com.fitlife.io;
+
+/**
+ * Progress callback for {@link CsvImporter}; called from the import thread after every chunk.
+ */
+@FunctionalInterface
+public interface ImportProgress {
+
+    /**
+     * @param fraction share of the file read so far (0..1)
+     */
+    void update(double fraction, long rowsRead, long imported, long rejected);
+}
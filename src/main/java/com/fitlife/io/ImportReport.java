@@ -0,0 +1,34 @@
+package com.fitlife.io;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Outcome of one import. Only the first {@link CsvImporter#MAX_REPORTED_ERRORS} errors are kept;
+ * {@code rejected} counts all of them.
+ */
+public record ImportReport(ImportKind kind, long rowsRead, long imported, long rejected,
+                           List<ImportError> errors, boolean cancelled, long elapsedMillis) {
+
+    public String summary() {
+        return String.format("%s: %d rows read, %d imported, %d rejected%s (%.1f s)",
+                kind.getLabel(), rowsRead, imported, rejected, cancelled ? ", cancelled" : "",
+                elapsedMillis / 1000.0);
+    }
+
+    // ✅ Error report as CSV (line,message)
+    public void writeErrors(Path file) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("line,message");
+            out.newLine();
+            for (ImportError e : errors) {
+                out.write(e.line() + ",\"" + e.message().replace("\"", "\"\"") + "\"");
+                out.newLine();
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.fitlife.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Monotonic event counter (cheap under contention).
+ */
+public final class Counter {
+
+    private final LongAdder value = new LongAdder();
+
+    public void increment() {
+        value.increment();
+    }
+
+    public void add(long amount) {
+        value.add(amount);
+    }
+
+    public long get() {
+        return value.sum();
+    }
+}
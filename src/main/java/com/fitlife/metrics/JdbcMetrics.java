@@ -0,0 +1,131 @@
+package com.fitlife.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+/**
+ * Times every statement execution on a connection.
+ * The connection proxy hands out statement proxies that record each execute* call under the
+ * statement's SQL (whitespace collapsed, capped in length) plus the overall "db.query" timer;
+ * failures are counted in "db.errors". Time spent reading a streamed ResultSet after execute
+ * returns is not included.
+ */
+public final class JdbcMetrics {
+
+    private static final int MAX_SQL_LENGTH = 200;
+
+    private JdbcMetrics() {
+    }
+
+    public static Connection wrap(Connection conn) {
+        if (!MetricsRegistry.ENABLED) return conn;
+        return (Connection) Proxy.newProxyInstance(JdbcMetrics.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConnectionHandler(conn));
+    }
+
+    // "SELECT  `id`\n FROM ..." -> "SELECT `id` FROM ..."
+    static String normalize(String sql) {
+        if (sql == null) return "?";
+        StringBuilder sb = new StringBuilder(Math.min(sql.length(), MAX_SQL_LENGTH + 3));
+        boolean space = false;
+        for (int i = 0; i < sql.length() && sb.length() < MAX_SQL_LENGTH; i++) {
+            char c = sql.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = sb.length() > 0;
+            } else {
+                if (space) sb.append(' ');
+                sb.append(c);
+                space = false;
+            }
+        }
+        if (sb.length() >= MAX_SQL_LENGTH) sb.append("...");
+        return sb.toString();
+    }
+
+    private static final class ConnectionHandler implements InvocationHandler {
+        private final Connection conn;
+
+        ConnectionHandler(Connection conn) {
+            this.conn = conn;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+            Object result = call(conn, method, args);
+            if (result instanceof Statement st) {
+                String sql = method.getName().startsWith("prepare") && args != null && args[0] instanceof String s ? s : null;
+                return wrapStatement(st, sql == null ? null : normalize(sql));
+            }
+            return result;
+        }
+    }
+
+    private static Statement wrapStatement(Statement st, String sql) {
+        Class<?> type = st instanceof CallableStatement ? CallableStatement.class
+                : st instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+        return (Statement) Proxy.newProxyInstance(JdbcMetrics.class.getClassLoader(),
+                new Class<?>[]{type}, new StatementHandler(st, sql));
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+        private final Statement st;
+        private final String sql; // null for plain Statements: the SQL comes with each execute call
+
+        StatementHandler(Statement st, String sql) {
+            this.st = st;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+            if (!name.startsWith("execute")) return call(st, method, args);
+
+            String key = sql != null ? sql
+                    : args != null && args.length > 0 && args[0] instanceof String s ? normalize(s)
+                    : name.equals("executeBatch") || name.equals("executeLargeBatch") ? "(batch)" : "?";
+            MetricsRegistry registry = MetricsRegistry.getInstance();
+            long started = System.nanoTime();
+            try {
+                return call(st, method, args);
+            } catch (Throwable t) {
+                registry.counter(MetricsRegistry.DB_ERRORS).increment();
+                throw t;
+            } finally {
+                long elapsed = System.nanoTime() - started;
+                registry.timer(MetricsRegistry.DB_QUERY).record(elapsed);
+                registry.statement(key).record(elapsed);
+            }
+        }
+    }
+
+    private static Object call(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.fitlife.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with HDR-style log-linear buckets (values in microseconds).
+ * Values below 32 are counted exactly; above that each power of two is split into 16 linear
+ * sub-buckets, so any percentile is within about 6% of the true value while the whole
+ * range up to hours fits in under a thousand counters.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;          // 16
+    private static final int EXACT_LIMIT = SUB_BUCKETS * 2;               // 0..31 exact
+    private static final int BUCKETS = EXACT_LIMIT + (63 - 5) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    public void record(long micros) {
+        long v = Math.max(0, micros);
+        counts.incrementAndGet(indexOf(v));
+        count.increment();
+        sum.add(v);
+        long m;
+        while (v > (m = max.get()) && !max.compareAndSet(m, v)) {
+            // retry
+        }
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    // ✅ Consistent enough for a dashboard: counts may move while we read them
+    public MetricSnapshot snapshot() {
+        long n = count.sum();
+        if (n == 0) return MetricSnapshot.EMPTY;
+        long[] copy = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+            total += copy[i];
+        }
+        return new MetricSnapshot(n, sum.sum() / (double) n / 1000.0,
+                percentile(copy, total, 0.50) / 1000.0,
+                percentile(copy, total, 0.90) / 1000.0,
+                percentile(copy, total, 0.99) / 1000.0,
+                max.get() / 1000.0);
+    }
+
+    private static long percentile(long[] counts, long total, double quantile) {
+        long rank = Math.max(1, (long) Math.ceil(total * quantile));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) return midpointOf(i);
+        }
+        return midpointOf(counts.length - 1);
+    }
+
+    static int indexOf(long v) {
+        if (v < EXACT_LIMIT) return (int) v;
+        int magnitude = 63 - Long.numberOfLeadingZeros(v);           // >= 5
+        int shift = magnitude - SUB_BUCKET_BITS;
+        int sub = (int) (v >>> shift) - SUB_BUCKETS;                   // 0..15
+        return EXACT_LIMIT + (magnitude - 5) * SUB_BUCKETS + sub;
+    }
+
+    static long midpointOf(int index) {
+        if (index < EXACT_LIMIT) return index;
+        int magnitude = (index - EXACT_LIMIT) / SUB_BUCKETS + 5;
+        int sub = (index - EXACT_LIMIT) % SUB_BUCKETS;
+        int shift = magnitude - SUB_BUCKET_BITS;
+        long low = (long) (SUB_BUCKETS + sub) << shift;
+        return low + ((1L << shift) >> 1);
+    }
+}
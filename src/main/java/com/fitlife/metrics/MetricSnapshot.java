@@ -0,0 +1,22 @@
+package com.fitlife.metrics;
+
+/**
+ * Point-in-time view of a timer or histogram; latencies in milliseconds.
+ */
+public record MetricSnapshot(long count, double meanMillis, double p50Millis, double p90Millis,
+                             double p99Millis, double maxMillis) {
+
+    public static final MetricSnapshot EMPTY = new MetricSnapshot(0, 0, 0, 0, 0, 0);
+
+    // "p50 1.2 ms · p99 8.4 ms (1,204)"
+    public String summary() {
+        if (count == 0) return "no data";
+        return String.format("p50 %s · p99 %s (%,d)", format(p50Millis), format(p99Millis), count);
+    }
+
+    public static String format(double millis) {
+        if (millis >= 1000) return String.format("%.1f s", millis / 1000);
+        if (millis >= 10) return String.format("%.0f ms", millis);
+        return String.format("%.1f ms", millis);
+    }
+}
@@ -0,0 +1,89 @@
+package com.fitlife.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide named counters, timers and histograms.
+ * Lookups are a concurrent-map get and recording is lock-free, so instrumenting hot paths is cheap.
+ * Per-statement timers are capped (distinct SQL beyond the cap is counted under "other") so
+ * dynamically built SQL can't grow the registry without bound.
+ * Disable all instrumentation with -Dfitlife.metrics.enabled=false.
+ */
+public final class MetricsRegistry {
+
+    public static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("fitlife.metrics.enabled", "true"));
+
+    // --- Well-known metric names ---
+    public static final String DB_BORROW = "db.borrow";
+    public static final String DB_QUERY = "db.query";
+    public static final String DB_ERRORS = "db.errors";
+    public static final String FXML_LOAD = "ui.fxmlLoad";
+    public static final String NAVIGATION = "ui.navigation";
+    public static final String VIEW_CACHE_HITS = "ui.viewCache.hits";
+    public static final String VIEW_CACHE_MISSES = "ui.viewCache.misses";
+    public static final String FX_PULSE_DELAY = "fx.pulseDelay";
+    public static final String FX_STALLS = "fx.stalls";
+    public static final String FX_STALL_MILLIS = "fx.stallMillis";
+
+    private static final int MAX_STATEMENTS = 500;
+    private static final String OTHER_STATEMENTS = "other";
+
+    private static final MetricsRegistry INSTANCE = new MetricsRegistry();
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, Timer> statements = new ConcurrentHashMap<>();
+
+    private MetricsRegistry() {
+    }
+
+    public static MetricsRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    public Counter counter(String name) {
+        Counter c = counters.get(name);
+        return c != null ? c : counters.computeIfAbsent(name, n -> new Counter());
+    }
+
+    public Timer timer(String name) {
+        Timer t = timers.get(name);
+        return t != null ? t : timers.computeIfAbsent(name, Timer::new);
+    }
+
+    public LatencyHistogram histogram(String name) {
+        LatencyHistogram h = histograms.get(name);
+        return h != null ? h : histograms.computeIfAbsent(name, n -> new LatencyHistogram());
+    }
+
+    // ✅ Timer for one SQL statement (already normalised by the caller)
+    public Timer statement(String sql) {
+        Timer t = statements.get(sql);
+        if (t != null) return t;
+        if (statements.size() >= MAX_STATEMENTS) return statements.computeIfAbsent(OTHER_STATEMENTS, Timer::new);
+        return statements.computeIfAbsent(sql, Timer::new);
+    }
+
+    // ✅ Statements ordered by p99 latency, slowest first
+    public List<StatementStats> slowestStatements(int limit) {
+        List<StatementStats> all = new ArrayList<>(statements.size());
+        for (Timer t : statements.values()) {
+            if (t.getCount() > 0) all.add(new StatementStats(t.getName(), t.snapshot()));
+        }
+        all.sort(Comparator.comparingDouble((StatementStats s) -> s.latency().p99Millis()).reversed());
+        return all.size() > limit ? List.copyOf(all.subList(0, limit)) : all;
+    }
+
+    public Map<String, Timer> getTimers() {
+        return Map.copyOf(timers);
+    }
+
+    /** Latency of one SQL statement text. */
+    public record StatementStats(String sql, MetricSnapshot latency) {
+    }
+}
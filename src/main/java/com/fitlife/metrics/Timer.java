@@ -0,0 +1,41 @@
+package com.fitlife.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency timer backed by a {@link LatencyHistogram}.
+ * <pre>
+ * long started = System.nanoTime();
+ * ... work ...
+ * timer.recordSince(started);
+ * </pre>
+ */
+public final class Timer {
+
+    private final String name;
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    Timer(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void record(long nanos) {
+        histogram.record(TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    public long getCount() {
+        return histogram.getCount();
+    }
+
+    public MetricSnapshot snapshot() {
+        return histogram.snapshot();
+    }
+}
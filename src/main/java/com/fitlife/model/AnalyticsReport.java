@@ -0,0 +1,46 @@
+package com.fitlife.model;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Admin analytics for a range of months: revenue per program and month, sessions sold per
+ * membership type, trainer load and payroll. Built from the booking rollups, never from Bookings.
+ */
+public record AnalyticsReport(List<YearMonth> months, List<ProgramMonth> revenue, List<MembershipTotal> memberships,
+                              List<TrainerLoad> trainers, List<PayrollLine> payroll) {
+
+    /** Bookings of one program starting in one month. */
+    public record ProgramMonth(String program, YearMonth month, long bookings, long sessions, long revenue) {
+    }
+
+    /** Everything sold to one membership type in the range. */
+    public record MembershipTotal(String membership, long bookings, long sessions, long revenue) {
+    }
+
+    /** Programs a trainer leads and what was sold of them in the range. */
+    public record TrainerLoad(String trainer, int programs, long sessions, long revenue) {
+    }
+
+    /** Head count and monthly salaries of one staff role. */
+    public record PayrollLine(String role, int staff, long salaries) {
+    }
+
+    public long totalRevenue() {
+        long sum = 0;
+        for (ProgramMonth m : revenue) sum += m.revenue();
+        return sum;
+    }
+
+    public long totalSessions() {
+        long sum = 0;
+        for (ProgramMonth m : revenue) sum += m.sessions();
+        return sum;
+    }
+
+    public long totalPayroll() {
+        long sum = 0;
+        for (PayrollLine p : payroll) sum += p.salaries();
+        return sum;
+    }
+}
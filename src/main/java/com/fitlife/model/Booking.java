@@ -7,70 +7,114 @@ import java.time.LocalDate;
  * Booking model class for FitLife Gym Management System.
  * Stores the real numeric ID (auto-incremented in DB)
  * and provides a formatted booking code (e.g., "B001") for UI display.
+ * Immutable: plain fields per row, with JavaFX properties created only when a table cell
+ * first binds to them (and then reused), so large tables cost little beyond the data itself.
+ * Changes produce a new instance (see {@link #withId} and {@link #withVersion}).
  */
-public class Booking {
+public final class Booking {
 
-    private final IntegerProperty id;           // actual DB auto-increment value
-    private final StringProperty fullName;
-    private final StringProperty contact;
-    private final StringProperty membership;
-    private final StringProperty program;
-    private final ObjectProperty<LocalDate> startDate;
-    private final IntegerProperty numSessions;
-    private final IntegerProperty totalCost;
+    // Lazy property slots
+    private static final int ID = 0, BOOKING_ID = 1, FULL_NAME = 2, CONTACT = 3, MEMBERSHIP = 4,
+            PROGRAM = 5, START_DATE = 6, SESSIONS = 7, TOTAL_COST = 8, SLOTS = 9;
+
+    private final int id;                       // actual DB auto-increment value
+    private final String fullName;
+    private final String contact;
+    private final String membership;
+    private final String program;
+    private final LocalDate startDate;
+    private final int numSessions;
+    private final int totalCost;
+    private final int sessionId;                // ClassSession holding a seat for it, 0 for none
+    private final int version;                  // row_version as loaded; sent back with updates
+
+    private String formattedId;                 // "B001", built on first use
+    private ReadOnlyProperty<?>[] properties;   // null until a cell binds
 
     // ✅ Constructor
     public Booking(int id, String fullName, String contact,
                    String membership, String program, LocalDate startDate,
                    int numSessions, int totalCost) {
+        this(id, fullName, contact, membership, program, startDate, numSessions, totalCost, 0, 0);
+    }
 
-        this.id = new SimpleIntegerProperty(id);
-        this.fullName = new SimpleStringProperty(fullName);
-        this.contact = new SimpleStringProperty(contact);
-        this.membership = new SimpleStringProperty(membership);
-        this.program = new SimpleStringProperty(program);
-        this.startDate = new SimpleObjectProperty<>(startDate);
-        this.numSessions = new SimpleIntegerProperty(numSessions);
-        this.totalCost = new SimpleIntegerProperty(totalCost);
+    public Booking(int id, String fullName, String contact,
+                   String membership, String program, LocalDate startDate,
+                   int numSessions, int totalCost, int sessionId, int version) {
+        this.id = id;
+        this.fullName = fullName;
+        this.contact = contact;
+        this.membership = membership;
+        this.program = program;
+        this.startDate = startDate;
+        this.numSessions = numSessions;
+        this.totalCost = totalCost;
+        this.sessionId = sessionId;
+        this.version = version;
     }
 
     // ✅ Getters
-    public int getId() { return id.get(); }
-    public String getFullName() { return fullName.get(); }
-    public String getContact() { return contact.get(); }
-    public String getMembership() { return membership.get(); }
-    public String getProgram() { return program.get(); }
-    public LocalDate getStartDate() { return startDate.get(); }
-    public int getNumSessions() { return numSessions.get(); }
-    public int getTotalCost() { return totalCost.get(); }
+    public int getId() { return id; }
+    public String getFullName() { return fullName; }
+    public String getContact() { return contact; }
+    public String getMembership() { return membership; }
+    public String getProgram() { return program; }
+    public LocalDate getStartDate() { return startDate; }
+    public int getNumSessions() { return numSessions; }
+    public int getTotalCost() { return totalCost; }
+    public int getSessionId() { return sessionId; }
+    public int getVersion() { return version; }
 
-    // ✅ Setters
-    public void setId(int id) { this.id.set(id); }
-    public void setFullName(String name) { this.fullName.set(name); }
-    public void setContact(String contact) { this.contact.set(contact); }
-    public void setMembership(String type) { this.membership.set(type); }
-    public void setProgram(String program) { this.program.set(program); }
-    public void setStartDate(LocalDate date) { this.startDate.set(date); }
-    public void setNumSessions(int sessions) { this.numSessions.set(sessions); }
-    public void setTotalCost(int cost) { this.totalCost.set(cost); }
+    // ✅ Copies with one value changed
+    public Booking withId(int id) {
+        return new Booking(id, fullName, contact, membership, program, startDate, numSessions, totalCost, sessionId, version);
+    }
 
-    // ✅ Computed field: Booking code (formatted for UI)
+    public Booking withVersion(int version) {
+        return new Booking(id, fullName, contact, membership, program, startDate, numSessions, totalCost, sessionId, version);
+    }
+
+    // ✅ Computed field: Booking code (formatted for UI, cached)
     public String getFormattedBookingId() {
-        return String.format("B%03d", getId());
+        String s = formattedId;
+        if (s == null) formattedId = s = String.format("B%03d", id);
+        return s;
     }
 
-    // ✅ JavaFX Properties (for bindings)
-    public IntegerProperty idProperty() { return id; }
-    public StringProperty fullNameProperty() { return fullName; }
-    public StringProperty contactProperty() { return contact; }
-    public StringProperty membershipProperty() { return membership; }
-    public StringProperty programProperty() { return program; }
-    public ObjectProperty<LocalDate> startDateProperty() { return startDate; }
-    public IntegerProperty numSessionsProperty() { return numSessions; }
-    public IntegerProperty totalCostProperty() { return totalCost; }
+    // ✅ JavaFX Properties (for TableView cells; created once per row on first use). They are the
+    // read-only side of a wrapper, so a shared row cannot be changed by casting one back.
+    public ReadOnlyIntegerProperty idProperty() { return (ReadOnlyIntegerProperty) property(ID); }
+    public ReadOnlyStringProperty fullNameProperty() { return (ReadOnlyStringProperty) property(FULL_NAME); }
+    public ReadOnlyStringProperty contactProperty() { return (ReadOnlyStringProperty) property(CONTACT); }
+    public ReadOnlyStringProperty membershipProperty() { return (ReadOnlyStringProperty) property(MEMBERSHIP); }
+    public ReadOnlyStringProperty programProperty() { return (ReadOnlyStringProperty) property(PROGRAM); }
+    @SuppressWarnings("unchecked")
+    public ReadOnlyObjectProperty<LocalDate> startDateProperty() { return (ReadOnlyObjectProperty<LocalDate>) property(START_DATE); }
+    public ReadOnlyIntegerProperty numSessionsProperty() { return (ReadOnlyIntegerProperty) property(SESSIONS); }
+    public ReadOnlyIntegerProperty totalCostProperty() { return (ReadOnlyIntegerProperty) property(TOTAL_COST); }
 
     // ✅ Property for TableView to show formatted booking code
-    public StringProperty bookingIdProperty() {
-        return new SimpleStringProperty(getFormattedBookingId());
+    public ReadOnlyStringProperty bookingIdProperty() { return (ReadOnlyStringProperty) property(BOOKING_ID); }
+
+    private ReadOnlyProperty<?> property(int slot) {
+        if (properties == null) properties = new ReadOnlyProperty<?>[SLOTS];
+        ReadOnlyProperty<?> p = properties[slot];
+        if (p == null) properties[slot] = p = createProperty(slot);
+        return p;
+    }
+
+    private ReadOnlyProperty<?> createProperty(int slot) {
+        return switch (slot) {
+            case ID -> new ReadOnlyIntegerWrapper(this, "id", id).getReadOnlyProperty();
+            case BOOKING_ID -> new ReadOnlyStringWrapper(this, "bookingId", getFormattedBookingId()).getReadOnlyProperty();
+            case FULL_NAME -> new ReadOnlyStringWrapper(this, "fullName", fullName).getReadOnlyProperty();
+            case CONTACT -> new ReadOnlyStringWrapper(this, "contact", contact).getReadOnlyProperty();
+            case MEMBERSHIP -> new ReadOnlyStringWrapper(this, "membership", membership).getReadOnlyProperty();
+            case PROGRAM -> new ReadOnlyStringWrapper(this, "program", program).getReadOnlyProperty();
+            case START_DATE -> new ReadOnlyObjectWrapper<>(this, "startDate", startDate).getReadOnlyProperty();
+            case SESSIONS -> new ReadOnlyIntegerWrapper(this, "numSessions", numSessions).getReadOnlyProperty();
+            case TOTAL_COST -> new ReadOnlyIntegerWrapper(this, "totalCost", totalCost).getReadOnlyProperty();
+            default -> throw new IllegalArgumentException("No property slot " + slot);
+        };
     }
 }
@@ -0,0 +1,18 @@
+package com.fitlife.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * One dated class of a program with its capacity and current occupancy.
+ */
+public record ClassSession(int id, int programId, String programName,
+                           LocalDateTime startsAt, LocalDateTime endsAt, int capacity, int booked) {
+
+    public int available() {
+        return Math.max(0, capacity - booked);
+    }
+
+    public boolean isFull() {
+        return booked >= capacity;
+    }
+}
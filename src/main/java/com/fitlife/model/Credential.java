@@ -0,0 +1,8 @@
+package com.fitlife.model;
+
+/**
+ * Account from the Login table together with its stored password value
+ * (a PBKDF2 hash, or plaintext on rows that predate hashing).
+ */
+public record Credential(User user, String storedPassword) {
+}
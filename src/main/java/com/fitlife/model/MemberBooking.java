@@ -0,0 +1,7 @@
+package com.fitlife.model;
+
+/**
+ * A booking as the admin console lists it: with the member account that owns it.
+ */
+public record MemberBooking(int userId, String username, Booking booking) {
+}
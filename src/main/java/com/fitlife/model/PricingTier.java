@@ -0,0 +1,9 @@
+package com.fitlife.model;
+
+/**
+ * One row of the PricingTier table.
+ * From {@code minSessions} sessions upwards the per-session rate is {@code ratePercent}% of the
+ * program's cost per session. A null program or membership type means "any".
+ */
+public record PricingTier(String program, String membershipType, int minSessions, int ratePercent) {
+}
@@ -2,87 +2,114 @@ package com.fitlife.model;
 
 import javafx.beans.property.*;
 
-public class Program {
+/**
+ * A training program.
+ * Immutable (instances are shared through ProgramCatalog): plain fields, with JavaFX
+ * properties created only when a table cell first binds to them. Changes produce a copy.
+ */
+public final class Program {
 
-    private final StringProperty id;
-    private final StringProperty name;
-    private final IntegerProperty costPerSession;
-    private final StringProperty description;
-    private final StringProperty trainer;
+    // Lazy property slots
+    private static final int ID = 0, NAME = 1, COST = 2, DESCRIPTION = 3, TRAINER = 4, SLOTS = 5;
+
+    private final String id;
+    private final String name;
+    private final int costPerSession;
+    private final String description;
+    private final String trainer;
+    private final int version; // row_version as loaded; sent back with updates
+
+    private ReadOnlyProperty<?>[] properties; // null until a cell binds
 
     // ✅ Constructor
     public Program(String id, String name, int costPerSession, String description, String trainer) {
-        this.id = new SimpleStringProperty(id);
-        this.name = new SimpleStringProperty(name);
-        this.costPerSession = new SimpleIntegerProperty(costPerSession);
-        this.description = new SimpleStringProperty(description);
-        this.trainer = new SimpleStringProperty(trainer);
+        this(id, name, costPerSession, description, trainer, 0);
+    }
+
+    public Program(String id, String name, int costPerSession, String description, String trainer, int version) {
+        this.id = id;
+        this.name = name;
+        this.costPerSession = costPerSession;
+        this.description = description;
+        this.trainer = trainer;
+        this.version = version;
     }
 
     // ✅ Getters
     public String getId() {
-        return id.get();
+        return id;
     }
 
     public String getName() {
-        return name.get();
+        return name;
     }
 
     public int getCostPerSession() {
-        return costPerSession.get();
+        return costPerSession;
     }
 
     public String getDescription() {
-        return description.get();
+        return description;
     }
 
     public String getTrainer() {
-        return trainer.get();
-    }
-
-    // ✅ Setters
-    public void setId(String id) {
-        this.id.set(id);
+        return trainer;
     }
 
-    public void setName(String name) {
-        this.name.set(name);
+    public int getVersion() {
+        return version;
     }
 
-    public void setCostPerSession(int costPerSession) {
-        this.costPerSession.set(costPerSession);
+    // ✅ Copies with one value changed
+    public Program withId(String id) {
+        return new Program(id, name, costPerSession, description, trainer, version);
     }
 
-    public void setDescription(String description) {
-        this.description.set(description);
+    public Program withVersion(int version) {
+        return new Program(id, name, costPerSession, description, trainer, version);
     }
 
-    public void setTrainer(String trainer) {
-        this.trainer.set(trainer);
+    // ✅ Property Methods (for TableView binding; created once per row on first use)
+    public ReadOnlyStringProperty idProperty() {
+        return (ReadOnlyStringProperty) property(ID);
     }
 
-    // ✅ Property Methods (for TableView binding)
-    public StringProperty idProperty() {
-        return id;
+    public ReadOnlyStringProperty nameProperty() {
+        return (ReadOnlyStringProperty) property(NAME);
     }
 
-    public StringProperty nameProperty() {
-        return name;
+    public ReadOnlyIntegerProperty costPerSessionProperty() {
+        return (ReadOnlyIntegerProperty) property(COST);
     }
 
-    public IntegerProperty costPerSessionProperty() {
-        return costPerSession;
+    public ReadOnlyStringProperty descriptionProperty() {
+        return (ReadOnlyStringProperty) property(DESCRIPTION);
     }
 
-    public StringProperty descriptionProperty() {
-        return description;
+    public ReadOnlyStringProperty trainerProperty() {
+        return (ReadOnlyStringProperty) property(TRAINER);
     }
 
-    public StringProperty trainerProperty() {
-        return trainer;
+    private ReadOnlyProperty<?> property(int slot) {
+        if (properties == null) properties = new ReadOnlyProperty<?>[SLOTS];
+        ReadOnlyProperty<?> p = properties[slot];
+        if (p == null) {
+            p = switch (slot) {
+                case ID -> new ReadOnlyStringWrapper(this, "id", id).getReadOnlyProperty();
+                case NAME -> new ReadOnlyStringWrapper(this, "name", name).getReadOnlyProperty();
+                case COST -> new ReadOnlyIntegerWrapper(this, "costPerSession", costPerSession).getReadOnlyProperty();
+                case DESCRIPTION -> new ReadOnlyStringWrapper(this, "description", description).getReadOnlyProperty();
+                case TRAINER -> new ReadOnlyStringWrapper(this, "trainer", trainer).getReadOnlyProperty();
+                default -> throw new IllegalArgumentException("No property slot " + slot);
+            };
+            properties[slot] = p;
+        }
+        return p;
     }
 
     // ✅ (NEW) Helper — case-insensitive match for search
+    // Linear check of one program; screens search through ProgramCatalog's index instead
+    @Deprecated
     public boolean matchesSearch(String query) {
         if (query == null || query.isEmpty()) return true;
         String lower = query.toLowerCase();
@@ -0,0 +1,18 @@
+package com.fitlife.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.time.format.TextStyle;
+import java.util.Locale;
+
+/**
+ * One weekly timetable entry of a program (e.g. Mondays 07:00, 60 min, 12 places).
+ */
+public record ScheduleSlot(int id, int programId, DayOfWeek day, LocalTime start, int durationMinutes, int capacity) {
+
+    // "Mon 07:00 · 60 min · 12 places"
+    public String describe() {
+        return day.getDisplayName(TextStyle.SHORT, Locale.getDefault()) + " " + start + " · "
+                + durationMinutes + " min · " + capacity + " places";
+    }
+}
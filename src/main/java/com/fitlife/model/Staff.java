@@ -2,40 +2,80 @@ package com.fitlife.model;
 
 import javafx.beans.property.*;
 
-public class Staff {
-    private final StringProperty id;
-    private final StringProperty name;
-    private final StringProperty gender;
-    private final StringProperty role;
-    private final StringProperty contact;
-    private final StringProperty email;
-    private final IntegerProperty salary;
+/**
+ * A staff member. Immutable: plain fields, with JavaFX properties created only when a
+ * table cell first binds to them. Changes produce a copy.
+ */
+public final class Staff {
+
+    // Lazy property slots
+    private static final int ID = 0, NAME = 1, GENDER = 2, ROLE = 3, CONTACT = 4, EMAIL = 5, SALARY = 6, SLOTS = 7;
+
+    private final String id;
+    private final String name;
+    private final String gender;
+    private final String role;
+    private final String contact;
+    private final String email;
+    private final int salary;
+    private final int version; // row_version as loaded; sent back with updates
+
+    private ReadOnlyProperty<?>[] properties; // null until a cell binds
 
     public Staff(String id, String name, String gender, String role, String contact, String email, int salary) {
-        this.id = new SimpleStringProperty(id);
-        this.name = new SimpleStringProperty(name);
-        this.gender = new SimpleStringProperty(gender);
-        this.role = new SimpleStringProperty(role);
-        this.contact = new SimpleStringProperty(contact);
-        this.email = new SimpleStringProperty(email);
-        this.salary = new SimpleIntegerProperty(salary);
+        this(id, name, gender, role, contact, email, salary, 0);
+    }
+
+    public Staff(String id, String name, String gender, String role, String contact, String email, int salary, int version) {
+        this.id = id;
+        this.name = name;
+        this.gender = gender;
+        this.role = role;
+        this.contact = contact;
+        this.email = email;
+        this.salary = salary;
+        this.version = version;
     }
 
     // --- Getters (Optional but useful) ---
-    public String getId() { return id.get(); }
-    public String getName() { return name.get(); }
-    public String getGender() { return gender.get(); }
-    public String getRole() { return role.get(); }
-    public String getContact() { return contact.get(); }
-    public String getEmail() { return email.get(); }
-    public int getSalary() { return salary.get(); }
-
-    // --- Property Getters for TableView binding ---
-    public StringProperty idProperty() { return id; }
-    public StringProperty nameProperty() { return name; }
-    public StringProperty genderProperty() { return gender; }
-    public StringProperty roleProperty() { return role; }
-    public StringProperty contactProperty() { return contact; }
-    public StringProperty emailProperty() { return email; }
-    public IntegerProperty salaryProperty() { return salary; }
+    public String getId() { return id; }
+    public String getName() { return name; }
+    public String getGender() { return gender; }
+    public String getRole() { return role; }
+    public String getContact() { return contact; }
+    public String getEmail() { return email; }
+    public int getSalary() { return salary; }
+    public int getVersion() { return version; }
+
+    public Staff withVersion(int version) {
+        return new Staff(id, name, gender, role, contact, email, salary, version);
+    }
+
+    // --- Property Getters for TableView binding (created once per row on first use) ---
+    public ReadOnlyStringProperty idProperty() { return (ReadOnlyStringProperty) property(ID); }
+    public ReadOnlyStringProperty nameProperty() { return (ReadOnlyStringProperty) property(NAME); }
+    public ReadOnlyStringProperty genderProperty() { return (ReadOnlyStringProperty) property(GENDER); }
+    public ReadOnlyStringProperty roleProperty() { return (ReadOnlyStringProperty) property(ROLE); }
+    public ReadOnlyStringProperty contactProperty() { return (ReadOnlyStringProperty) property(CONTACT); }
+    public ReadOnlyStringProperty emailProperty() { return (ReadOnlyStringProperty) property(EMAIL); }
+    public ReadOnlyIntegerProperty salaryProperty() { return (ReadOnlyIntegerProperty) property(SALARY); }
+
+    private ReadOnlyProperty<?> property(int slot) {
+        if (properties == null) properties = new ReadOnlyProperty<?>[SLOTS];
+        ReadOnlyProperty<?> p = properties[slot];
+        if (p == null) {
+            p = switch (slot) {
+                case ID -> new ReadOnlyStringWrapper(this, "id", id).getReadOnlyProperty();
+                case NAME -> new ReadOnlyStringWrapper(this, "name", name).getReadOnlyProperty();
+                case GENDER -> new ReadOnlyStringWrapper(this, "gender", gender).getReadOnlyProperty();
+                case ROLE -> new ReadOnlyStringWrapper(this, "role", role).getReadOnlyProperty();
+                case CONTACT -> new ReadOnlyStringWrapper(this, "contact", contact).getReadOnlyProperty();
+                case EMAIL -> new ReadOnlyStringWrapper(this, "email", email).getReadOnlyProperty();
+                case SALARY -> new ReadOnlyIntegerWrapper(this, "salary", salary).getReadOnlyProperty();
+                default -> throw new IllegalArgumentException("No property slot " + slot);
+            };
+            properties[slot] = p;
+        }
+        return p;
+    }
 }
@@ -0,0 +1,30 @@
+package com.fitlife.model;
+
+/**
+ * Logged-in account from the Login table (id, username and role/type).
+ */
+public class User {
+
+    private final int id;
+    private final String username;
+    private final String role;
+
+    public User(int id, String username, String role) {
+        this.id = id;
+        this.username = username;
+        this.role = role;
+    }
+
+    public int getId() { return id; }
+    public String getUsername() { return username; }
+    public String getRole() { return role; }
+
+    public boolean isAdmin() {
+        return role != null && role.equalsIgnoreCase("admin");
+    }
+
+    @Override
+    public String toString() {
+        return String.format("User{id=%d, username='%s', role='%s'}", id, username, role);
+    }
+}
@@ -0,0 +1,19 @@
+package com.fitlife.model;
+
+import java.time.Instant;
+
+/**
+ * Immutable snapshot of one logged-in session (one per terminal window).
+ * Activity updates replace the snapshot, so a copy captured by a background task never changes under it.
+ */
+public record UserSession(String id, int userId, String username, String role, String terminal,
+                          Instant startedAt, long lastActiveNanos) {
+
+    public boolean isAdmin() {
+        return role != null && role.equalsIgnoreCase("admin");
+    }
+
+    public UserSession touchedAt(long nanos) {
+        return new UserSession(id, userId, username, role, terminal, startedAt, nanos);
+    }
+}
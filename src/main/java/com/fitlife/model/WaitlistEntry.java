@@ -0,0 +1,17 @@
+package com.fitlife.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * A member waiting for a place in a full class session, with the booking to make for them.
+ * Entries are served in id order.
+ */
+public record WaitlistEntry(int id, int sessionId, int userId, String fullName, String contact,
+                            String membership, int numSessions, int totalCost) {
+
+    // ✅ The booking this entry turns into when a seat frees up
+    public Booking toBooking(String program, LocalDateTime startsAt) {
+        return new Booking(0, fullName, contact, membership, program, startsAt.toLocalDate(),
+                numSessions, totalCost, sessionId, 0);
+    }
+}
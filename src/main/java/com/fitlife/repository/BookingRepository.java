@@ -0,0 +1,514 @@
+package com.fitlife.repository;
+
+import com.fitlife.DatabaseUtil;
+import com.fitlife.model.Booking;
+import com.fitlife.model.ClassSession;
+import com.fitlife.model.MemberBooking;
+import com.fitlife.model.WaitlistEntry;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * All SQL for the Bookings table. Every member-facing statement is scoped by user_id.
+ * Updates are versioned: they only apply to the row_version the editor loaded.
+ * A booking made for a class session takes (and on delete gives back) its seat in the same
+ * transaction as the booking row, so ClassSession.booked always matches the bookings.
+ * A seat given back while members are waiting goes straight to the first of them instead.
+ * Every insert, edit and delete also moves the BookingRollup totals, in the same transaction.
+ * The admin console's {@link #search} is the one read across all members.
+ */
+public class BookingRepository {
+
+    /** {@link #insert} result when the booking's class session has no seat left (nothing was saved). */
+    public static final int SESSION_FULL = -2;
+    /** {@link #insert} result when the member already has a seat or waitlist place in that class session. */
+    public static final int ALREADY_IN_SESSION = -3;
+
+    private static final String COLUMNS =
+            "booking_id, full_name, contact, membership_type, program, start_date, sessions, total_cost, session_id, row_version";
+
+    private static final String FIND_BY_USER =
+            "SELECT " + COLUMNS + " FROM Bookings WHERE user_id = ? ORDER BY booking_id";
+    private static final String FIND_BY_ID_FOR_USER =
+            "SELECT " + COLUMNS + " FROM Bookings WHERE booking_id = ? AND user_id = ?";
+    private static final String FIND_PAGE_BY_USER =
+            "SELECT " + COLUMNS + " FROM Bookings WHERE user_id = ? AND booking_id > ? ORDER BY booking_id LIMIT ?";
+    private static final String EXPORT =
+            "SELECT booking_id, user_id, full_name, contact, membership_type, program, start_date, sessions, total_cost " +
+                    "FROM Bookings";
+    private static final String INSERT =
+            "INSERT INTO Bookings (user_id, full_name, contact, membership_type, program, start_date, sessions, total_cost, session_id) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE =
+            "UPDATE Bookings SET full_name=?, contact=?, membership_type=?, program=?, start_date=?, sessions=?, total_cost=?, " +
+                    "row_version=row_version+1 WHERE booking_id=? AND user_id=? AND row_version=?";
+    private static final String DELETE =
+            "DELETE FROM Bookings WHERE booking_id=? AND user_id=?";
+    private static final String LOCK_BY_ID_FOR_USER = FIND_BY_ID_FOR_USER + " FOR UPDATE";
+    private static final String IN_SESSION =
+            "SELECT (SELECT COUNT(*) FROM Bookings WHERE session_id = ? AND user_id = ?) + " +
+                    "(SELECT COUNT(*) FROM Waitlist WHERE session_id = ? AND user_id = ?)";
+    // Admin console: COLUMNS, then the owner (no column name is shared by the two tables)
+    private static final String SEARCH_PAGE =
+            "SELECT " + COLUMNS + ", user_id, username FROM Bookings LEFT JOIN Login ON Login.id = Bookings.user_id";
+    private static final String SEARCH_TOTALS =
+            "SELECT COUNT(*) AS bookings, COALESCE(SUM(total_cost), 0) AS revenue FROM Bookings";
+    private static final String SEARCH_ROLLUP_TOTALS =
+            "SELECT COALESCE(SUM(bookings), 0) AS bookings, COALESCE(SUM(revenue), 0) AS revenue FROM BookingRollup";
+
+    private final ScheduleRepository scheduleRepository = new ScheduleRepository();
+    private final WaitlistRepository waitlistRepository = new WaitlistRepository();
+    private final BookingRollupRepository rollups = new BookingRollupRepository();
+
+    public List<Booking> findByUser(int userId) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(FIND_BY_USER)) {
+            ps.setInt(1, userId);
+            try (ResultSet rs = ps.executeQuery()) {
+                List<Booking> bookings = new ArrayList<>();
+                while (rs.next()) {
+                    bookings.add(map(rs));
+                }
+                return bookings;
+            }
+        }
+    }
+
+    // ✅ Keyset page: bookings after the given booking_id (0 for the first page)
+    public Page<Booking> findPageByUser(int userId, int afterBookingId, int limit) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(FIND_PAGE_BY_USER)) {
+            ps.setInt(1, userId);
+            ps.setInt(2, afterBookingId);
+            ps.setInt(3, limit + 1);
+            try (ResultSet rs = ps.executeQuery()) {
+                List<Booking> bookings = new ArrayList<>(limit + 1);
+                while (rs.next()) {
+                    bookings.add(map(rs));
+                }
+                return Page.of(bookings, limit);
+            }
+        }
+    }
+
+    // ✅ Returns the generated booking id (or -1 if the driver returned none, SESSION_FULL if no seat
+    // was left, ALREADY_IN_SESSION if the member is already booked or waiting for that class)
+    public int insert(int userId, Booking booking) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                if (booking.getSessionId() != 0) {
+                    scheduleRepository.lockSession(conn, booking.getSessionId());
+                    if (isInSession(conn, userId, booking.getSessionId())) {
+                        conn.rollback();
+                        return ALREADY_IN_SESSION;
+                    }
+                    if (!scheduleRepository.takeSeat(conn, booking.getSessionId())) {
+                        conn.rollback();
+                        return SESSION_FULL;
+                    }
+                }
+                int id = insert(conn, userId, booking);
+                conn.commit();
+                return id;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        }
+    }
+
+    // ✅ For a full class: books the seat if one freed up meanwhile, otherwise joins its waitlist
+    // (once: a member already booked or waiting for the class is turned away)
+    public SeatResult bookOrWait(int userId, Booking booking) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                scheduleRepository.lockSession(conn, booking.getSessionId());
+                SeatResult result;
+                if (isInSession(conn, userId, booking.getSessionId())) {
+                    result = SeatResult.alreadyInSession();
+                } else if (scheduleRepository.takeSeat(conn, booking.getSessionId())) {
+                    result = SeatResult.booked(insert(conn, userId, booking));
+                } else if (hasStarted(conn, booking.getSessionId())) {
+                    result = SeatResult.closed();
+                } else {
+                    result = SeatResult.queued(waitlistRepository.add(conn, userId, booking));
+                }
+                conn.commit();
+                return result;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        }
+    }
+
+    // Under the session lock, so a concurrent join or booking by the same member is already visible
+    private static boolean isInSession(Connection conn, int userId, int sessionId) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(IN_SESSION)) {
+            ps.setInt(1, sessionId);
+            ps.setInt(2, userId);
+            ps.setInt(3, sessionId);
+            ps.setInt(4, userId);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() && rs.getLong(1) > 0;
+            }
+        }
+    }
+
+    private boolean hasStarted(Connection conn, int sessionId) throws SQLException {
+        ClassSession session = scheduleRepository.findSession(conn, sessionId);
+        return session == null || !session.startsAt().isAfter(LocalDateTime.now());
+    }
+
+    private int insert(Connection conn, int userId, Booking booking) throws SQLException {
+        int id;
+        try (PreparedStatement ps = conn.prepareStatement(INSERT, Statement.RETURN_GENERATED_KEYS)) {
+            ps.setInt(1, userId);
+            bindFields(ps, booking, 2);
+            bindSession(ps, booking, 9);
+            ps.executeUpdate();
+            try (ResultSet keys = ps.getGeneratedKeys()) {
+                id = keys.next() ? keys.getInt(1) : -1;
+            }
+        }
+        rollups.apply(conn, new BookingRollupRepository.Delta().add(booking));
+        return id;
+    }
+
+    // ✅ One JDBC batch on the caller's connection/transaction; userIds[i] owns bookings.get(i)
+    public void insertBatch(Connection conn, int[] userIds, List<Booking> bookings) throws SQLException {
+        BookingRollupRepository.Delta delta = new BookingRollupRepository.Delta();
+        try (PreparedStatement ps = conn.prepareStatement(INSERT)) {
+            for (int i = 0; i < bookings.size(); i++) {
+                ps.setInt(1, userIds[i]);
+                bindFields(ps, bookings.get(i), 2);
+                bindSession(ps, bookings.get(i), 9);
+                ps.addBatch();
+                delta.add(bookings.get(i));
+            }
+            ps.executeBatch();
+        }
+        rollups.apply(conn, delta); // one upsert per program/month/membership in the batch
+    }
+
+    // ✅ Applies only if nobody saved the row since it was loaded; otherwise returns the row as it is now
+    // (current is null when the booking is gone or isn't owned by the user)
+    public UpdateResult<Booking> update(int userId, Booking booking) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                // The row as it is before the edit, locked, so its totals can be moved in the rollup
+                Booking before = lockById(conn, userId, booking.getId());
+                if (before == null || before.getVersion() != booking.getVersion()) {
+                    conn.rollback();
+                    return UpdateResult.conflict(before);
+                }
+                // A class booking stays on its class's program and date (ClassSession, calendar and
+                // rollups all key on them); only the member's details and sessions are editable
+                if (before.getSessionId() != 0) {
+                    booking = new Booking(booking.getId(), booking.getFullName(), booking.getContact(),
+                            booking.getMembership(), before.getProgram(), before.getStartDate(),
+                            booking.getNumSessions(), booking.getTotalCost(), before.getSessionId(), booking.getVersion());
+                }
+                try (PreparedStatement ps = conn.prepareStatement(UPDATE)) {
+                    bindFields(ps, booking, 1);
+                    ps.setInt(8, booking.getId());
+                    ps.setInt(9, userId);
+                    ps.setInt(10, booking.getVersion());
+                    ps.executeUpdate();
+                }
+                rollups.apply(conn, new BookingRollupRepository.Delta().remove(before).add(booking));
+                conn.commit();
+                return UpdateResult.updated(booking.withVersion(booking.getVersion() + 1));
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        }
+    }
+
+    private Booking lockById(Connection conn, int userId, int bookingId) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(LOCK_BY_ID_FOR_USER)) {
+            ps.setInt(1, bookingId);
+            ps.setInt(2, userId);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? map(rs) : null;
+            }
+        }
+    }
+
+    // ✅ Frees the booking's class-session seat in the same transaction; if anyone is waiting
+    // for that class, the first of them gets the seat (a booking is made for them) instead
+    public Cancellation delete(int userId, int bookingId) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                Booking existing = lockById(conn, userId, bookingId);
+                if (existing == null) {
+                    conn.rollback();
+                    return Cancellation.notFound();
+                }
+                int sessionId = existing.getSessionId();
+                if (sessionId != 0) scheduleRepository.lockSession(conn, sessionId);
+                try (PreparedStatement ps = conn.prepareStatement(DELETE)) {
+                    ps.setInt(1, bookingId);
+                    ps.setInt(2, userId);
+                    ps.executeUpdate();
+                }
+                rollups.apply(conn, new BookingRollupRepository.Delta().remove(existing));
+                Cancellation result = sessionId == 0 ? Cancellation.deleted(0) : passSeatOn(conn, sessionId);
+                conn.commit();
+                return result;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        }
+    }
+
+    // The seat moves to the next member in line (booked stays as it is), or is released
+    private Cancellation passSeatOn(Connection conn, int sessionId) throws SQLException {
+        ClassSession session = scheduleRepository.findSession(conn, sessionId);
+        boolean open = session != null && session.startsAt().isAfter(LocalDateTime.now());
+        WaitlistEntry next = open ? waitlistRepository.pollFirst(conn, sessionId) : null;
+        if (next == null) {
+            scheduleRepository.releaseSeat(conn, sessionId);
+            return Cancellation.deleted(sessionId);
+        }
+        Booking promoted = next.toBooking(session.programName(), session.startsAt());
+        promoted = promoted.withId(insert(conn, next.userId(), promoted));
+        return Cancellation.promoted(sessionId, next.userId(), promoted);
+    }
+
+    // ✅ Admin console: one keyset page of every member's bookings matching the search, after the
+    // given row (null for the first page). With totals, the filter's count and revenue come back
+    // in the same statement: the page is joined onto the one-row totals query, which reads the
+    // rollup table instead of Bookings whenever the filter allows it.
+    public BookingSearch.Result<MemberBooking> search(BookingSearch search, MemberBooking after, int limit,
+                                                      boolean withTotals) throws SQLException {
+        List<Object> params = new ArrayList<>();
+        StringBuilder page = new StringBuilder(SEARCH_PAGE);
+        String glue = appendFilter(page, search, params);
+        if (after != null) {
+            page.append(glue);
+            appendAfter(page, search, after.booking(), params);
+        }
+        page.append(" ORDER BY ").append(order(search, "")).append(" LIMIT ?");
+        params.add(limit + 1);
+
+        String sql = page.toString();
+        int offset = 0;
+        if (withTotals) {
+            List<Object> totalsParams = new ArrayList<>();
+            StringBuilder totals = new StringBuilder();
+            if (search.totalsFromRollup()) {
+                totals.append(SEARCH_ROLLUP_TOTALS);
+                appendRollupFilter(totals, search, totalsParams);
+            } else {
+                totals.append(SEARCH_TOTALS);
+                appendFilter(totals, search, totalsParams);
+            }
+            sql = "SELECT t.bookings, t.revenue, p.* FROM (" + totals + ") t LEFT JOIN (" + page + ") p ON 1 = 1" +
+                    " ORDER BY " + order(search, "p.");
+            totalsParams.addAll(params);
+            params = totalsParams;
+            offset = 2;
+        }
+
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            for (int i = 0; i < params.size(); i++) {
+                ps.setObject(i + 1, params.get(i));
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                List<MemberBooking> rows = new ArrayList<>(limit + 1);
+                BookingSearch.Totals found = null;
+                while (rs.next()) {
+                    if (withTotals && found == null) found = new BookingSearch.Totals(rs.getLong(1), rs.getLong(2));
+                    if (rs.getObject(offset + 1) == null) continue; // totals row of an empty page
+                    rows.add(new MemberBooking(rs.getInt(offset + 11), rs.getString(offset + 12), map(rs, offset)));
+                }
+                if (withTotals && found == null) found = new BookingSearch.Totals(0, 0);
+                return new BookingSearch.Result<>(Page.of(rows, limit), found);
+            }
+        }
+    }
+
+    // Returns the glue for the next condition
+    private static String appendFilter(StringBuilder sql, BookingSearch s, List<Object> params) {
+        String glue = " WHERE ";
+        if (s.program() != null) {
+            sql.append(glue).append("program = ?");
+            params.add(s.program());
+            glue = " AND ";
+        }
+        if (s.membership() != null) {
+            sql.append(glue).append("membership_type = ?");
+            params.add(s.membership());
+            glue = " AND ";
+        }
+        if (s.from() != null) {
+            sql.append(glue).append("start_date >= ?");
+            params.add(Date.valueOf(s.from()));
+            glue = " AND ";
+        }
+        if (s.to() != null) {
+            sql.append(glue).append("start_date <= ?");
+            params.add(Date.valueOf(s.to()));
+            glue = " AND ";
+        }
+        if (s.namePrefix() != null) {
+            sql.append(glue).append("full_name LIKE ?");
+            params.add(s.namePrefix().replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%");
+            glue = " AND ";
+        }
+        return glue;
+    }
+
+    // Same filter over whole months; a date bound also leaves out bookings without a date (period 0)
+    private static void appendRollupFilter(StringBuilder sql, BookingSearch s, List<Object> params) {
+        String glue = " WHERE ";
+        if (s.program() != null) {
+            sql.append(glue).append("program = ?");
+            params.add(s.program());
+            glue = " AND ";
+        }
+        if (s.membership() != null) {
+            sql.append(glue).append("membership_type = ?");
+            params.add(s.membership());
+            glue = " AND ";
+        }
+        if (s.from() != null || s.to() != null) {
+            sql.append(glue).append("period > 0");
+            glue = " AND ";
+        }
+        if (s.from() != null) {
+            sql.append(glue).append("period >= ?");
+            params.add(BookingRollupRepository.period(s.from()));
+        }
+        if (s.to() != null) {
+            sql.append(glue).append("period <= ?");
+            params.add(BookingRollupRepository.period(s.to()));
+        }
+    }
+
+    // Rows after the cursor in (column, booking_id) order. MySQL sorts NULL dates first going up
+    // and last going down, so a NULL cursor or NULL rows need their own branch.
+    private static void appendAfter(StringBuilder sql, BookingSearch s, Booking after, List<Object> params) {
+        String op = s.descending() ? "<" : ">";
+        if (s.sort() == BookingSearch.Sort.BOOKING_ID) {
+            sql.append("booking_id ").append(op).append(" ?");
+            params.add(after.getId());
+            return;
+        }
+        String c = s.sort().column;
+        Object value = s.sort().valueOf.apply(after);
+        if (value == null) {
+            sql.append("((").append(c).append(" IS NULL AND booking_id ").append(op).append(" ?)");
+            if (!s.descending()) sql.append(" OR ").append(c).append(" IS NOT NULL");
+            sql.append(')');
+            params.add(after.getId());
+            return;
+        }
+        if (value instanceof LocalDate d) value = Date.valueOf(d);
+        sql.append('(').append(c).append(' ').append(op).append(" ? OR (").append(c)
+                .append(" = ? AND booking_id ").append(op).append(" ?)");
+        if (s.descending() && s.sort().nullable()) sql.append(" OR ").append(c).append(" IS NULL");
+        sql.append(')');
+        params.add(value);
+        params.add(value);
+        params.add(after.getId());
+    }
+
+    private static String order(BookingSearch s, String prefix) {
+        String dir = s.descending() ? " DESC" : "";
+        if (s.sort() == BookingSearch.Sort.BOOKING_ID) return prefix + "booking_id" + dir;
+        return prefix + s.sort().column + dir + ", " + prefix + "booking_id" + dir;
+    }
+
+    // ✅ Forward-only, read-only export query across all members; null filters are left out of the SQL
+    public PreparedStatement prepareExport(Connection conn, LocalDate from, LocalDate to,
+                                           String program, Integer userId) throws SQLException {
+        StringBuilder sql = new StringBuilder(EXPORT);
+        List<Object> params = new ArrayList<>(4);
+        String glue = " WHERE ";
+        if (from != null) {
+            sql.append(glue).append("start_date >= ?");
+            params.add(Date.valueOf(from));
+            glue = " AND ";
+        }
+        if (to != null) {
+            sql.append(glue).append("start_date <= ?");
+            params.add(Date.valueOf(to));
+            glue = " AND ";
+        }
+        if (program != null) {
+            sql.append(glue).append("program = ?");
+            params.add(program);
+            glue = " AND ";
+        }
+        if (userId != null) {
+            sql.append(glue).append("user_id = ?");
+            params.add(userId);
+        }
+        sql.append(" ORDER BY booking_id");
+
+        PreparedStatement ps = conn.prepareStatement(sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        for (int i = 0; i < params.size(); i++) {
+            ps.setObject(i + 1, params.get(i));
+        }
+        return ps;
+    }
+
+    private static void bindFields(PreparedStatement ps, Booking b, int first) throws SQLException {
+        ps.setString(first, b.getFullName());
+        ps.setString(first + 1, b.getContact());
+        ps.setString(first + 2, b.getMembership());
+        ps.setString(first + 3, b.getProgram());
+        ps.setDate(first + 4, b.getStartDate() == null ? null : Date.valueOf(b.getStartDate()));
+        ps.setInt(first + 5, b.getNumSessions());
+        ps.setInt(first + 6, b.getTotalCost());
+    }
+
+    private static void bindSession(PreparedStatement ps, Booking b, int index) throws SQLException {
+        if (b.getSessionId() == 0) {
+            ps.setNull(index, Types.INTEGER);
+        } else {
+            ps.setInt(index, b.getSessionId());
+        }
+    }
+
+    // Membership, program and date repeat across rows, so they share one instance each
+    static Booking map(ResultSet rs) throws SQLException {
+        return map(rs, 0);
+    }
+
+    // COLUMNS starting after the first {@code offset} columns of the row
+    private static Booking map(ResultSet rs, int offset) throws SQLException {
+        Date start = rs.getDate(offset + 6);
+        return new Booking(
+                rs.getInt(offset + 1),
+                rs.getString(offset + 2),
+                rs.getString(offset + 3),
+                SharedValues.string(rs.getString(offset + 4)),
+                SharedValues.string(rs.getString(offset + 5)),
+                start == null ? null : SharedValues.date(start.toLocalDate()),
+                rs.getInt(offset + 7),
+                rs.getInt(offset + 8),
+                rs.getInt(offset + 9),
+                rs.getInt(offset + 10)
+        );
+    }
+}
@@ -0,0 +1,134 @@
+package com.fitlife.repository;
+
+import com.fitlife.DatabaseUtil;
+import com.fitlife.model.AnalyticsReport.MembershipTotal;
+import com.fitlife.model.AnalyticsReport.ProgramMonth;
+import com.fitlife.model.Booking;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * All SQL for BookingRollup, the running totals per program, start month and membership type.
+ * Writes are deltas applied by {@link BookingRepository} on the booking's own transaction;
+ * reads aggregate only this table (a few rows per program and month), never Bookings.
+ */
+public class BookingRollupRepository {
+
+    private static final String UPSERT =
+            "INSERT INTO BookingRollup (program, period, membership_type, bookings, sessions, revenue) VALUES (?, ?, ?, ?, ?, ?) " +
+                    "ON DUPLICATE KEY UPDATE bookings = bookings + VALUES(bookings), sessions = sessions + VALUES(sessions), " +
+                    "revenue = revenue + VALUES(revenue)";
+    private static final String BY_PROGRAM_MONTH =
+            "SELECT program, period, SUM(bookings), SUM(sessions), SUM(revenue) FROM BookingRollup " +
+                    "WHERE period >= ? AND period <= ? GROUP BY program, period HAVING SUM(bookings) > 0";
+    private static final String BY_MEMBERSHIP =
+            "SELECT membership_type, SUM(bookings), SUM(sessions), SUM(revenue) FROM BookingRollup " +
+                    "WHERE period >= ? AND period <= ? GROUP BY membership_type ORDER BY membership_type";
+
+    /** Rollup key of one booking. */
+    record Key(String program, int period, String membership) {
+        static final Comparator<Key> ORDER = Comparator.comparing(Key::program)
+                .thenComparingInt(Key::period).thenComparing(Key::membership);
+    }
+
+    /**
+     * Changes to apply together. Rows are written in key order so two transactions touching the
+     * same rows can't lock them the other way round.
+     */
+    public static final class Delta {
+        private final Map<Key, long[]> rows = new TreeMap<>(Key.ORDER);
+
+        public Delta add(Booking b) {
+            return change(b, 1);
+        }
+
+        public Delta remove(Booking b) {
+            return change(b, -1);
+        }
+
+        private Delta change(Booking b, int sign) {
+            long[] row = rows.computeIfAbsent(new Key(b.getProgram(), period(b.getStartDate()), b.getMembership()),
+                    k -> new long[3]);
+            row[0] += sign;
+            row[1] += (long) sign * b.getNumSessions();
+            row[2] += (long) sign * b.getTotalCost();
+            return this;
+        }
+
+        boolean isEmpty() {
+            return rows.values().stream().allMatch(r -> r[0] == 0 && r[1] == 0 && r[2] == 0);
+        }
+    }
+
+    // ✅ On the caller's connection and transaction (the one writing the bookings)
+    public void apply(Connection conn, Delta delta) throws SQLException {
+        if (delta.isEmpty()) return;
+        try (PreparedStatement ps = conn.prepareStatement(UPSERT)) {
+            for (Map.Entry<Key, long[]> e : delta.rows.entrySet()) {
+                long[] r = e.getValue();
+                if (r[0] == 0 && r[1] == 0 && r[2] == 0) continue; // an edit that moved nothing here
+                ps.setString(1, e.getKey().program());
+                ps.setInt(2, e.getKey().period());
+                ps.setString(3, e.getKey().membership());
+                ps.setLong(4, r[0]);
+                ps.setLong(5, r[1]);
+                ps.setLong(6, r[2]);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+    }
+
+    // ✅ Totals per program and month, for months in [from, to]
+    public List<ProgramMonth> findByProgramMonth(YearMonth from, YearMonth to) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(BY_PROGRAM_MONTH)) {
+            ps.setInt(1, period(from));
+            ps.setInt(2, period(to));
+            try (ResultSet rs = ps.executeQuery()) {
+                List<ProgramMonth> rows = new ArrayList<>();
+                while (rs.next()) {
+                    int p = rs.getInt(2);
+                    rows.add(new ProgramMonth(rs.getString(1), YearMonth.of(p / 100, p % 100),
+                            rs.getLong(3), rs.getLong(4), rs.getLong(5)));
+                }
+                return rows;
+            }
+        }
+    }
+
+    // ✅ Totals per membership type, for months in [from, to]
+    public List<MembershipTotal> findByMembership(YearMonth from, YearMonth to) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(BY_MEMBERSHIP)) {
+            ps.setInt(1, period(from));
+            ps.setInt(2, period(to));
+            try (ResultSet rs = ps.executeQuery()) {
+                List<MembershipTotal> rows = new ArrayList<>();
+                while (rs.next()) {
+                    rows.add(new MembershipTotal(rs.getString(1), rs.getLong(2), rs.getLong(3), rs.getLong(4)));
+                }
+                return rows;
+            }
+        }
+    }
+
+    // Same encoding as the V6 backfill: yyyymm, 0 when there is no start date
+    static int period(LocalDate date) {
+        return date == null ? 0 : date.getYear() * 100 + date.getMonthValue();
+    }
+
+    static int period(YearMonth month) {
+        return month.getYear() * 100 + month.getMonthValue();
+    }
+}
@@ -0,0 +1,56 @@
+package com.fitlife.repository;
+
+import com.fitlife.model.Booking;
+
+import java.time.LocalDate;
+import java.util.function.Function;
+
+/**
+ * Filter and order for the admin booking console. Null filters match everything; the name is
+ * a prefix ("Ann" finds "Anna Perera") so the full_name index can serve it.
+ * Every order ends on booking_id, which makes it unique and usable as a keyset cursor.
+ */
+public record BookingSearch(String program, String membership, LocalDate from, LocalDate to,
+                            String namePrefix, Sort sort, boolean descending) {
+
+    /** Orders the console offers; each has a (column, booking_id) index (see V7). */
+    public enum Sort {
+        BOOKING_ID("booking_id", Booking::getId),
+        NAME("full_name", Booking::getFullName),
+        START_DATE("start_date", Booking::getStartDate),
+        TOTAL_COST("total_cost", Booking::getTotalCost);
+
+        final String column;
+        final Function<Booking, Object> valueOf;
+
+        Sort(String column, Function<Booking, Object> valueOf) {
+            this.column = column;
+            this.valueOf = valueOf;
+        }
+
+        // Only start_date may be NULL
+        boolean nullable() {
+            return this == START_DATE;
+        }
+    }
+
+    /** Count and revenue of every booking matching the filter, not just the page shown. */
+    public record Totals(long bookings, long revenue) {
+    }
+
+    /** One page; {@code totals} is null unless they were asked for. */
+    public record Result<T>(Page<T> page, Totals totals) {
+    }
+
+    public static BookingSearch all() {
+        return new BookingSearch(null, null, null, null, null, Sort.BOOKING_ID, true);
+    }
+
+    // The rollup table holds whole months per program and membership, so it can answer totals
+    // when there is no name filter and the date range (if any) covers whole months
+    boolean totalsFromRollup() {
+        return namePrefix == null
+                && (from == null || from.getDayOfMonth() == 1)
+                && (to == null || to.getDayOfMonth() == to.lengthOfMonth());
+    }
+}
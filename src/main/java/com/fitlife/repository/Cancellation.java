@@ -0,0 +1,26 @@
+package com.fitlife.repository;
+
+import com.fitlife.model.Booking;
+
+/**
+ * Outcome of deleting a booking. When the booking held a class seat and someone was waiting,
+ * the seat passed to them: {@code promoted} is the booking made for {@code promotedUserId}.
+ */
+public record Cancellation(boolean deleted, int sessionId, int promotedUserId, Booking promoted) {
+
+    static Cancellation notFound() {
+        return new Cancellation(false, 0, 0, null);
+    }
+
+    static Cancellation deleted(int sessionId) {
+        return new Cancellation(true, sessionId, 0, null);
+    }
+
+    static Cancellation promoted(int sessionId, int userId, Booking booking) {
+        return new Cancellation(true, sessionId, userId, booking);
+    }
+
+    public boolean isPromoted() {
+        return promoted != null;
+    }
+}
@@ -0,0 +1,17 @@
+package com.fitlife.repository;
+
+import java.util.List;
+
+/**
+ * One keyset page of rows plus whether more rows follow it.
+ */
+public record Page<T>(List<T> items, boolean hasNext) {
+
+    // ✅ Repositories fetch limit + 1 rows; the extra row only signals that a next page exists
+    static <T> Page<T> of(List<T> rows, int limit) {
+        if (rows.size() > limit) {
+            return new Page<>(List.copyOf(rows.subList(0, limit)), true);
+        }
+        return new Page<>(List.copyOf(rows), false);
+    }
+}
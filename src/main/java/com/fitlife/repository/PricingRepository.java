@@ -0,0 +1,33 @@
+package com.fitlife.repository;
+
+import com.fitlife.DatabaseUtil;
+import com.fitlife.model.PricingTier;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the PricingTier table:
+ * (program NULL|name, membership_type NULL|Monthly|Quarterly|Annual, min_sessions, rate_percent).
+ */
+public class PricingRepository {
+
+    private static final String FIND_ALL =
+            "SELECT program, membership_type, min_sessions, rate_percent FROM PricingTier ORDER BY min_sessions";
+
+    public List<PricingTier> findAllTiers() throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(FIND_ALL);
+             ResultSet rs = ps.executeQuery()) {
+            List<PricingTier> tiers = new ArrayList<>();
+            while (rs.next()) {
+                tiers.add(new PricingTier(rs.getString(1), rs.getString(2), rs.getInt(3), rs.getInt(4)));
+            }
+            return tiers;
+        }
+    }
+}
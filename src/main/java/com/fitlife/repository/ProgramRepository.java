@@ -0,0 +1,144 @@
+package com.fitlife.repository;
+
+import com.fitlife.DatabaseUtil;
+import com.fitlife.model.Program;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * All SQL for the Program table.
+ * Updates are versioned: they only apply to the row_version the editor loaded.
+ * Deleting a program also removes its timetable and future classes, in the same transaction.
+ */
+public class ProgramRepository {
+
+    /** {@link #delete} result when a future class of the program has bookings or a waitlist. */
+    public static final int HAS_BOOKED_CLASSES = -1;
+
+    private static final String COLUMNS = "id, name, cost_per_session, description, trainer, row_version";
+
+    private static final String FIND_ALL = "SELECT " + COLUMNS + " FROM Program ORDER BY id";
+    private static final String FIND_BY_ID = "SELECT " + COLUMNS + " FROM Program WHERE id = ?";
+    private static final String FIND_NAMES = "SELECT name FROM Program ORDER BY id";
+    private static final String INSERT = "INSERT INTO Program (name, cost_per_session, description, trainer) VALUES (?, ?, ?, ?)";
+    private static final String UPDATE =
+            "UPDATE Program SET name=?, cost_per_session=?, description=?, trainer=?, row_version=row_version+1 " +
+                    "WHERE id=? AND row_version=?";
+    private static final String DELETE = "DELETE FROM Program WHERE id=?";
+
+    private final ScheduleRepository scheduleRepository = new ScheduleRepository();
+
+    public List<Program> findAll() throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(FIND_ALL);
+             ResultSet rs = ps.executeQuery()) {
+            List<Program> programs = new ArrayList<>();
+            while (rs.next()) {
+                programs.add(map(rs));
+            }
+            return programs;
+        }
+    }
+
+    public List<String> findNames() throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(FIND_NAMES);
+             ResultSet rs = ps.executeQuery()) {
+            List<String> names = new ArrayList<>();
+            while (rs.next()) {
+                names.add(rs.getString(1));
+            }
+            return names;
+        }
+    }
+
+    // ✅ Returns the generated program id
+    public String insert(Program program) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(INSERT, PreparedStatement.RETURN_GENERATED_KEYS)) {
+            bindFields(ps, program);
+            ps.executeUpdate();
+            try (ResultSet keys = ps.getGeneratedKeys()) {
+                return keys.next() ? keys.getString(1) : null;
+            }
+        }
+    }
+
+    // ✅ One JDBC batch on the caller's connection/transaction
+    public void insertBatch(Connection conn, List<Program> programs) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(INSERT)) {
+            for (Program p : programs) {
+                bindFields(ps, p);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+    }
+
+    // ✅ Applies only if nobody saved the row since it was loaded; otherwise returns the row as it is now
+    public UpdateResult<Program> update(Program program) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(UPDATE)) {
+            bindFields(ps, program);
+            ps.setString(5, program.getId());
+            ps.setInt(6, program.getVersion());
+            if (ps.executeUpdate() > 0) return UpdateResult.updated(program.withVersion(program.getVersion() + 1));
+            return UpdateResult.conflict(findById(conn, program.getId()));
+        }
+    }
+
+    private Program findById(Connection conn, String id) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(FIND_BY_ID)) {
+            ps.setString(1, id);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? map(rs) : null;
+            }
+        }
+    }
+
+    // ✅ Returns the rows deleted, or HAS_BOOKED_CLASSES (nothing deleted) while members hold or wait for its classes
+    public int delete(String id) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                if (!scheduleRepository.removeProgram(conn, Integer.parseInt(id))) {
+                    conn.rollback();
+                    return HAS_BOOKED_CLASSES;
+                }
+                int rows;
+                try (PreparedStatement ps = conn.prepareStatement(DELETE)) {
+                    ps.setString(1, id);
+                    rows = ps.executeUpdate();
+                }
+                conn.commit();
+                return rows;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        }
+    }
+
+    private static void bindFields(PreparedStatement ps, Program program) throws SQLException {
+        ps.setString(1, program.getName());
+        ps.setInt(2, program.getCostPerSession());
+        ps.setString(3, program.getDescription());
+        ps.setString(4, program.getTrainer());
+    }
+
+    static Program map(ResultSet rs) throws SQLException {
+        return new Program(
+                rs.getString(1),
+                SharedValues.string(rs.getString(2)),
+                rs.getInt(3),
+                rs.getString(4),
+                SharedValues.string(rs.getString(5)),
+                rs.getInt(6)
+        );
+    }
+}
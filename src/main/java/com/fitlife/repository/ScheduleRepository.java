@@ -0,0 +1,296 @@
+package com.fitlife.repository;
+
+import com.fitlife.DatabaseUtil;
+import com.fitlife.model.ClassSession;
+import com.fitlife.model.ScheduleSlot;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * All SQL for ProgramSchedule (weekly timetable) and ClassSession (its dated occurrences).
+ * Occupancy lives in ClassSession.booked and only changes through {@link #takeSeat} and
+ * {@link #releaseSeat}, on the caller's transaction with the booking row they belong to
+ * (waitlist changes lock the session row first, see {@link #lockSession}).
+ */
+public class ScheduleRepository {
+
+    private static final String SLOT_COLUMNS = "id, program_id, day_of_week, start_time, duration_minutes, capacity";
+    private static final String FIND_SLOTS = "SELECT " + SLOT_COLUMNS + " FROM ProgramSchedule WHERE program_id = ? ORDER BY day_of_week, start_time";
+    private static final String FIND_ALL_SLOTS = "SELECT " + SLOT_COLUMNS + " FROM ProgramSchedule";
+    private static final String INSERT_SLOT =
+            "INSERT INTO ProgramSchedule (program_id, day_of_week, start_time, duration_minutes, capacity) VALUES (?, ?, ?, ?, ?)";
+    private static final String DELETE_SLOT = "DELETE FROM ProgramSchedule WHERE id = ?";
+    // Future sessions of a removed slot go too, unless someone already holds a seat
+    private static final String DELETE_EMPTY_SESSIONS = "DELETE FROM ClassSession WHERE schedule_id = ? AND starts_at > ? AND booked = 0";
+
+    // Duplicate (schedule_id, starts_at) rows are skipped, so terminals may expand the same range at once
+    private static final String INSERT_SESSION =
+            "INSERT IGNORE INTO ClassSession (schedule_id, program_id, starts_at, ends_at, capacity) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String SESSION_COLUMNS = "s.id, s.program_id, p.name, s.starts_at, s.ends_at, s.capacity, s.booked";
+    private static final String FIND_SESSIONS =
+            "SELECT " + SESSION_COLUMNS + " FROM ClassSession s JOIN Program p ON p.id = s.program_id " +
+                    "WHERE s.starts_at >= ? AND s.starts_at < ? ORDER BY s.starts_at, p.name";
+    private static final String FIND_PROGRAM_SESSIONS =
+            "SELECT " + SESSION_COLUMNS + " FROM ClassSession s JOIN Program p ON p.id = s.program_id " +
+                    "WHERE s.program_id = ? AND s.starts_at >= ? AND s.starts_at < ? ORDER BY s.starts_at";
+    private static final String FIND_SESSION =
+            "SELECT " + SESSION_COLUMNS + " FROM ClassSession s JOIN Program p ON p.id = s.program_id WHERE s.id = ?";
+    private static final String FIND_USER_SESSION_IDS =
+            "SELECT b.session_id FROM Bookings b JOIN ClassSession s ON s.id = b.session_id " +
+                    "WHERE b.user_id = ? AND s.starts_at >= ? AND s.starts_at < ?";
+
+    private static final String TAKE_SEAT =
+            "UPDATE ClassSession SET booked = booked + 1 WHERE id = ? AND booked < capacity AND starts_at > ?";
+    private static final String RELEASE_SEAT = "UPDATE ClassSession SET booked = booked - 1 WHERE id = ? AND booked > 0";
+    private static final String LOCK_SESSION = "SELECT id FROM ClassSession WHERE id = ? FOR UPDATE";
+
+    // Removing a program: its future classes are locked first, and must be empty with nobody waiting
+    private static final String LOCK_FUTURE_PROGRAM_SESSIONS =
+            "SELECT id, booked FROM ClassSession WHERE program_id = ? AND starts_at > ? FOR UPDATE";
+    private static final String COUNT_PROGRAM_WAITERS =
+            "SELECT COUNT(*) FROM Waitlist w JOIN ClassSession s ON s.id = w.session_id WHERE s.program_id = ? AND s.starts_at > ?";
+    private static final String DELETE_PROGRAM_WAITLIST =
+            "DELETE FROM Waitlist WHERE session_id IN (SELECT id FROM ClassSession WHERE program_id = ?)";
+    private static final String DELETE_FUTURE_PROGRAM_SESSIONS = "DELETE FROM ClassSession WHERE program_id = ? AND starts_at > ?";
+    private static final String DELETE_PROGRAM_SLOTS = "DELETE FROM ProgramSchedule WHERE program_id = ?";
+
+    // --- Timetable ---
+
+    public List<ScheduleSlot> findSlots(int programId) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(FIND_SLOTS)) {
+            ps.setInt(1, programId);
+            return readSlots(ps);
+        }
+    }
+
+    public List<ScheduleSlot> findAllSlots() throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(FIND_ALL_SLOTS)) {
+            return readSlots(ps);
+        }
+    }
+
+    // ✅ One transaction: drop removed slots (and their empty future sessions), add new ones (id 0)
+    public void replaceSlots(int programId, List<ScheduleSlot> removed, List<ScheduleSlot> added) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                try (PreparedStatement deleteSlot = conn.prepareStatement(DELETE_SLOT);
+                     PreparedStatement deleteSessions = conn.prepareStatement(DELETE_EMPTY_SESSIONS)) {
+                    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                    for (ScheduleSlot slot : removed) {
+                        deleteSlot.setInt(1, slot.id());
+                        deleteSlot.addBatch();
+                        deleteSessions.setInt(1, slot.id());
+                        deleteSessions.setTimestamp(2, now);
+                        deleteSessions.addBatch();
+                    }
+                    deleteSlot.executeBatch();
+                    deleteSessions.executeBatch();
+                }
+                try (PreparedStatement ps = conn.prepareStatement(INSERT_SLOT)) {
+                    for (ScheduleSlot slot : added) {
+                        ps.setInt(1, programId);
+                        ps.setInt(2, slot.day().getValue());
+                        ps.setTime(3, Time.valueOf(slot.start()));
+                        ps.setInt(4, slot.durationMinutes());
+                        ps.setInt(5, slot.capacity());
+                        ps.addBatch();
+                    }
+                    ps.executeBatch();
+                }
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        }
+    }
+
+    // ✅ On the caller's transaction, before the Program row goes: drops the timetable, the future
+    // classes and any waitlist rows. Returns false (and changes nothing) when a future class has
+    // a booking or a waiting member. Past classes stay as the record of the bookings made in them.
+    public boolean removeProgram(Connection conn, int programId) throws SQLException {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try (PreparedStatement ps = conn.prepareStatement(LOCK_FUTURE_PROGRAM_SESSIONS)) {
+            ps.setInt(1, programId);
+            ps.setTimestamp(2, now);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    if (rs.getInt(2) > 0) return false;
+                }
+            }
+        }
+        try (PreparedStatement ps = conn.prepareStatement(COUNT_PROGRAM_WAITERS)) {
+            ps.setInt(1, programId);
+            ps.setTimestamp(2, now);
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next() && rs.getInt(1) > 0) return false;
+            }
+        }
+        try (PreparedStatement waitlist = conn.prepareStatement(DELETE_PROGRAM_WAITLIST);
+             PreparedStatement sessions = conn.prepareStatement(DELETE_FUTURE_PROGRAM_SESSIONS);
+             PreparedStatement slots = conn.prepareStatement(DELETE_PROGRAM_SLOTS)) {
+            waitlist.setInt(1, programId);
+            waitlist.executeUpdate();
+            sessions.setInt(1, programId);
+            sessions.setTimestamp(2, now);
+            sessions.executeUpdate();
+            slots.setInt(1, programId);
+            slots.executeUpdate();
+        }
+        return true;
+    }
+
+    // ✅ Creates the sessions of every slot that fall in [from, to), skipping ones that exist
+    public int expand(List<ScheduleSlot> slots, LocalDate from, LocalDate to) throws SQLException {
+        if (slots.isEmpty() || !from.isBefore(to)) return 0;
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(INSERT_SESSION)) {
+            int pending = 0;
+            for (LocalDate day = from; day.isBefore(to); day = day.plusDays(1)) {
+                DayOfWeek dow = day.getDayOfWeek();
+                for (ScheduleSlot slot : slots) {
+                    if (slot.day() != dow) continue;
+                    LocalDateTime start = day.atTime(slot.start());
+                    ps.setInt(1, slot.id());
+                    ps.setInt(2, slot.programId());
+                    ps.setTimestamp(3, Timestamp.valueOf(start));
+                    ps.setTimestamp(4, Timestamp.valueOf(start.plusMinutes(slot.durationMinutes())));
+                    ps.setInt(5, slot.capacity());
+                    ps.addBatch();
+                    pending++;
+                }
+            }
+            if (pending > 0) ps.executeBatch();
+            return pending;
+        }
+    }
+
+    // --- Sessions (occupancy read from ClassSession.booked, never recounted) ---
+
+    public List<ClassSession> findSessions(LocalDateTime from, LocalDateTime to) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(FIND_SESSIONS)) {
+            ps.setTimestamp(1, Timestamp.valueOf(from));
+            ps.setTimestamp(2, Timestamp.valueOf(to));
+            return readSessions(ps);
+        }
+    }
+
+    public List<ClassSession> findSessions(int programId, LocalDateTime from, LocalDateTime to) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(FIND_PROGRAM_SESSIONS)) {
+            ps.setInt(1, programId);
+            ps.setTimestamp(2, Timestamp.valueOf(from));
+            ps.setTimestamp(3, Timestamp.valueOf(to));
+            return readSessions(ps);
+        }
+    }
+
+    public ClassSession findSession(int sessionId) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection()) {
+            return findSession(conn, sessionId);
+        }
+    }
+
+    public ClassSession findSession(Connection conn, int sessionId) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(FIND_SESSION)) {
+            ps.setInt(1, sessionId);
+            List<ClassSession> found = readSessions(ps);
+            return found.isEmpty() ? null : found.get(0);
+        }
+    }
+
+    // ✅ Sessions in the range the member holds a seat in
+    public Set<Integer> findUserSessionIds(int userId, LocalDateTime from, LocalDateTime to) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(FIND_USER_SESSION_IDS)) {
+            ps.setInt(1, userId);
+            ps.setTimestamp(2, Timestamp.valueOf(from));
+            ps.setTimestamp(3, Timestamp.valueOf(to));
+            try (ResultSet rs = ps.executeQuery()) {
+                Set<Integer> ids = new HashSet<>();
+                while (rs.next()) ids.add(rs.getInt(1));
+                return ids;
+            }
+        }
+    }
+
+    // --- Seats (caller's connection and transaction) ---
+
+    // ✅ Atomic: false when the session is full or already started (the row lock serialises desks)
+    public boolean takeSeat(Connection conn, int sessionId) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(TAKE_SEAT)) {
+            ps.setInt(1, sessionId);
+            ps.setTimestamp(2, Timestamp.valueOf(LocalDateTime.now()));
+            return ps.executeUpdate() > 0;
+        }
+    }
+
+    // ✅ Row lock on the session until the caller commits; taken before touching its seats or waitlist
+    public void lockSession(Connection conn, int sessionId) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(LOCK_SESSION)) {
+            ps.setInt(1, sessionId);
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+            }
+        }
+    }
+
+    public void releaseSeat(Connection conn, int sessionId) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(RELEASE_SEAT)) {
+            ps.setInt(1, sessionId);
+            ps.executeUpdate();
+        }
+    }
+
+    private static List<ScheduleSlot> readSlots(PreparedStatement ps) throws SQLException {
+        try (ResultSet rs = ps.executeQuery()) {
+            List<ScheduleSlot> slots = new ArrayList<>();
+            while (rs.next()) {
+                slots.add(new ScheduleSlot(
+                        rs.getInt(1),
+                        rs.getInt(2),
+                        DayOfWeek.of(rs.getInt(3)),
+                        rs.getTime(4).toLocalTime(),
+                        rs.getInt(5),
+                        rs.getInt(6)
+                ));
+            }
+            return slots;
+        }
+    }
+
+    private static List<ClassSession> readSessions(PreparedStatement ps) throws SQLException {
+        try (ResultSet rs = ps.executeQuery()) {
+            List<ClassSession> sessions = new ArrayList<>();
+            while (rs.next()) {
+                sessions.add(new ClassSession(
+                        rs.getInt(1),
+                        rs.getInt(2),
+                        SharedValues.string(rs.getString(3)),
+                        rs.getTimestamp(4).toLocalDateTime(),
+                        rs.getTimestamp(5).toLocalDateTime(),
+                        rs.getInt(6),
+                        rs.getInt(7)
+                ));
+            }
+            return sessions;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.fitlife.repository;
+
+/**
+ * Outcome of asking for a seat in a class session that may be full.
+ * Either a booking was made ({@code bookingId}), the member joined the waitlist at
+ * {@code position} (1 = next in line), or neither because the class has started or the
+ * member already has a seat or a waitlist place in it ({@code alreadyIn}).
+ */
+public record SeatResult(int bookingId, int position, boolean alreadyIn) {
+
+    static SeatResult booked(int bookingId) {
+        return new SeatResult(bookingId, 0, false);
+    }
+
+    static SeatResult queued(int position) {
+        return new SeatResult(0, position, false);
+    }
+
+    static SeatResult closed() {
+        return new SeatResult(0, 0, false);
+    }
+
+    static SeatResult alreadyInSession() {
+        return new SeatResult(0, 0, true);
+    }
+
+    public boolean isBooked() {
+        return bookingId > 0;
+    }
+
+    public boolean isQueued() {
+        return position > 0;
+    }
+}
@@ -0,0 +1,37 @@
+package com.fitlife.repository;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Canonical instances for low-cardinality column values (membership type, program name,
+ * role, start date, ...), so 100k mapped rows share a handful of objects instead of each
+ * holding its own copy. Bounded: once full, new values are simply not shared.
+ */
+final class SharedValues {
+
+    private static final int MAX_ENTRIES = 4096;
+
+    private static final Map<String, String> strings = new ConcurrentHashMap<>();
+    private static final Map<LocalDate, LocalDate> dates = new ConcurrentHashMap<>();
+
+    private SharedValues() {
+    }
+
+    static String string(String value) {
+        return value == null ? null : share(strings, value);
+    }
+
+    static LocalDate date(LocalDate value) {
+        return value == null ? null : share(dates, value);
+    }
+
+    private static <T> T share(Map<T, T> pool, T value) {
+        T shared = pool.get(value);
+        if (shared != null) return shared;
+        if (pool.size() >= MAX_ENTRIES) return value;
+        shared = pool.putIfAbsent(value, value);
+        return shared != null ? shared : value;
+    }
+}
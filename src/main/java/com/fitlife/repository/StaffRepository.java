@@ -0,0 +1,214 @@
+package com.fitlife.repository;
+
+import com.fitlife.DatabaseUtil;
+import com.fitlife.model.AnalyticsReport.PayrollLine;
+import com.fitlife.model.Staff;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * All SQL for the Staff table.
+ * Statements use fixed SQL text so the driver's per-connection statement cache
+ * (enabled in DatabaseUtil) reuses them across pooled connections.
+ * Updates are versioned: they only apply to the row_version the editor loaded.
+ */
+public class StaffRepository {
+
+    private static final String EXPORT_COLUMNS = "id, name, gender, role, contact, email, salary";
+    private static final String COLUMNS = EXPORT_COLUMNS + ", row_version";
+
+    private static final String FIND_ALL = "SELECT " + COLUMNS + " FROM Staff ORDER BY id";
+    private static final String FIND_BY_ID = "SELECT " + COLUMNS + " FROM Staff WHERE id = ?";
+    private static final String FIND_PAGE = "SELECT " + COLUMNS + " FROM Staff WHERE id > ? ORDER BY id LIMIT ?";
+    private static final String SEARCH_PAGE = "SELECT " + COLUMNS + " FROM Staff WHERE id > ? " +
+            "AND (LOWER(name) LIKE ? OR LOWER(role) LIKE ? OR contact LIKE ? OR LOWER(email) LIKE ?) ORDER BY id LIMIT ?";
+    private static final String EXPORT = "SELECT " + EXPORT_COLUMNS + " FROM Staff ORDER BY id";
+    private static final String FIND_TRAINER_NAMES = "SELECT name FROM Staff WHERE role = 'Trainer'";
+    private static final String PAYROLL = "SELECT role, COUNT(*), SUM(salary) FROM Staff GROUP BY role ORDER BY role";
+    private static final String EXISTS_EMAIL_OR_CONTACT = "SELECT 1 FROM Staff WHERE email = ? OR contact = ? LIMIT 1";
+    private static final String FIND_EMAILS_AND_CONTACTS = "SELECT email, contact FROM Staff";
+    private static final String INSERT = "INSERT INTO Staff (name, gender, role, contact, email, salary) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE =
+            "UPDATE Staff SET name=?, gender=?, role=?, contact=?, email=?, salary=?, row_version=row_version+1 " +
+                    "WHERE id=? AND row_version=?";
+    private static final String DELETE = "DELETE FROM Staff WHERE id=?";
+
+    public List<Staff> findAll() throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(FIND_ALL);
+             ResultSet rs = ps.executeQuery()) {
+            List<Staff> staff = new ArrayList<>();
+            while (rs.next()) {
+                staff.add(map(rs));
+            }
+            return staff;
+        }
+    }
+
+    // ✅ Keyset page: staff after the given id (0 for the first page)
+    public Page<Staff> findPage(int afterId, int limit) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(FIND_PAGE)) {
+            ps.setInt(1, afterId);
+            ps.setInt(2, limit + 1);
+            try (ResultSet rs = ps.executeQuery()) {
+                List<Staff> staff = new ArrayList<>(limit + 1);
+                while (rs.next()) {
+                    staff.add(map(rs));
+                }
+                return Page.of(staff, limit);
+            }
+        }
+    }
+
+    // ✅ Same keyset page, limited to staff whose name, role, contact or email contains the
+    //    (lower-case) search text; a blank search is the plain page
+    public Page<Staff> findPage(String search, int afterId, int limit) throws SQLException {
+        if (search == null || search.isBlank()) return findPage(afterId, limit);
+        String pattern = "%" + search.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(SEARCH_PAGE)) {
+            ps.setInt(1, afterId);
+            for (int i = 2; i <= 5; i++) {
+                ps.setString(i, pattern);
+            }
+            ps.setInt(6, limit + 1);
+            try (ResultSet rs = ps.executeQuery()) {
+                List<Staff> staff = new ArrayList<>(limit + 1);
+                while (rs.next()) {
+                    staff.add(map(rs));
+                }
+                return Page.of(staff, limit);
+            }
+        }
+    }
+
+    // ✅ Forward-only, read-only export query (caller sets the fetch size and closes it)
+    public PreparedStatement prepareExport(Connection conn) throws SQLException {
+        return conn.prepareStatement(EXPORT, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+    }
+
+    public List<String> findTrainerNames() throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(FIND_TRAINER_NAMES);
+             ResultSet rs = ps.executeQuery()) {
+            List<String> names = new ArrayList<>();
+            while (rs.next()) {
+                names.add(rs.getString(1));
+            }
+            return names;
+        }
+    }
+
+    // ✅ Head count and monthly salaries per role (Staff is a small table)
+    public List<PayrollLine> findPayroll() throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(PAYROLL);
+             ResultSet rs = ps.executeQuery()) {
+            List<PayrollLine> lines = new ArrayList<>();
+            while (rs.next()) {
+                lines.add(new PayrollLine(rs.getString(1), rs.getInt(2), rs.getLong(3)));
+            }
+            return lines;
+        }
+    }
+
+    public boolean existsByEmailOrContact(String email, String contact) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(EXISTS_EMAIL_OR_CONTACT)) {
+            ps.setString(1, email);
+            ps.setString(2, contact);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    // ✅ Existing emails/contacts for in-memory duplicate checks (bulk import)
+    public void collectEmailsAndContacts(Set<String> emails, Set<String> contacts) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(FIND_EMAILS_AND_CONTACTS);
+             ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                emails.add(rs.getString(1));
+                contacts.add(rs.getString(2));
+            }
+        }
+    }
+
+    public void insert(Staff staff) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(INSERT)) {
+            bindFields(ps, staff);
+            ps.executeUpdate();
+        }
+    }
+
+    // ✅ One JDBC batch on the caller's connection/transaction (rewritten to multi-row INSERTs by the driver)
+    public void insertBatch(Connection conn, List<Staff> staff) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(INSERT)) {
+            for (Staff s : staff) {
+                bindFields(ps, s);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+    }
+
+    // ✅ Applies only if nobody saved the row since it was loaded; otherwise returns the row as it is now
+    public UpdateResult<Staff> update(Staff staff) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(UPDATE)) {
+            bindFields(ps, staff);
+            ps.setString(7, staff.getId());
+            ps.setInt(8, staff.getVersion());
+            if (ps.executeUpdate() > 0) return UpdateResult.updated(staff.withVersion(staff.getVersion() + 1));
+            return UpdateResult.conflict(findById(conn, staff.getId()));
+        }
+    }
+
+    private Staff findById(Connection conn, String id) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(FIND_BY_ID)) {
+            ps.setString(1, id);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? map(rs) : null;
+            }
+        }
+    }
+
+    public int delete(String id) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(DELETE)) {
+            ps.setString(1, id);
+            return ps.executeUpdate();
+        }
+    }
+
+    private static void bindFields(PreparedStatement ps, Staff staff) throws SQLException {
+        ps.setString(1, staff.getName());
+        ps.setString(2, staff.getGender());
+        ps.setString(3, staff.getRole());
+        ps.setString(4, staff.getContact());
+        ps.setString(5, staff.getEmail());
+        ps.setInt(6, staff.getSalary());
+    }
+
+    static Staff map(ResultSet rs) throws SQLException {
+        return new Staff(
+                rs.getString(1),
+                rs.getString(2),
+                SharedValues.string(rs.getString(3)),
+                SharedValues.string(rs.getString(4)),
+                rs.getString(5),
+                rs.getString(6),
+                rs.getInt(7),
+                rs.getInt(8)
+        );
+    }
+}
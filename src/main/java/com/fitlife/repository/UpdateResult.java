@@ -0,0 +1,21 @@
+package com.fitlife.repository;
+
+/**
+ * Outcome of a versioned (compare-and-set) update.
+ * {@code current} is the row as it is now: the saved row (with its new version) when the update
+ * applied, otherwise the row another desk saved ({@code null} when it has been deleted).
+ */
+public record UpdateResult<T>(boolean applied, T current) {
+
+    static <T> UpdateResult<T> updated(T saved) {
+        return new UpdateResult<>(true, saved);
+    }
+
+    static <T> UpdateResult<T> conflict(T current) {
+        return new UpdateResult<>(false, current);
+    }
+
+    public boolean isDeleted() {
+        return !applied && current == null;
+    }
+}
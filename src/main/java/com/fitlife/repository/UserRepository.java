@@ -0,0 +1,94 @@
+package com.fitlife.repository;
+
+import com.fitlife.DatabaseUtil;
+import com.fitlife.model.Credential;
+import com.fitlife.model.User;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * All SQL for the Login table (authentication and member registration).
+ */
+public class UserRepository {
+
+    // Passwords are verified in Java (PasswordHasher); SQL only looks the account up
+    private static final String FIND_BY_USERNAME = """
+            SELECT `id`, `username`, `type`, `password`
+            FROM `Login`
+            WHERE `username_lower` = ?
+            """;
+    private static final String EXISTS_USERNAME =
+            "SELECT 1 FROM `Login` WHERE `username_lower` = ? LIMIT 1";
+    private static final String FIND_IDS = "SELECT `id` FROM `Login`";
+    private static final String INSERT_MEMBER =
+            "INSERT INTO `Login` (`username`, `username_lower`, `password`, `type`) VALUES (?, ?, ?, 'member')";
+    // Only replaces the value that was verified, so a concurrent password change wins
+    private static final String REPLACE_PASSWORD =
+            "UPDATE `Login` SET `password` = ? WHERE `id` = ? AND `password` = ?";
+
+    // ✅ Account and stored password for a login attempt (username is case-insensitive)
+    public Optional<Credential> findCredential(String username) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(FIND_BY_USERNAME)) {
+            ps.setString(1, normalize(username));
+            try (ResultSet rs = ps.executeQuery()) {
+                if (!rs.next()) return Optional.empty();
+                return Optional.of(new Credential(new User(rs.getInt(1), rs.getString(2), rs.getString(3)), rs.getString(4)));
+            }
+        }
+    }
+
+    // ✅ Value of the indexed username_lower column (unique, case-insensitive usernames)
+    static String normalize(String username) {
+        return username == null ? null : username.toLowerCase(Locale.ROOT);
+    }
+
+    public boolean existsByUsername(String username) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(EXISTS_USERNAME)) {
+            ps.setString(1, normalize(username));
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    // passwordHash comes from PasswordHasher.hash(); plaintext is never stored
+    public void createMember(String username, String passwordHash) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(INSERT_MEMBER)) {
+            ps.setString(1, username);
+            ps.setString(2, normalize(username));
+            ps.setString(3, passwordHash);
+            ps.executeUpdate();
+        }
+    }
+
+    // ✅ Swap in a new hash (e.g. upgrading a plaintext row); false if the row changed meanwhile
+    public boolean replacePassword(int id, String expected, String passwordHash) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(REPLACE_PASSWORD)) {
+            ps.setString(1, passwordHash);
+            ps.setInt(2, id);
+            ps.setString(3, expected);
+            return ps.executeUpdate() == 1;
+        }
+    }
+
+    // ✅ All account ids (bulk import checks booking owners in memory)
+    public void collectIds(Set<Integer> ids) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(FIND_IDS);
+             ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                ids.add(rs.getInt(1));
+            }
+        }
+    }
+}
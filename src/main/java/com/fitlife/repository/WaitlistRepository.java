@@ -0,0 +1,123 @@
+package com.fitlife.repository;
+
+import com.fitlife.DatabaseUtil;
+import com.fitlife.model.Booking;
+import com.fitlife.model.WaitlistEntry;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * All SQL for the Waitlist table (one FIFO queue per class session).
+ * Joining and promoting run on the caller's transaction, after it has locked the session row
+ * (see {@link ScheduleRepository#lockSession}), so a cancellation and a join on the same class
+ * can't pass each other: either the joiner sees the freed seat or the canceller sees the joiner.
+ */
+public class WaitlistRepository {
+
+    private static final String COLUMNS =
+            "id, session_id, user_id, full_name, contact, membership_type, sessions, total_cost";
+    private static final String INSERT =
+            "INSERT INTO Waitlist (session_id, user_id, full_name, contact, membership_type, sessions, total_cost) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String POSITION =
+            "SELECT COUNT(*) FROM Waitlist WHERE session_id = ? AND id <= ?";
+    private static final String FIRST =
+            "SELECT " + COLUMNS + " FROM Waitlist WHERE session_id = ? ORDER BY id LIMIT 1";
+    private static final String DELETE = "DELETE FROM Waitlist WHERE id = ?";
+    private static final String LEAVE = "DELETE FROM Waitlist WHERE session_id = ? AND user_id = ?";
+    // The member's best place in each queue for classes in the range
+    private static final String FIND_USER_POSITIONS =
+            "SELECT w.session_id, MIN((SELECT COUNT(*) FROM Waitlist q WHERE q.session_id = w.session_id AND q.id <= w.id)) " +
+                    "FROM Waitlist w JOIN ClassSession s ON s.id = w.session_id " +
+                    "WHERE w.user_id = ? AND s.starts_at >= ? AND s.starts_at < ? GROUP BY w.session_id";
+
+    // ✅ Queues the booking; returns the member's position (1 = next in line)
+    public int add(Connection conn, int userId, Booking booking) throws SQLException {
+        int id;
+        try (PreparedStatement ps = conn.prepareStatement(INSERT, Statement.RETURN_GENERATED_KEYS)) {
+            ps.setInt(1, booking.getSessionId());
+            ps.setInt(2, userId);
+            ps.setString(3, booking.getFullName());
+            ps.setString(4, booking.getContact());
+            ps.setString(5, booking.getMembership());
+            ps.setInt(6, booking.getNumSessions());
+            ps.setInt(7, booking.getTotalCost());
+            ps.executeUpdate();
+            try (ResultSet keys = ps.getGeneratedKeys()) {
+                if (!keys.next()) throw new SQLException("No id returned for waitlist entry");
+                id = keys.getInt(1);
+            }
+        }
+        try (PreparedStatement ps = conn.prepareStatement(POSITION)) {
+            ps.setInt(1, booking.getSessionId());
+            ps.setInt(2, id);
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                return rs.getInt(1);
+            }
+        }
+    }
+
+    // ✅ Removes and returns the first member in line, or null if nobody is waiting
+    public WaitlistEntry pollFirst(Connection conn, int sessionId) throws SQLException {
+        WaitlistEntry first;
+        try (PreparedStatement ps = conn.prepareStatement(FIRST)) {
+            ps.setInt(1, sessionId);
+            try (ResultSet rs = ps.executeQuery()) {
+                if (!rs.next()) return null;
+                first = map(rs);
+            }
+        }
+        try (PreparedStatement ps = conn.prepareStatement(DELETE)) {
+            ps.setInt(1, first.id());
+            ps.executeUpdate();
+        }
+        return first;
+    }
+
+    // ✅ Leaves the queue of one class (all of the member's entries in it)
+    public int leave(int userId, int sessionId) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(LEAVE)) {
+            ps.setInt(1, sessionId);
+            ps.setInt(2, userId);
+            return ps.executeUpdate();
+        }
+    }
+
+    // ✅ session id -> the member's position in its queue, for classes starting in [from, to)
+    public Map<Integer, Integer> findUserPositions(int userId, LocalDateTime from, LocalDateTime to) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(FIND_USER_POSITIONS)) {
+            ps.setInt(1, userId);
+            ps.setTimestamp(2, Timestamp.valueOf(from));
+            ps.setTimestamp(3, Timestamp.valueOf(to));
+            try (ResultSet rs = ps.executeQuery()) {
+                Map<Integer, Integer> positions = new HashMap<>();
+                while (rs.next()) positions.put(rs.getInt(1), rs.getInt(2));
+                return positions;
+            }
+        }
+    }
+
+    private static WaitlistEntry map(ResultSet rs) throws SQLException {
+        return new WaitlistEntry(
+                rs.getInt(1),
+                rs.getInt(2),
+                rs.getInt(3),
+                rs.getString(4),
+                rs.getString(5),
+                SharedValues.string(rs.getString(6)),
+                rs.getInt(7),
+                rs.getInt(8)
+        );
+    }
+}
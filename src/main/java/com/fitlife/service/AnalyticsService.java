@@ -0,0 +1,76 @@
+package com.fitlife.service;
+
+import com.fitlife.model.AnalyticsReport;
+import com.fitlife.model.AnalyticsReport.MembershipTotal;
+import com.fitlife.model.AnalyticsReport.ProgramMonth;
+import com.fitlife.model.AnalyticsReport.TrainerLoad;
+import com.fitlife.model.Program;
+import com.fitlife.repository.BookingRollupRepository;
+import com.fitlife.repository.StaffRepository;
+
+import java.sql.SQLException;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Builds the admin analytics report. Booking figures come from the BookingRollup totals
+ * (maintained on every booking write), trainer assignments from the program catalog already in
+ * memory and payroll from Staff, so a report costs three small queries whatever the booking
+ * volume. Blocking; run it on the data-access executor.
+ */
+public final class AnalyticsService {
+
+    private static final AnalyticsService INSTANCE =
+            new AnalyticsService(new BookingRollupRepository(), new StaffRepository());
+
+    private final BookingRollupRepository rollups;
+    private final StaffRepository staffRepository;
+
+    AnalyticsService(BookingRollupRepository rollups, StaffRepository staffRepository) {
+        this.rollups = rollups;
+        this.staffRepository = staffRepository;
+    }
+
+    public static AnalyticsService getInstance() {
+        return INSTANCE;
+    }
+
+    // ✅ The last `months` months up to and including the current one
+    public AnalyticsReport report(List<Program> programs, int months) throws SQLException {
+        YearMonth to = YearMonth.now();
+        YearMonth from = to.minusMonths(months - 1L);
+        List<YearMonth> range = new ArrayList<>(months);
+        for (YearMonth m = from; !m.isAfter(to); m = m.plusMonths(1)) range.add(m);
+
+        List<ProgramMonth> revenue = rollups.findByProgramMonth(from, to);
+        List<MembershipTotal> memberships = rollups.findByMembership(from, to);
+        return new AnalyticsReport(range, revenue, memberships, trainerLoad(programs, revenue),
+                staffRepository.findPayroll());
+    }
+
+    // Programs per trainer, with what was sold of them in the range
+    private static List<TrainerLoad> trainerLoad(List<Program> programs, List<ProgramMonth> revenue) {
+        Map<String, long[]> sold = new HashMap<>();
+        for (ProgramMonth m : revenue) {
+            long[] s = sold.computeIfAbsent(m.program(), k -> new long[2]);
+            s[0] += m.sessions();
+            s[1] += m.revenue();
+        }
+        Map<String, long[]> byTrainer = new TreeMap<>();
+        for (Program p : programs) {
+            String trainer = p.getTrainer() == null || p.getTrainer().isBlank() ? "(unassigned)" : p.getTrainer();
+            long[] t = byTrainer.computeIfAbsent(trainer, k -> new long[3]);
+            long[] s = sold.getOrDefault(p.getName(), new long[2]);
+            t[0]++;
+            t[1] += s[0];
+            t[2] += s[1];
+        }
+        List<TrainerLoad> load = new ArrayList<>(byTrainer.size());
+        byTrainer.forEach((trainer, t) -> load.add(new TrainerLoad(trainer, (int) t[0], t[1], t[2])));
+        return load;
+    }
+}
@@ -0,0 +1,112 @@
+package com.fitlife.service;
+
+import com.fitlife.db.DataAccessService;
+import com.fitlife.model.Credential;
+import com.fitlife.model.User;
+import com.fitlife.repository.UserRepository;
+
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Login and registration on top of {@link PasswordHasher}.
+ * The account row is read on {@link DataAccessService} and the connection is returned before the
+ * hash is checked; the slow PBKDF2 work then runs on a small dedicated pool
+ * (-Dfitlife.auth.threads, default one per core) so a queue of members checking in at once
+ * neither blocks the FX thread nor holds database connections while hashing.
+ * A successful login on a plaintext or under-strength row rewrites it with a fresh hash.
+ */
+public final class AuthService {
+
+    private static final int THREADS = Math.max(1,
+            Integer.getInteger("fitlife.auth.threads", Runtime.getRuntime().availableProcessors()));
+    private static final int QUEUE_CAPACITY = 256;
+
+    private static final AuthService INSTANCE = new AuthService(new UserRepository());
+
+    private final UserRepository repository;
+    private final ExecutorService hashing = createExecutor();
+
+    // Unknown usernames are checked against this so they take as long as a wrong password
+    private volatile String dummyHash;
+
+    AuthService(UserRepository repository) {
+        this.repository = repository;
+    }
+
+    public static AuthService getInstance() {
+        return INSTANCE;
+    }
+
+    // ✅ Calibrate the work factor in the background so the first login doesn't pay for it
+    public void warmUp() {
+        CompletableFuture.runAsync(this::dummyHash, hashing);
+    }
+
+    // ✅ Empty result = unknown user or wrong password (callers shouldn't say which)
+    public CompletableFuture<Optional<User>> login(String username, String password) {
+        return DataAccessService.supply(() -> repository.findCredential(username))
+                .thenApplyAsync(found -> verify(found, password), hashing);
+    }
+
+    // ✅ Hash on the auth pool, then insert; false when the username is already taken
+    public CompletableFuture<Boolean> register(String username, String password) {
+        return CompletableFuture.supplyAsync(() -> PasswordHasher.getInstance().hash(password), hashing)
+                .thenCompose(hash -> DataAccessService.supply(() -> {
+                    if (repository.existsByUsername(username)) return false;
+                    repository.createMember(username, hash);
+                    return true;
+                }));
+    }
+
+    private Optional<User> verify(Optional<Credential> found, String password) {
+        PasswordHasher hasher = PasswordHasher.getInstance();
+        if (found.isEmpty()) {
+            hasher.verify(password, dummyHash());
+            return Optional.empty();
+        }
+        Credential credential = found.get();
+        if (!hasher.verify(password, credential.storedPassword())) return Optional.empty();
+
+        if (hasher.needsRehash(credential.storedPassword())) {
+            upgrade(credential, hasher.hash(password));
+        }
+        return Optional.of(credential.user());
+    }
+
+    // 🔹 Best effort: the login already succeeded, a failed upgrade is retried next time
+    private void upgrade(Credential credential, String hash) {
+        DataAccessService.supply(() -> repository.replacePassword(credential.user().getId(), credential.storedPassword(), hash))
+                .whenComplete((updated, error) -> {
+                    if (error != null) {
+                        System.err.println("Could not upgrade password hash for user " + credential.user().getId()
+                                + ": " + error.getMessage());
+                    }
+                });
+    }
+
+    private String dummyHash() {
+        String hash = dummyHash;
+        if (hash == null) {
+            hash = PasswordHasher.getInstance().hash("fitlife-dummy-password");
+            dummyHash = hash;
+        }
+        return hash;
+    }
+
+    private static ExecutorService createExecutor() {
+        AtomicInteger counter = new AtomicInteger();
+        // Bounded queue; when it is full the submitting data thread hashes itself (natural back-pressure)
+        return new ThreadPoolExecutor(THREADS, THREADS, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY), r -> {
+            Thread t = new Thread(r, "fitlife-auth-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+}
@@ -0,0 +1,63 @@
+package com.fitlife.service;
+
+import com.fitlife.model.Booking;
+import com.fitlife.repository.BookingRepository;
+import com.fitlife.repository.Cancellation;
+import com.fitlife.repository.SeatResult;
+
+import java.sql.SQLException;
+
+/**
+ * Booking writes that move class-session seats. Each one publishes its {@link SessionEvents}
+ * as soon as the repository's transaction has committed, on the worker thread, so every
+ * terminal hears about a booking, cancellation or promotion even if the screen that asked
+ * for it is left before the result comes back. All methods block and belong on the
+ * data-access executor.
+ */
+public final class BookingService {
+
+    private static final BookingService INSTANCE =
+            new BookingService(new BookingRepository(), SessionEvents.getInstance());
+
+    private final BookingRepository repository;
+    private final SessionEvents events;
+
+    BookingService(BookingRepository repository, SessionEvents events) {
+        this.repository = repository;
+        this.events = events;
+    }
+
+    public static BookingService getInstance() {
+        return INSTANCE;
+    }
+
+    // ✅ Same results as BookingRepository.insert; a class booking publishes BOOKED
+    public int book(int userId, Booking booking) throws SQLException {
+        int id = repository.insert(userId, booking);
+        if (id >= 0) events.publish(SessionEvents.Kind.BOOKED, booking.getSessionId(), userId, booking.withId(id));
+        return id;
+    }
+
+    // ✅ Full class: BOOKED if a seat freed up meanwhile, WAITLISTED if the member was queued
+    public SeatResult bookOrWait(int userId, Booking booking) throws SQLException {
+        SeatResult result = repository.bookOrWait(userId, booking);
+        if (result.isBooked()) {
+            events.publish(SessionEvents.Kind.BOOKED, booking.getSessionId(), userId, booking.withId(result.bookingId()));
+        } else if (result.isQueued()) {
+            events.publish(SessionEvents.Kind.WAITLISTED, booking.getSessionId(), userId, null);
+        }
+        return result;
+    }
+
+    // ✅ CANCELLED for the seat given up, then PROMOTED for the member who got it (if anyone)
+    public Cancellation cancel(int userId, int bookingId) throws SQLException {
+        Cancellation result = repository.delete(userId, bookingId);
+        if (result.deleted()) {
+            events.publish(SessionEvents.Kind.CANCELLED, result.sessionId(), userId, null);
+            if (result.isPromoted()) {
+                events.publish(SessionEvents.Kind.PROMOTED, result.sessionId(), result.promotedUserId(), result.promoted());
+            }
+        }
+        return result;
+    }
+}
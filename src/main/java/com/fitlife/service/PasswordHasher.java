@@ -0,0 +1,147 @@
+package com.fitlife.service;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Salted PBKDF2-HMAC-SHA256 password hashes, stored as {@code pbkdf2-sha256$iterations$salt$hash}
+ * (salt and hash in Base64), so each row carries its own work factor.
+ * The work factor comes from -Dfitlife.auth.iterations, or is calibrated once at startup so a
+ * verify takes about -Dfitlife.auth.targetMillis (default 250 ms) on this machine.
+ * Stored values without the prefix are legacy plaintext; they still verify, and
+ * {@link #needsRehash} reports them (and hashes below the rehash floor) for upgrade.
+ * The floor is fixed (the configured work factor, else {@link #MIN_ITERATIONS}), never the calibrated
+ * value: that changes from run to run and machine to machine, and comparing against it would keep
+ * rewriting hashes at login. Set -Dfitlife.auth.iterations to give every terminal the same factor.
+ * Hashing is deliberately slow: call it off the FX thread (see AuthService).
+ */
+public final class PasswordHasher {
+
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final String PREFIX = "pbkdf2-sha256$";
+    private static final int SALT_BYTES = 16;
+    private static final int HASH_BITS = 256;
+
+    // Calibration never goes below the OWASP-era floor, nor above what a kiosk can afford
+    static final int MIN_ITERATIONS = 100_000;
+    static final int MAX_ITERATIONS = 5_000_000;
+    private static final int CALIBRATION_ITERATIONS = 20_000;
+
+    private static final PasswordHasher INSTANCE = create();
+
+    private final SecureRandom random = new SecureRandom();
+    private final int iterations;
+    private final int rehashBelow;
+
+    PasswordHasher(int iterations) {
+        this(iterations, Math.min(iterations, MIN_ITERATIONS));
+    }
+
+    PasswordHasher(int iterations, int rehashBelow) {
+        this.iterations = iterations;
+        this.rehashBelow = rehashBelow;
+    }
+
+    public static PasswordHasher getInstance() {
+        return INSTANCE;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    // ✅ New hash with a fresh random salt and the current work factor
+    public String hash(String password) {
+        byte[] salt = new byte[SALT_BYTES];
+        random.nextBytes(salt);
+        byte[] hash = derive(password, salt, iterations);
+        Base64.Encoder b64 = Base64.getEncoder().withoutPadding();
+        return PREFIX + iterations + '$' + b64.encodeToString(salt) + '$' + b64.encodeToString(hash);
+    }
+
+    // ✅ Constant-time check against a stored hash (or a legacy plaintext value)
+    public boolean verify(String password, String stored) {
+        if (password == null || stored == null) return false;
+        if (!isHashed(stored)) {
+            return MessageDigest.isEqual(password.getBytes(StandardCharsets.UTF_8), stored.getBytes(StandardCharsets.UTF_8));
+        }
+        String[] parts = stored.split("\\$");
+        if (parts.length != 4) return false;
+        try {
+            int rounds = Integer.parseInt(parts[1]);
+            byte[] salt = Base64.getDecoder().decode(parts[2]);
+            byte[] expected = Base64.getDecoder().decode(parts[3]);
+            if (rounds < 1 || expected.length == 0) return false;
+            return MessageDigest.isEqual(derive(password, salt, rounds, expected.length * 8), expected);
+        } catch (IllegalArgumentException e) {
+            return false; // malformed row: treat as a failed login rather than an error
+        }
+    }
+
+    // ✅ True for plaintext rows and hashes made with fewer iterations than the fixed floor
+    public boolean needsRehash(String stored) {
+        if (!isHashed(stored)) return true;
+        int end = stored.indexOf('$', PREFIX.length());
+        try {
+            return end < 0 || Integer.parseInt(stored.substring(PREFIX.length(), end)) < rehashBelow;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    public static boolean isHashed(String stored) {
+        return stored != null && stored.startsWith(PREFIX);
+    }
+
+    private static byte[] derive(String password, byte[] salt, int rounds) {
+        return derive(password, salt, rounds, HASH_BITS);
+    }
+
+    private static byte[] derive(String password, byte[] salt, int rounds, int bits) {
+        char[] chars = password.toCharArray();
+        PBEKeySpec spec = new PBEKeySpec(chars, salt, rounds, bits);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + " is not available", e);
+        } finally {
+            spec.clearPassword();
+            Arrays.fill(chars, '\0');
+        }
+    }
+
+    // --- Work factor ---
+
+    // A configured factor is also the floor (an admin raised it on purpose); a calibrated one is not
+    private static PasswordHasher create() {
+        Integer fixed = Integer.getInteger("fitlife.auth.iterations");
+        if (fixed != null) {
+            int iterations = Math.max(1, fixed);
+            return new PasswordHasher(iterations, iterations);
+        }
+        return new PasswordHasher(calibrate(Math.max(1, Integer.getInteger("fitlife.auth.targetMillis", 250))));
+    }
+
+    // 🔹 Time a short run (after a warm-up) and scale it to the target verify latency
+    static int calibrate(int targetMillis) {
+        byte[] salt = new byte[SALT_BYTES];
+        derive("calibration", salt, CALIBRATION_ITERATIONS); // warm up the JIT
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long started = System.nanoTime();
+            derive("calibration", salt, CALIBRATION_ITERATIONS);
+            best = Math.min(best, System.nanoTime() - started);
+        }
+        double perIteration = Math.max(1, best) / (double) CALIBRATION_ITERATIONS;
+        long scaled = (long) (targetMillis * 1_000_000L / perIteration);
+        int iterations = (int) Math.max(MIN_ITERATIONS, Math.min(MAX_ITERATIONS, scaled));
+        System.out.println("Password hashing calibrated to " + iterations + " PBKDF2 iterations (~" + targetMillis + " ms)");
+        return iterations;
+    }
+}
@@ -0,0 +1,230 @@
+package com.fitlife.service;
+
+import com.fitlife.db.DataAccessService;
+import com.fitlife.model.Booking;
+import com.fitlife.model.PricingTier;
+import com.fitlife.model.Program;
+import com.fitlife.repository.PricingRepository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Quotes booking prices from the program's cost per session, the membership type and the
+ * PricingTier table (volume discounts).
+ * Tiers and program costs are compiled into flat per-session rate arrays whenever either changes,
+ * so a quote is a map lookup plus two array reads and allocates nothing.
+ * Without any PricingTier rows the built-in ladders apply: Monthly (and unknown memberships) pay
+ * 100% up to 10 sessions, 80% up to 30, 60% up to 50 and 50% beyond, which matches the old
+ * 1000/800/600/500 pricing for a 1000 base rate; Quarterly pays 90% of that and Annual 80%.
+ * Tiers are re-read whenever the program catalog changes or refreshes; if a read fails the last
+ * good tiers stay in use and the next quote tries again.
+ */
+public final class PricingEngine {
+
+    public static final String[] MEMBERSHIP_TYPES = RecordValidator.MEMBERSHIP_TYPES.toArray(new String[0]);
+
+    // Rate used when a program is unknown or has no cost per session
+    public static final int DEFAULT_BASE_RATE = 1000;
+
+    private static final List<PricingTier> DEFAULT_LADDER = List.of(
+            new PricingTier(null, null, 1, 100),
+            new PricingTier(null, null, 11, 80),
+            new PricingTier(null, null, 31, 60),
+            new PricingTier(null, null, 51, 50),
+            new PricingTier(null, "Monthly", 1, 100),
+            new PricingTier(null, "Monthly", 11, 80),
+            new PricingTier(null, "Monthly", 31, 60),
+            new PricingTier(null, "Monthly", 51, 50),
+            new PricingTier(null, "Quarterly", 1, 90),
+            new PricingTier(null, "Quarterly", 11, 72),
+            new PricingTier(null, "Quarterly", 31, 54),
+            new PricingTier(null, "Quarterly", 51, 45),
+            new PricingTier(null, "Annual", 1, 80),
+            new PricingTier(null, "Annual", 11, 64),
+            new PricingTier(null, "Annual", 31, 48),
+            new PricingTier(null, "Annual", 51, 40));
+
+    private static final int STRIDE = MEMBERSHIP_TYPES.length + 1; // last column = unknown membership
+
+    private static final PricingEngine INSTANCE = new PricingEngine(new PricingRepository(), ProgramCatalog.getInstance());
+
+    private final PricingRepository repository;
+    private final Consumer<List<Program>> catalogListener = latest -> {
+        programsChanged(latest);
+        reloadTiers(); // picks up PricingTier edits along with program ones
+    };
+    private final AtomicBoolean loadingTiers = new AtomicBoolean();
+    private volatile boolean tiersLoaded;
+
+    private List<Program> programs = List.of();
+    private List<PricingTier> tiers = List.of();
+    private volatile Rates rates = compile(List.of(), List.of());
+
+    PricingEngine(PricingRepository repository, ProgramCatalog catalog) {
+        this.repository = repository;
+        catalog.addListener(catalogListener);
+        catalog.getPrograms().thenAccept(this::programsChanged);
+        reloadTiers();
+    }
+
+    public static PricingEngine getInstance() {
+        return INSTANCE;
+    }
+
+    // ✅ Re-read the PricingTier table; on failure keep the current tiers and retry on a later quote
+    public CompletableFuture<Void> reloadTiers() {
+        loadingTiers.set(true);
+        return DataAccessService.supply(repository::findAllTiers)
+                .handle((loaded, ex) -> {
+                    loadingTiers.set(false);
+                    if (ex != null) {
+                        System.err.println("⚠ Could not load pricing tiers, will retry: " + ex);
+                        return null;
+                    }
+                    synchronized (this) {
+                        tiers = List.copyOf(loaded);
+                        rates = compile(programs, tiers);
+                    }
+                    tiersLoaded = true;
+                    return null;
+                });
+    }
+
+    // Until one read has succeeded, each quote starts another (one at a time)
+    private void retryTiersIfMissing() {
+        if (!tiersLoaded && loadingTiers.compareAndSet(false, true)) reloadTiers();
+    }
+
+    private void programsChanged(List<Program> latest) {
+        synchronized (this) {
+            programs = latest;
+            rates = compile(programs, tiers);
+        }
+    }
+
+    // --- Quotes ---
+
+    // ✅ Total price of a booking; unknown program/membership fall back to the defaults
+    public long quote(String program, String membershipType, int sessions) {
+        if (sessions <= 0) return 0;
+        retryTiersIfMissing();
+        Rates r = rates;
+        return (long) sessions * r.rate(program, membershipIndex(membershipType), sessions);
+    }
+
+    public int ratePerSession(String program, String membershipType, int sessions) {
+        retryTiersIfMissing();
+        return rates.rate(program, membershipIndex(membershipType), Math.max(sessions, 1));
+    }
+
+    // ✅ Batch quote (bulk rebooking, renewal runs) against one consistent set of tables;
+    //    out[i] is the total for row i and nothing is allocated per row
+    public void quoteAll(String[] programs, String[] membershipTypes, int[] sessions, long[] out) {
+        retryTiersIfMissing();
+        Rates r = rates;
+        for (int i = 0; i < sessions.length; i++) {
+            int n = sessions[i];
+            out[i] = n <= 0 ? 0 : (long) n * r.rate(programs[i], membershipIndex(membershipTypes[i]), n);
+        }
+    }
+
+    public long[] quoteAll(List<Booking> bookings) {
+        retryTiersIfMissing();
+        Rates r = rates;
+        long[] out = new long[bookings.size()];
+        for (int i = 0; i < out.length; i++) {
+            Booking b = bookings.get(i);
+            int n = b.getNumSessions();
+            out[i] = n <= 0 ? 0 : (long) n * r.rate(b.getProgram(), membershipIndex(b.getMembership()), n);
+        }
+        return out;
+    }
+
+    private static int membershipIndex(String membershipType) {
+        if (membershipType != null) {
+            for (int i = 0; i < MEMBERSHIP_TYPES.length; i++) {
+                if (MEMBERSHIP_TYPES[i].equals(membershipType)) return i;
+            }
+        }
+        return MEMBERSHIP_TYPES.length;
+    }
+
+    // --- Compilation ---
+
+    /** Slot 0 is "no program"; each slot has one rate table per membership column. */
+    private record Rates(Map<String, Integer> slotByProgram, int[][] tables) {
+
+        int rate(String program, int membership, int sessions) {
+            Integer slot = program == null ? null : slotByProgram.get(program);
+            int[] table = tables[(slot == null ? 0 : slot) * STRIDE + membership];
+            return table[Math.min(sessions, table.length - 1)];
+        }
+    }
+
+    private static Rates compile(List<Program> programs, List<PricingTier> tiers) {
+        Map<String, Integer> slots = new HashMap<>();
+        int[][] tables = new int[(programs.size() + 1) * STRIDE][];
+
+        for (int m = 0; m < STRIDE; m++) {
+            tables[m] = table(DEFAULT_BASE_RATE, ladder(tiers, null, membershipAt(m)));
+        }
+        int slot = 1;
+        for (Program p : programs) {
+            if (slots.putIfAbsent(p.getName(), slot) != null) continue; // duplicate name: first wins
+            int base = p.getCostPerSession() > 0 ? p.getCostPerSession() : DEFAULT_BASE_RATE;
+            for (int m = 0; m < STRIDE; m++) {
+                tables[slot * STRIDE + m] = table(base, ladder(tiers, p.getName(), membershipAt(m)));
+            }
+            slot++;
+        }
+        return new Rates(slots, tables);
+    }
+
+    private static String membershipAt(int column) {
+        return column < MEMBERSHIP_TYPES.length ? MEMBERSHIP_TYPES[column] : null;
+    }
+
+    // ✅ Most specific tier set wins: program+membership, program, membership, global,
+    //    then the built-in ladder for the membership (or the plain one)
+    private static TreeMap<Integer, Integer> ladder(List<PricingTier> tiers, String program, String membership) {
+        TreeMap<Integer, Integer> ladder;
+        if (program != null && membership != null && !(ladder = select(tiers, program, membership)).isEmpty()) return ladder;
+        if (program != null && !(ladder = select(tiers, program, null)).isEmpty()) return ladder;
+        if (membership != null && !(ladder = select(tiers, null, membership)).isEmpty()) return ladder;
+        if (!(ladder = select(tiers, null, null)).isEmpty()) return ladder;
+        if (membership != null && !(ladder = select(DEFAULT_LADDER, null, membership)).isEmpty()) return ladder;
+        return select(DEFAULT_LADDER, null, null);
+    }
+
+    private static TreeMap<Integer, Integer> select(List<PricingTier> tiers, String program, String membership) {
+        TreeMap<Integer, Integer> ladder = new TreeMap<>();
+        for (PricingTier t : tiers) {
+            if (equalsOrBothNull(t.program(), program) && equalsOrBothNull(t.membershipType(), membership)) {
+                ladder.put(Math.max(t.minSessions(), 1), t.ratePercent());
+            }
+        }
+        return ladder;
+    }
+
+    private static boolean equalsOrBothNull(String a, String b) {
+        return a == null ? b == null : a.equals(b);
+    }
+
+    // ✅ table[n] = rate for n sessions, n = 1..last threshold; the last entry covers everything above
+    private static int[] table(int baseRate, TreeMap<Integer, Integer> ladder) {
+        int[] table = new int[ladder.lastKey() + 1];
+        int percent = ladder.firstEntry().getValue();
+        for (int n = 0; n < table.length; n++) {
+            Integer step = ladder.get(n);
+            if (step != null) percent = step;
+            table[n] = (int) (((long) baseRate * percent + 50) / 100);
+        }
+        return table;
+    }
+}
@@ -0,0 +1,196 @@
+package com.fitlife.service;
+
+import com.fitlife.db.DataAccessService;
+import com.fitlife.model.Program;
+import com.fitlife.repository.ProgramRepository;
+import javafx.application.Platform;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Process-wide cache of the Program table shared by every screen that lists programs.
+ * The table is read once; writes made through this terminal update the cache in place,
+ * and an optional TTL refresh (-Dfitlife.catalog.ttlSeconds=N) picks up changes from other terminals.
+ * Programs handed out are shared instances and must be treated as read-only.
+ * Searches go through a {@link ProgramSearchIndex} kept in step with the cache.
+ */
+public final class ProgramCatalog {
+
+    private static final ProgramCatalog INSTANCE = new ProgramCatalog(new ProgramRepository());
+
+    private final ProgramRepository repository;
+    private final Map<String, Program> byId = new LinkedHashMap<>();
+    private final ProgramSearchIndex index = new ProgramSearchIndex();
+    private final List<WeakReference<Consumer<List<Program>>>> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile List<Program> snapshot;     // null until first load
+    private CompletableFuture<List<Program>> loading;
+    private long generation;
+    private ScheduledExecutorService refresher;
+
+    ProgramCatalog(ProgramRepository repository) {
+        this.repository = repository;
+        long ttl = Long.getLong("fitlife.catalog.ttlSeconds", 0L);
+        if (ttl > 0) startAutoRefresh(ttl);
+    }
+
+    public static ProgramCatalog getInstance() {
+        return INSTANCE;
+    }
+
+    // ✅ Cached programs (completes immediately once loaded)
+    public CompletableFuture<List<Program>> getPrograms() {
+        List<Program> current = snapshot;
+        if (current != null) return CompletableFuture.completedFuture(current);
+        synchronized (this) {
+            if (snapshot != null) return CompletableFuture.completedFuture(snapshot);
+            if (loading == null || loading.isDone()) loading = reload();
+            return loading;
+        }
+    }
+
+    // ✅ Program names in catalog order (for combo boxes)
+    public CompletableFuture<List<String>> getProgramNames() {
+        return getPrograms().thenApply(programs -> {
+            List<String> names = new ArrayList<>(programs.size());
+            for (Program p : programs) names.add(p.getName());
+            return names;
+        });
+    }
+
+    public Program findById(String id) {
+        synchronized (this) {
+            return byId.get(id);
+        }
+    }
+
+    // ✅ Force a reload from the database (TTL refresh or manual)
+    public CompletableFuture<List<Program>> refresh() {
+        synchronized (this) {
+            if (loading == null || loading.isDone()) loading = reload();
+            return loading;
+        }
+    }
+
+    // A load that raced with a write is discarded, not installed: byId and the index keep the
+    // write (or stay empty before the first load) and the returned future follows the re-read
+    private CompletableFuture<List<Program>> reload() {
+        long startGeneration = generation;
+        return DataAccessService.supply(repository::findAll).whenComplete((programs, error) -> {
+            if (error != null) {
+                synchronized (this) {
+                    loading = null;
+                }
+            }
+        }).thenCompose(programs -> {
+            List<Program> installed = null;
+            synchronized (this) {
+                loading = null;
+                if (generation == startGeneration) {
+                    byId.clear();
+                    for (Program p : programs) byId.put(p.getId(), p);
+                    index.rebuild(programs);
+                    installed = publish();
+                }
+            }
+            if (installed == null) return refresh(); // a write raced with the load; read again so it isn't lost
+            notifyListeners(installed);
+            return CompletableFuture.completedFuture(installed);
+        });
+    }
+
+    // --- Incremental updates from this terminal's writes ---
+
+    public void programAdded(Program program) {
+        mutate(() -> {
+            byId.put(program.getId(), program);
+            index.put(program);
+        });
+    }
+
+    public void programUpdated(Program program) {
+        mutate(() -> {
+            byId.put(program.getId(), program);
+            index.put(program);
+        });
+    }
+
+    public void programRemoved(String id) {
+        mutate(() -> {
+            byId.remove(id);
+            index.remove(id);
+        });
+    }
+
+    // --- Search (inverted index, prefix matching, ranked) ---
+
+    public List<Program> search(String query) {
+        return index.search(query);
+    }
+
+    public List<Program> search(String query, Set<String> withinIds) {
+        return index.search(query, withinIds);
+    }
+
+    private void mutate(Runnable change) {
+        List<Program> installed;
+        synchronized (this) {
+            generation++;
+            if (snapshot == null) return; // not loaded yet; the pending/next load will see the change
+            change.run();
+            installed = publish();
+        }
+        notifyListeners(installed);
+    }
+
+    private List<Program> publish() {
+        snapshot = List.copyOf(byId.values());
+        return snapshot;
+    }
+
+    // ✅ Listeners are held weakly: keep a reference in a field of the screen controller
+    public void addListener(Consumer<List<Program>> listener) {
+        listeners.add(new WeakReference<>(listener));
+    }
+
+    public void removeListener(Consumer<List<Program>> listener) {
+        listeners.removeIf(ref -> ref.get() == null || ref.get() == listener);
+    }
+
+    private void notifyListeners(List<Program> programs) {
+        Runnable dispatch = () -> {
+            for (WeakReference<Consumer<List<Program>>> ref : listeners) {
+                Consumer<List<Program>> listener = ref.get();
+                if (listener == null) {
+                    listeners.remove(ref);
+                } else {
+                    listener.accept(programs);
+                }
+            }
+        };
+        if (Platform.isFxApplicationThread()) dispatch.run();
+        else Platform.runLater(dispatch);
+    }
+
+    private synchronized void startAutoRefresh(long ttlSeconds) {
+        refresher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "fitlife-catalog-refresh");
+            t.setDaemon(true);
+            return t;
+        });
+        refresher.scheduleWithFixedDelay(() -> {
+            if (snapshot != null) refresh();
+        }, ttlSeconds, ttlSeconds, TimeUnit.SECONDS);
+    }
+}
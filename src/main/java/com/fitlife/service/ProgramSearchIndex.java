@@ -0,0 +1,181 @@
+package com.fitlife.service;
+
+import com.fitlife.model.Program;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index over program name, trainer and description (token -> program ids).
+ * Built once from the catalog and kept up to date on add/update/delete, so a search
+ * only touches the postings of the query tokens instead of lower-casing every program.
+ * <p>
+ * Every query token must match (AND); a token matches any indexed token it is a prefix of.
+ * Results are ranked by field weight (name > trainer > description), exact tokens over prefixes.
+ */
+public class ProgramSearchIndex {
+
+    private static final int NAME_WEIGHT = 6;
+    private static final int TRAINER_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final int EXACT_BONUS = 2;
+
+    // token -> (program id -> field weight)
+    private final NavigableMap<String, Map<String, Integer>> postings = new TreeMap<>();
+    private final Map<String, Set<String>> tokensById = new HashMap<>();
+    private final Map<String, Program> programsById = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // ✅ Replace the whole index (initial load / TTL refresh)
+    public void rebuild(Collection<Program> programs) {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            tokensById.clear();
+            programsById.clear();
+            for (Program p : programs) addLocked(p);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ✅ Add or re-index a single program
+    public void put(Program program) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(program.getId());
+            addLocked(program);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String programId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(programId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ✅ Ranked search; an empty query returns an empty list (callers show everything)
+    public List<Program> search(String query) {
+        return search(query, null);
+    }
+
+    // ✅ Ranked search restricted to a candidate set of ids (null = all programs)
+    public List<Program> search(String query, Set<String> withinIds) {
+        List<String> queryTokens = tokenize(query);
+        if (queryTokens.isEmpty()) return List.of();
+
+        lock.readLock().lock();
+        try {
+            Map<String, Integer> scores = null;
+            for (String token : queryTokens) {
+                Map<String, Integer> tokenScores = scoreToken(token, scores == null ? withinIds : scores.keySet());
+                if (scores == null) {
+                    scores = tokenScores;
+                } else {
+                    scores.keySet().retainAll(tokenScores.keySet());
+                    for (Map.Entry<String, Integer> e : scores.entrySet()) {
+                        e.setValue(e.getValue() + tokenScores.get(e.getKey()));
+                    }
+                }
+                if (scores.isEmpty()) return List.of();
+            }
+
+            List<Map.Entry<String, Integer>> ranked = new ArrayList<>(scores.entrySet());
+            ranked.sort((a, b) -> {
+                int byScore = Integer.compare(b.getValue(), a.getValue());
+                if (byScore != 0) return byScore;
+                return programsById.get(a.getKey()).getName()
+                        .compareToIgnoreCase(programsById.get(b.getKey()).getName());
+            });
+
+            List<Program> results = new ArrayList<>(ranked.size());
+            for (Map.Entry<String, Integer> e : ranked) results.add(programsById.get(e.getKey()));
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return programsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Sum of weights for every indexed token starting with the query token
+    private Map<String, Integer> scoreToken(String token, Set<String> withinIds) {
+        Map<String, Integer> scores = new HashMap<>();
+        for (Map.Entry<String, Map<String, Integer>> entry
+                : postings.subMap(token, true, token + Character.MAX_VALUE, false).entrySet()) {
+            boolean exact = entry.getKey().length() == token.length();
+            for (Map.Entry<String, Integer> posting : entry.getValue().entrySet()) {
+                if (withinIds != null && !withinIds.contains(posting.getKey())) continue;
+                int weight = exact ? posting.getValue() * EXACT_BONUS : posting.getValue();
+                scores.merge(posting.getKey(), weight, Math::max);
+            }
+        }
+        return scores;
+    }
+
+    private void addLocked(Program p) {
+        String id = p.getId();
+        if (id == null) return;
+        programsById.put(id, p);
+        Map<String, Integer> weights = new HashMap<>();
+        for (String t : tokenize(p.getName())) weights.merge(t, NAME_WEIGHT, Integer::sum);
+        for (String t : tokenize(p.getTrainer())) weights.merge(t, TRAINER_WEIGHT, Integer::sum);
+        for (String t : tokenize(p.getDescription())) weights.merge(t, DESCRIPTION_WEIGHT, Integer::sum);
+        for (Map.Entry<String, Integer> e : weights.entrySet()) {
+            postings.computeIfAbsent(e.getKey(), k -> new HashMap<>()).put(id, e.getValue());
+        }
+        tokensById.put(id, new HashSet<>(weights.keySet()));
+    }
+
+    private void removeLocked(String id) {
+        if (id == null) return;
+        programsById.remove(id);
+        Set<String> tokens = tokensById.remove(id);
+        if (tokens == null) return;
+        for (String t : tokens) {
+            Map<String, Integer> ids = postings.get(t);
+            if (ids == null) continue;
+            ids.remove(id);
+            if (ids.isEmpty()) postings.remove(t);
+        }
+    }
+
+    // ✅ Lower-case letter/digit runs; everything else separates tokens
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) return tokens;
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean word = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (word && start < 0) {
+                start = i;
+            } else if (!word && start >= 0) {
+                tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+}
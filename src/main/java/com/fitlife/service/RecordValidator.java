@@ -0,0 +1,78 @@
+package com.fitlife.service;
+
+import com.fitlife.model.Booking;
+import com.fitlife.model.Program;
+import com.fitlife.model.Staff;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Field rules shared by the entry forms and the CSV importer.
+ * The record checks return the first problem as a user-facing message, or null when valid.
+ */
+public final class RecordValidator {
+
+    public static final List<String> GENDERS = List.of("Male", "Female");
+    public static final List<String> ROLES = List.of("Trainer", "Reception", "Cleaner", "Nutritionist");
+    public static final List<String> MEMBERSHIP_TYPES = List.of("Monthly", "Quarterly", "Annual");
+
+    private static final Pattern EMAIL = Pattern.compile("^[\\w.-]+@[\\w.-]+\\.\\w+$");
+    private static final Pattern CONTACT = Pattern.compile("\\d{10}");
+    private static final Pattern WHOLE_NUMBER = Pattern.compile("\\d+");
+    private static final Pattern POSITIVE_NUMBER = Pattern.compile("[1-9]\\d*");
+
+    private RecordValidator() {
+    }
+
+    public static boolean isEmail(String s) {
+        return s != null && EMAIL.matcher(s).matches();
+    }
+
+    public static boolean isContact(String s) {
+        return s != null && CONTACT.matcher(s).matches();
+    }
+
+    public static boolean isWholeNumber(String s) {
+        return s != null && WHOLE_NUMBER.matcher(s).matches();
+    }
+
+    public static boolean isPositiveNumber(String s) {
+        return s != null && POSITIVE_NUMBER.matcher(s).matches();
+    }
+
+    private static boolean isBlank(String s) {
+        return s == null || s.isBlank();
+    }
+
+    // 🔹 Same order and wording as ManageStaffController.validateInputs()
+    public static String checkStaff(Staff s) {
+        if (isBlank(s.getName())) return "Name cannot be empty.";
+        if (!GENDERS.contains(s.getGender())) return "Please select a gender.";
+        if (!ROLES.contains(s.getRole())) return "Please select a role.";
+        if (!isContact(s.getContact())) return "Enter a valid 10-digit contact number (e.g., 0771234567).";
+        if (!isEmail(s.getEmail())) return "Enter a valid email address (e.g., user@mail.com).";
+        if (s.getSalary() < 0) return "Salary must be a number.";
+        return null;
+    }
+
+    // 🔹 Same order and wording as ManageProgramsController.validateInputs()
+    public static String checkProgram(Program p) {
+        if (isBlank(p.getName())) return "Program name is required.";
+        if (p.getCostPerSession() < 0) return "Cost must be a valid number.";
+        if (isBlank(p.getDescription())) return "Description cannot be empty.";
+        if (isBlank(p.getTrainer())) return "Please select a trainer.";
+        return null;
+    }
+
+    // 🔹 Same order and wording as ManageBookingController.validateBookingInputs()
+    public static String checkBooking(Booking b) {
+        if (isBlank(b.getFullName())) return "Full name is required.";
+        if (!isContact(b.getContact())) return "Contact must be 10 digits.";
+        if (!MEMBERSHIP_TYPES.contains(b.getMembership())) return "Select membership type.";
+        if (isBlank(b.getProgram())) return "Select program.";
+        if (b.getNumSessions() <= 0) return "Enter a valid number of sessions.";
+        if (b.getTotalCost() < 0) return "Total cost could not be calculated.";
+        return null;
+    }
+}
@@ -0,0 +1,105 @@
+package com.fitlife.service;
+
+import com.fitlife.model.ClassSession;
+import com.fitlife.model.ScheduleSlot;
+import com.fitlife.repository.ScheduleRepository;
+import com.fitlife.repository.WaitlistRepository;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Turns program timetables into dated class sessions and answers availability queries.
+ * Sessions are created on demand, a month at a time, the first time anything asks for that
+ * month (from today on; past classes are never created). Expanded months are remembered per
+ * process, so a month view costs one indexed range read of ClassSession with its precomputed
+ * occupancy. All methods block and belong on the data-access executor.
+ */
+public final class ScheduleService {
+
+    private static final ScheduleService INSTANCE =
+            new ScheduleService(new ScheduleRepository(), new WaitlistRepository());
+
+    private final ScheduleRepository repository;
+    private final WaitlistRepository waitlist;
+    private final Set<YearMonth> expanded = ConcurrentHashMap.newKeySet();
+
+    /**
+     * A month of sessions grouped by day, the ones the member already holds a seat in and
+     * their place in the waitlist of full ones (session id -> position).
+     */
+    public record MonthView(YearMonth month, Map<LocalDate, List<ClassSession>> byDay, Set<Integer> mine,
+                            Map<Integer, Integer> waiting) {
+    }
+
+    ScheduleService(ScheduleRepository repository, WaitlistRepository waitlist) {
+        this.repository = repository;
+        this.waitlist = waitlist;
+    }
+
+    public static ScheduleService getInstance() {
+        return INSTANCE;
+    }
+
+    // ✅ Every session of the month (all programs), grouped by day in start order
+    public MonthView month(YearMonth month, int userId) throws SQLException {
+        ensureExpanded(month);
+        LocalDateTime from = month.atDay(1).atStartOfDay();
+        LocalDateTime to = month.plusMonths(1).atDay(1).atStartOfDay();
+        Map<LocalDate, List<ClassSession>> byDay = new TreeMap<>();
+        for (ClassSession s : repository.findSessions(from, to)) {
+            byDay.computeIfAbsent(s.startsAt().toLocalDate(), d -> new ArrayList<>()).add(s);
+        }
+        Set<Integer> mine = userId > 0 ? repository.findUserSessionIds(userId, from, to) : Set.of();
+        Map<Integer, Integer> waiting = userId > 0 ? waitlist.findUserPositions(userId, from, to) : Map.of();
+        return new MonthView(month, byDay, mine, waiting);
+    }
+
+    // ✅ Upcoming sessions of one program (booking form picker; full ones can be waitlisted)
+    public List<ClassSession> upcoming(int programId, int days) throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plusDays(days);
+        for (YearMonth m = YearMonth.from(now); !m.isAfter(YearMonth.from(until)); m = m.plusMonths(1)) {
+            ensureExpanded(m);
+        }
+        return repository.findSessions(programId, now, until);
+    }
+
+    public ClassSession find(int sessionId) throws SQLException {
+        return repository.findSession(sessionId);
+    }
+
+    // ✅ Publishes LEFT_WAITLIST once the entry is gone, like BookingService does for seats
+    public int leaveWaitlist(int userId, int sessionId) throws SQLException {
+        int rows = waitlist.leave(userId, sessionId);
+        if (rows > 0) SessionEvents.getInstance().publish(SessionEvents.Kind.LEFT_WAITLIST, sessionId, userId, null);
+        return rows;
+    }
+
+    public List<ScheduleSlot> slots(int programId) throws SQLException {
+        return repository.findSlots(programId);
+    }
+
+    // ✅ Saves a program's new timetable; months are expanded again on next use
+    public void saveSlots(int programId, List<ScheduleSlot> removed, List<ScheduleSlot> added) throws SQLException {
+        repository.replaceSlots(programId, removed, added);
+        expanded.clear();
+    }
+
+    private void ensureExpanded(YearMonth month) throws SQLException {
+        if (expanded.contains(month)) return;
+        LocalDate today = LocalDate.now();
+        LocalDate from = month.atDay(1).isBefore(today) ? today : month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+        if (from.isBefore(to)) repository.expand(repository.findAllSlots(), from, to);
+        expanded.add(month);
+    }
+}
@@ -0,0 +1,60 @@
+package com.fitlife.service;
+
+import com.fitlife.model.Booking;
+import javafx.application.Platform;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Process-wide notifications about class-session seats, so every terminal window reacts to a
+ * booking, cancellation or waitlist promotion made at another one without re-querying on a timer.
+ * Publish after the transaction has committed; listeners run on the FX thread.
+ */
+public final class SessionEvents {
+
+    public enum Kind { BOOKED, CANCELLED, PROMOTED, WAITLISTED, LEFT_WAITLIST }
+
+    /** {@code userId} is the member concerned; {@code booking} is set for BOOKED and PROMOTED. */
+    public record Event(Kind kind, int sessionId, int userId, Booking booking) {
+    }
+
+    private static final SessionEvents INSTANCE = new SessionEvents();
+
+    private final List<WeakReference<Consumer<Event>>> listeners = new CopyOnWriteArrayList<>();
+
+    private SessionEvents() {
+    }
+
+    public static SessionEvents getInstance() {
+        return INSTANCE;
+    }
+
+    public void publish(Kind kind, int sessionId, int userId, Booking booking) {
+        if (sessionId == 0) return; // not a class booking; nobody else's view changes
+        Event event = new Event(kind, sessionId, userId, booking);
+        Runnable dispatch = () -> {
+            for (WeakReference<Consumer<Event>> ref : listeners) {
+                Consumer<Event> listener = ref.get();
+                if (listener == null) {
+                    listeners.remove(ref);
+                } else {
+                    listener.accept(event);
+                }
+            }
+        };
+        if (Platform.isFxApplicationThread()) dispatch.run();
+        else Platform.runLater(dispatch);
+    }
+
+    // ✅ Listeners are held weakly: keep a reference in a field of the screen controller
+    public void addListener(Consumer<Event> listener) {
+        listeners.add(new WeakReference<>(listener));
+    }
+
+    public void removeListener(Consumer<Event> listener) {
+        listeners.removeIf(ref -> ref.get() == null || ref.get() == listener);
+    }
+}
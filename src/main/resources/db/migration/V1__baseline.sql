@@ -0,0 +1,39 @@
+-- V1: the GymDB tables as they existed before migrations (no-op on an existing MySQL database).
+-- MySQL syntax; also runs on H2 in MySQL mode for embedded/memory mode.
+
+CREATE TABLE IF NOT EXISTS `Login` (
+    `id`       INT AUTO_INCREMENT PRIMARY KEY,
+    `username` VARCHAR(50)  NOT NULL,
+    `password` VARCHAR(255) NOT NULL,
+    `type`     VARCHAR(10)  NOT NULL DEFAULT 'member'
+);
+
+CREATE TABLE IF NOT EXISTS `Staff` (
+    `id`      INT AUTO_INCREMENT PRIMARY KEY,
+    `name`    VARCHAR(100) NOT NULL,
+    `gender`  VARCHAR(10)  NOT NULL,
+    `role`    VARCHAR(30)  NOT NULL,
+    `contact` VARCHAR(10)  NOT NULL,
+    `email`   VARCHAR(100) NOT NULL,
+    `salary`  INT          NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS `Program` (
+    `id`               INT AUTO_INCREMENT PRIMARY KEY,
+    `name`             VARCHAR(100) NOT NULL,
+    `cost_per_session` INT          NOT NULL,
+    `description`      VARCHAR(255),
+    `trainer`          VARCHAR(100)
+);
+
+CREATE TABLE IF NOT EXISTS `Bookings` (
+    `booking_id`      INT AUTO_INCREMENT PRIMARY KEY,
+    `user_id`         INT          NOT NULL,
+    `full_name`       VARCHAR(100) NOT NULL,
+    `contact`         VARCHAR(10)  NOT NULL,
+    `membership_type` VARCHAR(20)  NOT NULL,
+    `program`         VARCHAR(100) NOT NULL,
+    `start_date`      DATE,
+    `sessions`        INT          NOT NULL,
+    `total_cost`      INT          NOT NULL
+);
@@ -0,0 +1,16 @@
+-- V2: indexes for the hot lookups.
+
+-- Case-insensitive username lookups (login, registration) use a normalized column instead of
+-- LOWER(username), which no index can serve. The application writes it on insert.
+ALTER TABLE `Login` ADD COLUMN `username_lower` VARCHAR(50);
+UPDATE `Login` SET `username_lower` = LOWER(`username`);
+ALTER TABLE `Login` MODIFY `username_lower` VARCHAR(50) NOT NULL;
+CREATE UNIQUE INDEX `ux_login_username_lower` ON `Login` (`username_lower`);
+
+-- A member's bookings, paged by booking_id
+CREATE INDEX `ix_bookings_user_booking` ON `Bookings` (`user_id`, `booking_id`);
+
+-- Trainer list and the staff duplicate check (email = ? OR contact = ?)
+CREATE INDEX `ix_staff_role` ON `Staff` (`role`);
+CREATE INDEX `ix_staff_email` ON `Staff` (`email`);
+CREATE INDEX `ix_staff_contact` ON `Staff` (`contact`);
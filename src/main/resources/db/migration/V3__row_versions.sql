@@ -0,0 +1,7 @@
+-- V3: optimistic concurrency for records edited from several desks.
+
+-- Every update bumps row_version and only applies if it still matches the version the editor
+-- loaded (UPDATE ... WHERE id = ? AND row_version = ?); 0 rows updated means someone else saved first.
+ALTER TABLE `Staff` ADD COLUMN `row_version` INT NOT NULL DEFAULT 0;
+ALTER TABLE `Program` ADD COLUMN `row_version` INT NOT NULL DEFAULT 0;
+ALTER TABLE `Bookings` ADD COLUMN `row_version` INT NOT NULL DEFAULT 0;
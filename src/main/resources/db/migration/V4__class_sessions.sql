@@ -0,0 +1,33 @@
+-- V4: timed class sessions with per-session capacity.
+
+-- Weekly timetable of a program (day_of_week: 1 = Monday .. 7 = Sunday)
+CREATE TABLE IF NOT EXISTS `ProgramSchedule` (
+    `id`               INT AUTO_INCREMENT PRIMARY KEY,
+    `program_id`       INT     NOT NULL,
+    `day_of_week`      TINYINT NOT NULL,
+    `start_time`       TIME    NOT NULL,
+    `duration_minutes` INT     NOT NULL,
+    `capacity`         INT     NOT NULL
+);
+CREATE INDEX `ix_schedule_program` ON `ProgramSchedule` (`program_id`);
+
+-- One dated occurrence of a timetable slot, created on demand from ProgramSchedule.
+-- `booked` is the occupancy, kept in step with Bookings.session_id in the same transaction,
+-- so availability is read directly instead of counting bookings. A seat is taken with
+-- UPDATE ... SET booked = booked + 1 WHERE id = ? AND booked < capacity (the CHECK is a backstop).
+CREATE TABLE IF NOT EXISTS `ClassSession` (
+    `id`          INT AUTO_INCREMENT PRIMARY KEY,
+    `schedule_id` INT      NOT NULL,
+    `program_id`  INT      NOT NULL,
+    `starts_at`   DATETIME NOT NULL,
+    `ends_at`     DATETIME NOT NULL,
+    `capacity`    INT      NOT NULL,
+    `booked`      INT      NOT NULL DEFAULT 0,
+    CONSTRAINT `ck_session_booked` CHECK (`booked` >= 0 AND `booked` <= `capacity`)
+);
+CREATE UNIQUE INDEX `ux_session_schedule_start` ON `ClassSession` (`schedule_id`, `starts_at`);
+CREATE INDEX `ix_session_start` ON `ClassSession` (`starts_at`);
+
+-- The class session a booking holds a seat in (NULL for bookings made without one)
+ALTER TABLE `Bookings` ADD COLUMN `session_id` INT;
+CREATE INDEX `ix_bookings_session` ON `Bookings` (`session_id`);
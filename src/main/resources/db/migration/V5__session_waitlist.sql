@@ -0,0 +1,17 @@
+-- V5: per-session waitlist for full classes.
+
+-- First come, first served: the auto-increment id is the queue order within a session.
+-- The booking details are kept so a promotion can create the booking without the member.
+CREATE TABLE IF NOT EXISTS `Waitlist` (
+    `id`              INT AUTO_INCREMENT PRIMARY KEY,
+    `session_id`      INT          NOT NULL,
+    `user_id`         INT          NOT NULL,
+    `full_name`       VARCHAR(100) NOT NULL,
+    `contact`         VARCHAR(10)  NOT NULL,
+    `membership_type` VARCHAR(20)  NOT NULL,
+    `sessions`        INT          NOT NULL,
+    `total_cost`      INT          NOT NULL,
+    `joined_at`       TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX `ix_waitlist_session` ON `Waitlist` (`session_id`, `id`);
+CREATE INDEX `ix_waitlist_user` ON `Waitlist` (`user_id`);
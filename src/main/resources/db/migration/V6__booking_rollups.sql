@@ -0,0 +1,21 @@
+-- V6: booking totals for the admin analytics screen, kept in step with Bookings.
+-- One row per program, month of start_date (yyyymm; 0 = no start date) and membership type.
+-- BookingRepository applies +/- deltas in the same transaction as every booking insert, edit
+-- and delete, so reports read this small table instead of aggregating Bookings.
+CREATE TABLE IF NOT EXISTS `BookingRollup` (
+    `program`         VARCHAR(100) NOT NULL,
+    `period`          INT          NOT NULL,
+    `membership_type` VARCHAR(20)  NOT NULL,
+    `bookings`        INT          NOT NULL DEFAULT 0,
+    `sessions`        BIGINT       NOT NULL DEFAULT 0,
+    `revenue`         BIGINT       NOT NULL DEFAULT 0,
+    PRIMARY KEY (`program`, `period`, `membership_type`)
+);
+
+-- Existing bookings are counted once, here
+INSERT INTO `BookingRollup` (`program`, `period`, `membership_type`, `bookings`, `sessions`, `revenue`)
+SELECT `program`,
+       COALESCE(EXTRACT(YEAR FROM `start_date`) * 100 + EXTRACT(MONTH FROM `start_date`), 0),
+       `membership_type`, COUNT(*), SUM(`sessions`), SUM(`total_cost`)
+FROM `Bookings`
+GROUP BY `program`, COALESCE(EXTRACT(YEAR FROM `start_date`) * 100 + EXTRACT(MONTH FROM `start_date`), 0), `membership_type`;
@@ -0,0 +1,16 @@
+-- V7: indexes for the admin booking console (all members, filtered, sorted and paged).
+-- Each sortable column is indexed together with booking_id, the keyset tie-breaker, so a page
+-- is an index range scan of page-size rows however deep it is and however large Bookings gets.
+
+-- Date range filter and "sort by start date"
+CREATE INDEX `ix_bookings_start` ON `Bookings` (`start_date`, `booking_id`);
+
+-- Program / membership filter, optionally with a date range
+CREATE INDEX `ix_bookings_program_start` ON `Bookings` (`program`, `start_date`, `booking_id`);
+CREATE INDEX `ix_bookings_membership_start` ON `Bookings` (`membership_type`, `start_date`, `booking_id`);
+
+-- Name prefix search and "sort by name"
+CREATE INDEX `ix_bookings_name` ON `Bookings` (`full_name`, `booking_id`);
+
+-- "Sort by total"
+CREATE INDEX `ix_bookings_cost` ON `Bookings` (`total_cost`, `booking_id`);
@@ -0,0 +1,12 @@
+-- V8: a member waits at most once per class session, and not at all for one they hold a seat in.
+-- BookingRepository checks both under the session lock; the unique index backs up the first rule.
+
+-- Existing extra entries go (the earliest one keeps its place in the queue)
+DELETE FROM `Waitlist` WHERE `id` NOT IN (
+    SELECT `id` FROM (SELECT MIN(`id`) AS `id` FROM `Waitlist` GROUP BY `session_id`, `user_id`) `keep`
+);
+DELETE FROM `Waitlist` WHERE EXISTS (
+    SELECT 1 FROM `Bookings` b WHERE b.`session_id` = `Waitlist`.`session_id` AND b.`user_id` = `Waitlist`.`user_id`
+);
+
+CREATE UNIQUE INDEX `ux_waitlist_session_user` ON `Waitlist` (`session_id`, `user_id`);
@@ -0,0 +1,10 @@
+-- V9: optional volume/membership discounts read by PricingEngine (empty = built-in ladders).
+-- IF NOT EXISTS: databases created before this script shipped may already have the table.
+
+CREATE TABLE IF NOT EXISTS `PricingTier` (
+    `id`              INT AUTO_INCREMENT PRIMARY KEY,
+    `program`         VARCHAR(100),
+    `membership_type` VARCHAR(20),
+    `min_sessions`    INT NOT NULL,
+    `rate_percent`    INT NOT NULL
+);
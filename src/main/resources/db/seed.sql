@@ -0,0 +1,20 @@
+-- Starter data for a fresh embedded database (only applied when Login is empty).
+-- Change the admin password after the first login on a real kiosk.
+-- The plaintext password below is replaced with a salted hash on the first successful login.
+
+INSERT INTO `Login` (`username`, `username_lower`, `password`, `type`) VALUES ('admin', 'admin', 'admin123', 'admin');
+
+INSERT INTO `Staff` (`name`, `gender`, `role`, `contact`, `email`, `salary`) VALUES
+    ('Nimal Perera', 'Male', 'Trainer', '0771234567', 'nimal@fitlife.lk', 85000),
+    ('Dilani Fernando', 'Female', 'Trainer', '0712345678', 'dilani@fitlife.lk', 82000),
+    ('Kasun Silva', 'Male', 'Reception', '0763456789', 'kasun@fitlife.lk', 55000);
+
+INSERT INTO `Program` (`name`, `cost_per_session`, `description`, `trainer`) VALUES
+    ('Morning Yoga', 1000, 'Flexibility, balance and breathing', 'Dilani Fernando'),
+    ('Strength Training', 1200, 'Strength and endurance training with weights', 'Nimal Perera'),
+    ('HIIT Circuit', 1500, 'High intensity interval training', 'Nimal Perera');
+
+INSERT INTO `ProgramSchedule` (`program_id`, `day_of_week`, `start_time`, `duration_minutes`, `capacity`) VALUES
+    (1, 1, '07:00:00', 60, 12), (1, 3, '07:00:00', 60, 12), (1, 5, '07:00:00', 60, 12), (1, 6, '09:00:00', 75, 15),
+    (2, 2, '18:00:00', 60, 10), (2, 4, '18:00:00', 60, 10), (2, 6, '11:00:00', 60, 10),
+    (3, 1, '18:30:00', 45, 8), (3, 3, '18:30:00', 45, 8), (3, 5, '18:30:00', 45, 8);